@@ -0,0 +1,127 @@
+package com.easyconfig.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.easyconfig.server.ServerApplication;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.service.ConfigService;
+import com.easyconfig.server.service.EnvironmentService;
+
+/**
+ * 基准测试数据集
+ * <p>
+ * 每轮 Trial 在临时目录中新建文件型 H2 数据库，启动完整的服务端上下文，
+ * 并向一个环境批量写入 configCount 条配置：
+ * <pre>
+ * config_key   = bench.group-{i % 100}.key-{i}
+ * description  = benchmark config {i} for group-{i % 100}
+ * enabled      = i % 10 != 0（10% 禁用）
+ * </pre>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDataSet {
+
+    private static final int GROUP_COUNT = 100;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int configCount;
+
+    public ConfigurableApplicationContext context;
+
+    public ConfigService configService;
+
+    public EnvironmentService environmentService;
+
+    public JdbcTemplate jdbcTemplate;
+
+    public Long environmentId;
+
+    public long[] configIds;
+
+    private Path dataDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("easy-config-bench");
+        // 以命令行参数传入，优先级高于服务端的 application.yml
+        context = new SpringApplicationBuilder(ServerApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("easy-config").toAbsolutePath(),
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN");
+        configService = context.getBean(ConfigService.class);
+        environmentService = context.getBean(EnvironmentService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Environment environment = environmentService.createEnvironment(
+                Environment.builder().name("bench").description("benchmark environment").build());
+        environmentId = environment.getId();
+        insertConfigs();
+        configIds = jdbcTemplate.queryForList("SELECT id FROM config WHERE environment_id = ? ORDER BY id",
+                Long.class, environmentId).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    public static String configKey(int index) {
+        return "bench.group-" + (index % GROUP_COUNT) + ".key-" + index;
+    }
+
+    public String randomKey() {
+        return configKey(ThreadLocalRandom.current().nextInt(configCount));
+    }
+
+    public long randomConfigId() {
+        return configIds[ThreadLocalRandom.current().nextInt(configIds.length)];
+    }
+
+    private void insertConfigs() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO config (environment_id, config_key, config_value, value_type, description, "
+                + "group_name, encrypted, enabled, version, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'STRING', ?, ?, FALSE, ?, 1, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < configCount; i++) {
+            String group = "group-" + (i % GROUP_COUNT);
+            batch.add(new Object[] {environmentId, configKey(i), "value-" + i,
+                    "benchmark config " + i + " for " + group, group, i % 10 != 0, now, now});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
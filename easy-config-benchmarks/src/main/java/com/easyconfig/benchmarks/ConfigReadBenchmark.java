@@ -0,0 +1,36 @@
+package com.easyconfig.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.easyconfig.server.entity.Config;
+
+/**
+ * 配置读取基准测试
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigReadBenchmark {
+
+    @Benchmark
+    public Config getConfigByKey(BenchmarkDataSet dataSet) {
+        return dataSet.configService.getConfigByKey(dataSet.environmentId, dataSet.randomKey());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Config> getEnabledConfigsByEnvironment(BenchmarkDataSet dataSet) {
+        return dataSet.configService.getEnabledConfigsByEnvironment(dataSet.environmentId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.easyconfig.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.entity.Config;
+
+/**
+ * 配置搜索基准测试
+ * <p>
+ * 关键字选取为能命中约 1% 配置的分组片段，模拟管理界面的模糊搜索；
+ * searchConfigsByIndex 走内存 trigram 索引（第一次调用在预热阶段加载），其余走数据库 LIKE 查询
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigSearchBenchmark {
+
+    @Benchmark
+    public List<Config> searchConfigsByKey(BenchmarkDataSet dataSet) {
+        return dataSet.configService.searchConfigsByKey("group-" + randomGroup() + ".");
+    }
+
+    @Benchmark
+    public List<Config> searchConfigsByDescription(BenchmarkDataSet dataSet) {
+        return dataSet.configService.searchConfigsByEnvironmentAndDescription(dataSet.environmentId,
+                "for group-" + randomGroup());
+    }
+
+    @Benchmark
+    public List<ConfigSearchHit> searchConfigsByIndex(BenchmarkDataSet dataSet) {
+        return dataSet.configService.searchConfigs("group-" + randomGroup() + ".", dataSet.environmentId, 100);
+    }
+
+    private static int randomGroup() {
+        return ThreadLocalRandom.current().nextInt(100);
+    }
+}
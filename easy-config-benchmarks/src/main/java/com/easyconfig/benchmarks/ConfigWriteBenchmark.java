@@ -0,0 +1,107 @@
+package com.easyconfig.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+
+/**
+ * 配置写入基准测试
+ * <p>
+ * 每次写入都会提交事务、递增环境修订号并使环境快照缓存失效；
+ * 新建的配置在每轮迭代结束后通过 ConfigService 删除（同时更新快照缓存、搜索索引、修订号和版本历史），保持数据集规模不变
+ * <p>
+ * 写入的配置显式清空 enabled、encrypted、valueType：Builder 的默认值非空，会被当作要写入的字段，
+ * 把数据集中禁用的配置重新启用
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigWriteBenchmark {
+
+    private static final String CREATED_KEY_PREFIX = "bench.created.key-";
+
+    private static final int BATCH_UPSERT_SIZE = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Sequence {
+
+        private final AtomicLong next = new AtomicLong();
+
+        private final Queue<String> createdKeys = new ConcurrentLinkedQueue<>();
+
+        @TearDown(Level.Iteration)
+        public void removeCreatedConfigs(BenchmarkDataSet dataSet) {
+            if (!createdKeys.isEmpty()) {
+                dataSet.configService.applyChangeset(dataSet.environmentId, List.of(), List.copyOf(createdKeys));
+                createdKeys.clear();
+            }
+        }
+    }
+
+    @Benchmark
+    public Config createConfig(BenchmarkDataSet dataSet, Sequence sequence) {
+        String configKey = CREATED_KEY_PREFIX + sequence.next.incrementAndGet();
+        Config created = dataSet.configService.createConfig(Config.builder()
+                .environment(Environment.builder().id(dataSet.environmentId).name("bench").build())
+                .configKey(configKey)
+                .configValue("created")
+                .groupName("created")
+                .build());
+        sequence.createdKeys.add(configKey);
+        return created;
+    }
+
+    /**
+     * 批量写入 1000 个已存在的配置键
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BatchUpsertResult batchUpsertConfigs(BenchmarkDataSet dataSet, Sequence sequence) {
+        String value = "batch-" + sequence.next.incrementAndGet();
+        int size = Math.min(BATCH_UPSERT_SIZE, dataSet.configCount);
+        int start = ThreadLocalRandom.current().nextInt(dataSet.configCount - size + 1);
+        List<Config> configs = new ArrayList<>(size);
+        for (int i = start; i < start + size; i++) {
+            configs.add(Config.builder()
+                    .configKey(BenchmarkDataSet.configKey(i))
+                    .configValue(value)
+                    .valueType(null)
+                    .encrypted(null)
+                    .enabled(null)
+                    .build());
+        }
+        return dataSet.configService.batchUpsertConfigs(dataSet.environmentId, configs);
+    }
+
+    @Benchmark
+    public Config updateConfig(BenchmarkDataSet dataSet, Sequence sequence) {
+        return dataSet.configService.updateConfig(dataSet.randomConfigId(), Config.builder()
+                .configValue("updated-" + sequence.next.incrementAndGet())
+                .valueType(null)
+                .encrypted(null)
+                .enabled(null)
+                .build());
+    }
+}
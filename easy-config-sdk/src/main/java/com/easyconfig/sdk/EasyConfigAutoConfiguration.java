@@ -0,0 +1,58 @@
+package com.easyconfig.sdk;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+import com.easyconfig.sdk.client.ConfigClient;
+import com.easyconfig.sdk.listener.ConfigChangeListener;
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.easyconfig.sdk.refresh.ConfigRefresher;
+import com.easyconfig.sdk.refresh.LocalConfigCache;
+import com.easyconfig.sdk.snapshot.SnapshotFileStore;
+
+/**
+ * easy-config 自动配置
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = EasyConfigProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(EasyConfigProperties.class)
+public class EasyConfigAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConfigClient configClient(EasyConfigProperties properties) {
+        return new ConfigClient(properties);
+    }
+
+    /**
+     * 复用启动阶段加载到 Environment 中的本地缓存
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LocalConfigCache localConfigCache(ConfigurableEnvironment environment) {
+        PropertySource<?> propertySource = environment.getPropertySources().get(EasyConfigPropertySource.NAME);
+        if (propertySource instanceof EasyConfigPropertySource easyConfigPropertySource) {
+            return easyConfigPropertySource.getSource();
+        }
+        LocalConfigCache localConfigCache = new LocalConfigCache();
+        environment.getPropertySources().addFirst(new EasyConfigPropertySource(localConfigCache));
+        return localConfigCache;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = EasyConfigProperties.PREFIX, name = "environment")
+    public ConfigRefresher configRefresher(ConfigClient configClient, LocalConfigCache localConfigCache,
+            EasyConfigProperties properties, ObjectProvider<ConfigChangeListener> listeners) {
+        SnapshotFileStore snapshotFileStore = properties.isSnapshotEnabled() ? new SnapshotFileStore(properties) : null;
+        ConfigRefresher refresher = new ConfigRefresher(configClient, localConfigCache, properties, snapshotFileStore);
+        listeners.orderedStream().forEach(refresher::addListener);
+        return refresher;
+    }
+}
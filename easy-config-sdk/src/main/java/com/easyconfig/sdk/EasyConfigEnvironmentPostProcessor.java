@@ -0,0 +1,80 @@
+package com.easyconfig.sdk;
+
+import java.io.IOException;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import com.easyconfig.sdk.client.ConfigClient;
+import com.easyconfig.sdk.client.ConfigSnapshot;
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.easyconfig.sdk.refresh.LocalConfigCache;
+import com.easyconfig.sdk.snapshot.SnapshotFileStore;
+
+/**
+ * 启动时加载远程配置
+ * <p>
+ * 在应用上下文创建之前加载配置并加入 Environment（最高优先级），保证 {@code @Value} 注入时即可读取到远程配置。
+ * 存在本地快照时直接使用快照启动，不等待服务端，由后台刷新线程异步与服务端核对；
+ * 没有可用快照时才同步拉取一次全量配置
+ */
+public class EasyConfigEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private final Log log;
+
+    public EasyConfigEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(EasyConfigEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        EasyConfigProperties properties = Binder.get(environment)
+                .bind(EasyConfigProperties.PREFIX, EasyConfigProperties.class)
+                .orElseGet(EasyConfigProperties::new);
+        if (!properties.isEnabled() || properties.getEnvironment() == null
+                || environment.getPropertySources().contains(EasyConfigPropertySource.NAME)) {
+            return;
+        }
+
+        LocalConfigCache localConfigCache = new LocalConfigCache();
+        SnapshotFileStore snapshotFileStore = properties.isSnapshotEnabled() ? new SnapshotFileStore(properties) : null;
+        ConfigSnapshot localSnapshot = snapshotFileStore == null ? null : snapshotFileStore.load();
+        if (localSnapshot != null) {
+            localConfigCache.restore(localSnapshot);
+            log.info("Loaded easy-config environment '" + properties.getEnvironment() + "' from local snapshot "
+                    + snapshotFileStore.getFile() + ", revision " + localSnapshot.getRevision());
+        } else {
+            loadFromServer(properties, localConfigCache, snapshotFileStore);
+        }
+        environment.getPropertySources().addFirst(new EasyConfigPropertySource(localConfigCache));
+    }
+
+    private void loadFromServer(EasyConfigProperties properties, LocalConfigCache localConfigCache,
+            SnapshotFileStore snapshotFileStore) {
+        try {
+            ConfigSnapshot snapshot = new ConfigClient(properties).fetchSnapshot();
+            localConfigCache.replace(snapshot);
+            if (snapshotFileStore != null) {
+                snapshotFileStore.save(snapshot);
+            }
+        } catch (IOException e) {
+            if (properties.isFailFast()) {
+                throw new IllegalStateException("Failed to load easy-config environment '"
+                        + properties.getEnvironment() + "'", e);
+            }
+            log.warn("Failed to load easy-config environment '" + properties.getEnvironment()
+                    + "', starting without remote config: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // 在 application.yml 等本地配置加载之后执行，才能读取到 easy-config.* 配置
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,35 @@
+package com.easyconfig.sdk;
+
+import org.springframework.core.env.EnumerablePropertySource;
+
+import com.easyconfig.sdk.refresh.LocalConfigCache;
+
+/**
+ * 基于本地配置缓存的属性源
+ * <p>
+ * 加入 Spring Environment 后，{@code @Value} 和 {@code Environment#getProperty} 均从本地缓存读取，
+ * 后台刷新后通过 Environment 读取到的即为最新值
+ */
+public class EasyConfigPropertySource extends EnumerablePropertySource<LocalConfigCache> {
+
+    public static final String NAME = "easyConfig";
+
+    public EasyConfigPropertySource(LocalConfigCache localConfigCache) {
+        super(NAME, localConfigCache);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return getSource().get(name);
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return getSource().get(name) != null;
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return getSource().keys().toArray(new String[0]);
+    }
+}
@@ -0,0 +1,64 @@
+package com.easyconfig.sdk.client;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 增量同步结果
+ * <p>
+ * reset 为 true 时 changes 为环境下全部配置，需要整体替换本地配置
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConfigChanges {
+
+    private Long environmentId;
+
+    private long revision;
+
+    private boolean reset;
+
+    private List<ConfigDelta> changes;
+
+    public ConfigChanges() {
+    }
+
+    public ConfigChanges(Long environmentId, long revision, boolean reset, List<ConfigDelta> changes) {
+        this.environmentId = environmentId;
+        this.revision = revision;
+        this.reset = reset;
+        this.changes = changes;
+    }
+
+    public Long getEnvironmentId() {
+        return environmentId;
+    }
+
+    public void setEnvironmentId(Long environmentId) {
+        this.environmentId = environmentId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+
+    public List<ConfigDelta> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ConfigDelta> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,132 @@
+package com.easyconfig.sdk.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 配置中心 HTTP 客户端
+ * <p>
+ * 基于 JDK HttpClient，不引入额外的 HTTP 依赖
+ */
+public class ConfigClient {
+
+    private static final int NOT_MODIFIED = 304;
+
+    /**
+     * 长轮询请求在服务端挂起时间之外额外等待的时间
+     */
+    private static final Duration LONG_POLL_GRACE = Duration.ofSeconds(5);
+
+    private final EasyConfigProperties properties;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    public ConfigClient(EasyConfigProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 拉取当前环境（或命名空间）的全量配置快照
+     *
+     * @return 配置快照
+     * @throws IOException 请求失败或服务端返回错误
+     */
+    public ConfigSnapshot fetchSnapshot() throws IOException {
+        URI uri = uri("/config/snapshot?environment=" + encode(properties.getEnvironment()) + namespaceParam());
+        HttpResponse<String> response = send(uri, properties.getRequestTimeout());
+        if (response.statusCode() != 200) {
+            throw new IOException("Failed to fetch config snapshot from " + uri + ", status " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), ConfigSnapshot.class);
+    }
+
+    /**
+     * 拉取指定修订号之后的增量变更
+     *
+     * @param environmentId 环境ID
+     * @param since         客户端已同步到的修订号
+     * @return 增量同步结果
+     * @throws IOException 请求失败或服务端返回错误
+     */
+    public ConfigChanges fetchChanges(Long environmentId, long since) throws IOException {
+        URI uri = uri("/config/changes?environmentId=" + environmentId + "&since=" + since + namespaceParam());
+        HttpResponse<String> response = send(uri, properties.getRequestTimeout());
+        if (response.statusCode() != 200) {
+            throw new IOException("Failed to fetch config changes from " + uri + ", status " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), ConfigChanges.class);
+    }
+
+    /**
+     * 按环境修订号发起长轮询
+     *
+     * @param environmentId 环境ID
+     * @param revision      客户端已知的修订号
+     * @return 变更通知，挂起超时无变化时返回 null
+     * @throws IOException 请求失败或服务端返回错误
+     */
+    public WatchResult watch(Long environmentId, long revision) throws IOException {
+        Duration timeout = properties.getLongPollTimeout();
+        URI uri = uri("/config/watch?environmentId=" + environmentId + "&revision=" + revision
+                + namespaceParam() + "&timeout=" + timeout.toMillis());
+        HttpResponse<String> response = send(uri, timeout.plus(LONG_POLL_GRACE));
+        if (response.statusCode() == NOT_MODIFIED) {
+            return null;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Failed to watch config changes from " + uri + ", status " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), WatchResult.class);
+    }
+
+    private HttpResponse<String> send(URI uri, Duration timeout) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while requesting " + uri);
+        }
+    }
+
+    private URI uri(String pathAndQuery) {
+        String serverAddr = properties.getServerAddr();
+        if (serverAddr.endsWith("/")) {
+            serverAddr = serverAddr.substring(0, serverAddr.length() - 1);
+        }
+        return URI.create(serverAddr + pathAndQuery);
+    }
+
+    /**
+     * 配置了命名空间时附加的查询参数，快照、增量同步和长轮询都只针对该命名空间
+     */
+    private String namespaceParam() {
+        String namespace = properties.getNamespace();
+        return namespace == null || namespace.isBlank() ? "" : "&namespace=" + encode(namespace.trim());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.easyconfig.sdk.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 单个配置键的增量变更
+ * <p>
+ * deleted 为 true 时表示该键已被删除或禁用
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConfigDelta {
+
+    private String key;
+
+    private String value;
+
+    private Long version;
+
+    private boolean deleted;
+
+    public ConfigDelta() {
+    }
+
+    public ConfigDelta(String key, String value, boolean deleted) {
+        this.key = key;
+        this.value = value;
+        this.deleted = deleted;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
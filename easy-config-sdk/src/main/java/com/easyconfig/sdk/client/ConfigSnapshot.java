@@ -0,0 +1,62 @@
+package com.easyconfig.sdk.client;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 服务端返回的环境全量配置快照
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConfigSnapshot {
+
+    private Long environmentId;
+
+    private String environmentName;
+
+    private long revision;
+
+    private Map<String, String> configs;
+
+    public ConfigSnapshot() {
+    }
+
+    public ConfigSnapshot(Long environmentId, String environmentName, long revision, Map<String, String> configs) {
+        this.environmentId = environmentId;
+        this.environmentName = environmentName;
+        this.revision = revision;
+        this.configs = configs;
+    }
+
+    public Long getEnvironmentId() {
+        return environmentId;
+    }
+
+    public void setEnvironmentId(Long environmentId) {
+        this.environmentId = environmentId;
+    }
+
+    public String getEnvironmentName() {
+        return environmentName;
+    }
+
+    public void setEnvironmentName(String environmentName) {
+        this.environmentName = environmentName;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public Map<String, String> getConfigs() {
+        return configs;
+    }
+
+    public void setConfigs(Map<String, String> configs) {
+        this.configs = configs;
+    }
+}
@@ -0,0 +1,42 @@
+package com.easyconfig.sdk.client;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 长轮询返回的变更通知
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WatchResult {
+
+    private Long environmentId;
+
+    private long revision;
+
+    private List<String> changedKeys;
+
+    public Long getEnvironmentId() {
+        return environmentId;
+    }
+
+    public void setEnvironmentId(Long environmentId) {
+        this.environmentId = environmentId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public List<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    public void setChangedKeys(List<String> changedKeys) {
+        this.changedKeys = changedKeys;
+    }
+}
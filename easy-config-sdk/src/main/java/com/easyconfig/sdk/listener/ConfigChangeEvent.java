@@ -0,0 +1,36 @@
+package com.easyconfig.sdk.listener;
+
+import java.util.Set;
+
+/**
+ * 本地配置变更事件
+ */
+public class ConfigChangeEvent {
+
+    private final long revision;
+
+    private final Set<String> changedKeys;
+
+    public ConfigChangeEvent(long revision, Set<String> changedKeys) {
+        this.revision = revision;
+        this.changedKeys = changedKeys;
+    }
+
+    /**
+     * 变更后的环境修订号
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * 发生变化（新增、修改或删除）的配置键
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    public boolean isChanged(String key) {
+        return changedKeys.contains(key);
+    }
+}
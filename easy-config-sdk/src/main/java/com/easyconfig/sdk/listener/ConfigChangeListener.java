@@ -0,0 +1,12 @@
+package com.easyconfig.sdk.listener;
+
+/**
+ * 配置变更监听器
+ * <p>
+ * 注册为 Spring Bean 即可在本地配置刷新后收到通知，回调在后台刷新线程中执行
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onChange(ConfigChangeEvent event);
+}
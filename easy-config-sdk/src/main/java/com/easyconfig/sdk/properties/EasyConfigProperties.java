@@ -0,0 +1,164 @@
+package com.easyconfig.sdk.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * easy-config 客户端配置
+ * <p>
+ * 示例：
+ * <pre>
+ * easy-config:
+ *   server-addr: http://localhost:8080
+ *   environment: dev
+ * </pre>
+ */
+@ConfigurationProperties(prefix = EasyConfigProperties.PREFIX)
+public class EasyConfigProperties {
+
+    public static final String PREFIX = "easy-config";
+
+    /**
+     * 是否启用 easy-config
+     */
+    private boolean enabled = true;
+
+    /**
+     * 配置中心服务端地址
+     */
+    private String serverAddr = "http://localhost:8080";
+
+    /**
+     * 环境名称（dev/test/prod 等），未配置时不加载远程配置
+     */
+    private String environment;
+
+    /**
+     * 只加载该命名空间（配置键前缀，按 "." 分段匹配，例如 payment.gateway）下的配置，未配置时加载整个环境
+     */
+    private String namespace;
+
+    /**
+     * 建立连接超时时间
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 普通请求超时时间
+     */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 长轮询挂起时间
+     */
+    private Duration longPollTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 请求失败后的重试间隔
+     */
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    /**
+     * 启动时无法加载配置是否直接失败
+     */
+    private boolean failFast = false;
+
+    /**
+     * 是否将最近一次拉取的配置保存为本地快照，启动时优先从快照加载
+     */
+    private boolean snapshotEnabled = true;
+
+    /**
+     * 本地快照目录
+     */
+    private String snapshotDir = System.getProperty("user.home") + "/.easy-config/snapshot";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getServerAddr() {
+        return serverAddr;
+    }
+
+    public void setServerAddr(String serverAddr) {
+        this.serverAddr = serverAddr;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public void setEnvironment(String environment) {
+        this.environment = environment;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Duration getLongPollTimeout() {
+        return longPollTimeout;
+    }
+
+    public void setLongPollTimeout(Duration longPollTimeout) {
+        this.longPollTimeout = longPollTimeout;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    public void setSnapshotEnabled(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    public String getSnapshotDir() {
+        return snapshotDir;
+    }
+
+    public void setSnapshotDir(String snapshotDir) {
+        this.snapshotDir = snapshotDir;
+    }
+}
@@ -0,0 +1,152 @@
+package com.easyconfig.sdk.refresh;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.easyconfig.sdk.client.ConfigClient;
+import com.easyconfig.sdk.client.WatchResult;
+import com.easyconfig.sdk.listener.ConfigChangeEvent;
+import com.easyconfig.sdk.listener.ConfigChangeListener;
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.easyconfig.sdk.snapshot.SnapshotFileStore;
+
+/**
+ * 后台配置刷新器
+ * <p>
+ * 在单个守护线程中循环发起长轮询，服务端通知变更后拉取增量变更更新本地缓存，并回调监听器。
+ * 每次拉取到新的修订号后同时更新本地快照文件
+ */
+public class ConfigRefresher implements SmartLifecycle, Runnable {
+
+    private static final Log log = LogFactory.getLog(ConfigRefresher.class);
+
+    private final ConfigClient configClient;
+
+    private final LocalConfigCache localConfigCache;
+
+    private final EasyConfigProperties properties;
+
+    private final SnapshotFileStore snapshotFileStore;
+
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public ConfigRefresher(ConfigClient configClient, LocalConfigCache localConfigCache,
+            EasyConfigProperties properties) {
+        this(configClient, localConfigCache, properties, null);
+    }
+
+    public ConfigRefresher(ConfigClient configClient, LocalConfigCache localConfigCache,
+            EasyConfigProperties properties, SnapshotFileStore snapshotFileStore) {
+        this.configClient = configClient;
+        this.localConfigCache = localConfigCache;
+        this.properties = properties;
+        this.snapshotFileStore = snapshotFileStore;
+    }
+
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "easy-config-refresher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                if (localConfigCache.getEnvironmentId() == null || localConfigCache.isStale()) {
+                    // 启动时未能加载配置或使用的是本地快照，先补一次全量拉取
+                    refresh();
+                    continue;
+                }
+                WatchResult result = configClient.watch(localConfigCache.getEnvironmentId(),
+                        localConfigCache.getRevision());
+                if (result != null) {
+                    refresh();
+                }
+            } catch (InterruptedIOException e) {
+                // stop() 会中断线程；仍在运行时清除中断标记后继续
+                Thread.interrupted();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to refresh easy-config, retrying in " + properties.getRetryInterval(), e);
+                pause();
+            }
+        }
+    }
+
+    /**
+     * 与服务端同步本地缓存
+     * <p>
+     * 已与服务端核对过的缓存只拉取当前修订号之后的增量变更；
+     * 尚未加载或来自本地快照文件的缓存拉取全量快照
+     *
+     * @throws IOException 请求失败
+     */
+    public void refresh() throws IOException {
+        long previousRevision = localConfigCache.getRevision();
+        Set<String> changedKeys;
+        if (localConfigCache.getEnvironmentId() == null || localConfigCache.isStale()) {
+            changedKeys = localConfigCache.replace(configClient.fetchSnapshot());
+        } else {
+            changedKeys = localConfigCache.apply(
+                    configClient.fetchChanges(localConfigCache.getEnvironmentId(), previousRevision));
+        }
+        if (snapshotFileStore != null
+                && (localConfigCache.getRevision() != previousRevision || !changedKeys.isEmpty())) {
+            snapshotFileStore.save(localConfigCache.toSnapshot(properties.getEnvironment()));
+        }
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        ConfigChangeEvent event = new ConfigChangeEvent(localConfigCache.getRevision(), changedKeys);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onChange(event);
+            } catch (RuntimeException e) {
+                log.warn("easy-config change listener failed", e);
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getRetryInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
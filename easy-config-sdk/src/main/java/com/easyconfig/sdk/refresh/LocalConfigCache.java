@@ -0,0 +1,154 @@
+package com.easyconfig.sdk.refresh;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.easyconfig.sdk.client.ConfigChanges;
+import com.easyconfig.sdk.client.ConfigDelta;
+import com.easyconfig.sdk.client.ConfigSnapshot;
+
+/**
+ * 本地配置缓存
+ * <p>
+ * 应用读取配置只访问本地内存，由后台刷新线程负责与服务端保持同步
+ */
+public class LocalConfigCache {
+
+    private final ConcurrentHashMap<String, String> configs = new ConcurrentHashMap<>();
+
+    private volatile Long environmentId;
+
+    private volatile long revision = -1;
+
+    private volatile boolean stale;
+
+    /**
+     * 获取配置值
+     *
+     * @param key 配置键
+     * @return 配置值，不存在时返回 null
+     */
+    public String get(String key) {
+        return configs.get(key);
+    }
+
+    /**
+     * 获取全部配置键
+     *
+     * @return 配置键集合
+     */
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(configs.keySet());
+    }
+
+    /**
+     * 获取全部配置的只读视图
+     *
+     * @return 配置键值视图
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(configs);
+    }
+
+    public Long getEnvironmentId() {
+        return environmentId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * 当前内容是否来自本地快照、尚未与服务端核对
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * 使用本地快照恢复配置，恢复后的内容需要由刷新线程与服务端核对
+     *
+     * @param snapshot 本地快照
+     */
+    public synchronized void restore(ConfigSnapshot snapshot) {
+        replace(snapshot);
+        stale = true;
+    }
+
+    /**
+     * 应用增量变更
+     *
+     * @param changes 增量同步结果
+     * @return 发生变化（新增、修改或删除）的配置键
+     */
+    public synchronized Set<String> apply(ConfigChanges changes) {
+        if (changes.isReset()) {
+            Map<String, String> latest = new HashMap<>();
+            for (ConfigDelta delta : changes.getChanges()) {
+                if (!delta.isDeleted()) {
+                    latest.put(delta.getKey(), delta.getValue());
+                }
+            }
+            return replace(new ConfigSnapshot(changes.getEnvironmentId(), null, changes.getRevision(), latest));
+        }
+        Set<String> changedKeys = new HashSet<>();
+        for (ConfigDelta delta : changes.getChanges()) {
+            String previous = delta.isDeleted() || delta.getValue() == null
+                    ? configs.remove(delta.getKey())
+                    : configs.put(delta.getKey(), delta.getValue());
+            String current = configs.get(delta.getKey());
+            if (!Objects.equals(previous, current)) {
+                changedKeys.add(delta.getKey());
+            }
+        }
+        environmentId = changes.getEnvironmentId();
+        revision = changes.getRevision();
+        stale = false;
+        return changedKeys;
+    }
+
+    /**
+     * 将当前本地配置导出为快照（用于写入本地快照文件）
+     *
+     * @param environmentName 环境名称
+     * @return 配置快照
+     */
+    public synchronized ConfigSnapshot toSnapshot(String environmentName) {
+        return new ConfigSnapshot(environmentId, environmentName, revision, new HashMap<>(configs));
+    }
+
+    /**
+     * 使用全量快照替换本地配置
+     *
+     * @param snapshot 配置快照
+     * @return 发生变化（新增、修改或删除）的配置键
+     */
+    public synchronized Set<String> replace(ConfigSnapshot snapshot) {
+        Map<String, String> latest = snapshot.getConfigs() == null ? Map.of() : snapshot.getConfigs();
+        Set<String> changedKeys = new HashSet<>();
+        for (Map.Entry<String, String> entry : latest.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            String previous = configs.put(entry.getKey(), entry.getValue());
+            if (!Objects.equals(previous, entry.getValue())) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        for (String key : configs.keySet()) {
+            if (latest.get(key) == null) {
+                configs.remove(key);
+                changedKeys.add(key);
+            }
+        }
+        environmentId = snapshot.getEnvironmentId();
+        revision = snapshot.getRevision();
+        stale = false;
+        return changedKeys;
+    }
+}
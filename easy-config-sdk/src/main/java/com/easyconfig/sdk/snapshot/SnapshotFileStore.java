@@ -0,0 +1,188 @@
+package com.easyconfig.sdk.snapshot;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.easyconfig.sdk.client.ConfigSnapshot;
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 本地快照文件存储
+ * <p>
+ * 将最近一次成功拉取的配置快照保存到本地文件，服务端不可用时应用仍可使用该快照启动。
+ * 文件格式为文本头 + JSON 正文：
+ * <pre>
+ * easy-config-snapshot v1
+ * revision: 7
+ * checksum: sha256:&lt;正文摘要&gt;
+ *
+ * {"environmentId":1,...}
+ * </pre>
+ * 写入时先写临时文件并刷盘，再原子替换目标文件，读取时校验摘要，避免使用写了一半的文件
+ */
+public class SnapshotFileStore {
+
+    private static final Log log = LogFactory.getLog(SnapshotFileStore.class);
+
+    static final String MAGIC = "easy-config-snapshot v1";
+
+    private static final String REVISION_HEADER = "revision: ";
+
+    private static final String CHECKSUM_HEADER = "checksum: sha256:";
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    public SnapshotFileStore(EasyConfigProperties properties) {
+        this(Paths.get(properties.getSnapshotDir()).resolve(fileName(properties.getEnvironment(),
+                properties.getNamespace())));
+    }
+
+    public SnapshotFileStore(Path file) {
+        this.file = file;
+        this.objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 读取本地快照
+     *
+     * @return 配置快照，文件不存在或已损坏时返回 null
+     */
+    public ConfigSnapshot load() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read easy-config snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+        try {
+            return parse(content);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring corrupted easy-config snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 保存本地快照
+     * <p>
+     * 写入失败只记录日志，不影响配置刷新
+     *
+     * @param snapshot 配置快照
+     * @return 是否写入成功
+     */
+    public boolean save(ConfigSnapshot snapshot) {
+        Path tempFile = null;
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(snapshot);
+            byte[] header = (MAGIC + "\n"
+                    + REVISION_HEADER + snapshot.getRevision() + "\n"
+                    + CHECKSUM_HEADER + sha256(body) + "\n\n").getBytes(StandardCharsets.UTF_8);
+
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            tempFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(new ByteBuffer[] {ByteBuffer.wrap(header), ByteBuffer.wrap(body)});
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write easy-config snapshot " + file + ": " + e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // 临时文件清理失败不影响后续写入
+                }
+            }
+            return false;
+        }
+    }
+
+    private ConfigSnapshot parse(byte[] content) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+        if (!MAGIC.equals(reader.readLine())) {
+            throw new IOException("unknown snapshot format");
+        }
+        String revisionLine = reader.readLine();
+        String checksumLine = reader.readLine();
+        String separator = reader.readLine();
+        if (revisionLine == null || !revisionLine.startsWith(REVISION_HEADER)
+                || checksumLine == null || !checksumLine.startsWith(CHECKSUM_HEADER)
+                || !"".equals(separator)) {
+            throw new IOException("malformed snapshot header");
+        }
+        long revision = Long.parseLong(revisionLine.substring(REVISION_HEADER.length()));
+        String checksum = checksumLine.substring(CHECKSUM_HEADER.length());
+
+        // 头部均为 ASCII，按字节长度定位正文
+        int headerLength = (MAGIC + revisionLine + checksumLine).length() + 4;
+        byte[] body = Arrays.copyOfRange(content, headerLength, content.length);
+        if (!checksum.equals(sha256(body))) {
+            throw new IOException("checksum mismatch");
+        }
+        ConfigSnapshot snapshot = objectMapper.readValue(body, ConfigSnapshot.class);
+        if (snapshot.getRevision() != revision) {
+            throw new IOException("revision mismatch");
+        }
+        return snapshot;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String fileName(String environment, String namespace) {
+        String name = sanitize(environment);
+        // 只加载命名空间时快照内容不同，使用单独的文件
+        if (namespace != null && !namespace.isBlank()) {
+            name += "@" + sanitize(namespace.trim());
+        }
+        return name + ".snapshot";
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
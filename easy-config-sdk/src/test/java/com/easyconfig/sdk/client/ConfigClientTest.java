@@ -0,0 +1,148 @@
+package com.easyconfig.sdk.client;
+
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ConfigClient 单元测试")
+class ConfigClientTest {
+
+    private HttpServer server;
+
+    private ConfigClient configClient;
+
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/config/snapshot", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getQuery());
+            if (!"environment=dev".equals(exchange.getRequestURI().getQuery())) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            respond(exchange, 200, "{\"environmentId\":1,\"environmentName\":\"dev\",\"revision\":7,"
+                    + "\"configs\":{\"app.name\":\"Easy-Config\"},\"unknown\":true}");
+        });
+        server.createContext("/config/watch", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getQuery());
+            if (exchange.getRequestURI().getQuery().contains("revision=7")) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            respond(exchange, 200, "{\"environmentId\":1,\"revision\":8,\"changedKeys\":[\"app.name\"]}");
+        });
+        server.createContext("/config/changes", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getQuery());
+            respond(exchange, 200, "{\"environmentId\":1,\"revision\":9,\"reset\":false,\"changes\":["
+                    + "{\"key\":\"app.name\",\"value\":\"Easy-Config\",\"version\":4},"
+                    + "{\"key\":\"app.port\",\"deleted\":true}]}");
+        });
+        server.start();
+
+        EasyConfigProperties properties = new EasyConfigProperties();
+        properties.setServerAddr("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        properties.setEnvironment("dev");
+        properties.setLongPollTimeout(Duration.ofSeconds(1));
+        configClient = new ConfigClient(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("拉取配置快照 - 成功")
+    void fetchSnapshot_Success() throws IOException {
+        ConfigSnapshot snapshot = configClient.fetchSnapshot();
+
+        assertThat(snapshot.getEnvironmentId()).isEqualTo(1L);
+        assertThat(snapshot.getRevision()).isEqualTo(7L);
+        assertThat(snapshot.getConfigs()).containsEntry("app.name", "Easy-Config");
+    }
+
+    @Test
+    @DisplayName("拉取配置快照 - 服务端返回错误")
+    void fetchSnapshot_ServerError() {
+        EasyConfigProperties properties = new EasyConfigProperties();
+        properties.setServerAddr("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setEnvironment("nonexistent");
+
+        assertThatThrownBy(() -> new ConfigClient(properties).fetchSnapshot())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("404");
+    }
+
+    @Test
+    @DisplayName("长轮询 - 无变化返回 null")
+    void watch_NotModified() throws IOException {
+        assertThat(configClient.watch(1L, 7L)).isNull();
+        assertThat(lastQuery.get()).contains("environmentId=1").contains("timeout=1000");
+    }
+
+    @Test
+    @DisplayName("长轮询 - 返回变更")
+    void watch_Changed() throws IOException {
+        WatchResult result = configClient.watch(1L, 6L);
+
+        assertThat(result.getRevision()).isEqualTo(8L);
+        assertThat(result.getChangedKeys()).containsExactly("app.name");
+    }
+
+    @Test
+    @DisplayName("拉取增量变更 - 成功")
+    void fetchChanges_Success() throws IOException {
+        ConfigChanges changes = configClient.fetchChanges(1L, 7L);
+
+        assertThat(lastQuery.get()).isEqualTo("environmentId=1&since=7");
+        assertThat(changes.getRevision()).isEqualTo(9L);
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getChanges()).extracting(ConfigDelta::getKey, ConfigDelta::isDeleted)
+                .containsExactly(tuple("app.name", false), tuple("app.port", true));
+    }
+
+    @Test
+    @DisplayName("配置命名空间后，增量同步和长轮询都只针对该命名空间")
+    void namespace_AppendedToRequests() throws IOException {
+        EasyConfigProperties properties = new EasyConfigProperties();
+        properties.setServerAddr("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setEnvironment("dev");
+        properties.setNamespace("payment.gateway");
+        properties.setLongPollTimeout(Duration.ofSeconds(1));
+        ConfigClient namespaceClient = new ConfigClient(properties);
+
+        namespaceClient.fetchChanges(1L, 7L);
+        assertThat(lastQuery.get()).isEqualTo("environmentId=1&since=7&namespace=payment.gateway");
+
+        namespaceClient.watch(1L, 7L);
+        assertThat(lastQuery.get()).contains("namespace=payment.gateway");
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
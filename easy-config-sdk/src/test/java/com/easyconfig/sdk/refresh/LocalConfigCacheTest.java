@@ -0,0 +1,90 @@
+package com.easyconfig.sdk.refresh;
+
+import com.easyconfig.sdk.client.ConfigChanges;
+import com.easyconfig.sdk.client.ConfigDelta;
+import com.easyconfig.sdk.client.ConfigSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalConfigCache 单元测试")
+class LocalConfigCacheTest {
+
+    private final LocalConfigCache localConfigCache = new LocalConfigCache();
+
+    @Test
+    @DisplayName("全量替换时返回新增、修改和删除的配置键")
+    void replace_ReturnsChangedKeys() {
+        localConfigCache.replace(new ConfigSnapshot(1L, "dev", 1L, Map.of("a", "1", "b", "2", "c", "3")));
+
+        Map<String, String> latest = new HashMap<>();
+        latest.put("a", "1");
+        latest.put("b", "20");
+        latest.put("d", "4");
+        latest.put("e", null);
+        Set<String> changed = localConfigCache.replace(new ConfigSnapshot(1L, "dev", 2L, latest));
+
+        assertThat(changed).containsExactlyInAnyOrder("b", "c", "d");
+        assertThat(localConfigCache.asMap()).containsOnlyKeys("a", "b", "d");
+        assertThat(localConfigCache.get("b")).isEqualTo("20");
+        assertThat(localConfigCache.getRevision()).isEqualTo(2L);
+        assertThat(localConfigCache.getEnvironmentId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("内容不变时没有变更")
+    void replace_Unchanged() {
+        localConfigCache.replace(new ConfigSnapshot(1L, "dev", 1L, Map.of("a", "1")));
+
+        assertThat(localConfigCache.replace(new ConfigSnapshot(1L, "dev", 2L, Map.of("a", "1")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("从本地快照恢复后标记为待核对，拉取服务端快照后清除")
+    void restore_MarksStaleUntilReplaced() {
+        localConfigCache.restore(new ConfigSnapshot(1L, "dev", 5L, Map.of("a", "1")));
+
+        assertThat(localConfigCache.isStale()).isTrue();
+        assertThat(localConfigCache.get("a")).isEqualTo("1");
+
+        localConfigCache.replace(new ConfigSnapshot(1L, "dev", 6L, Map.of("a", "1")));
+
+        assertThat(localConfigCache.isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("应用增量变更时只修改变化的配置键")
+    void apply_Delta() {
+        localConfigCache.replace(new ConfigSnapshot(1L, "dev", 1L, Map.of("a", "1", "b", "2", "c", "3")));
+
+        Set<String> changed = localConfigCache.apply(new ConfigChanges(1L, 4L, false, List.of(
+                new ConfigDelta("a", "1", false),
+                new ConfigDelta("b", "20", false),
+                new ConfigDelta("c", null, true),
+                new ConfigDelta("x", null, true),
+                new ConfigDelta("d", "4", false))));
+
+        assertThat(changed).containsExactlyInAnyOrder("b", "c", "d");
+        assertThat(localConfigCache.asMap()).containsOnly(Map.entry("a", "1"), Map.entry("b", "20"), Map.entry("d", "4"));
+        assertThat(localConfigCache.getRevision()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("增量结果标记重置时整体替换本地配置")
+    void apply_Reset() {
+        localConfigCache.replace(new ConfigSnapshot(1L, "dev", 9L, Map.of("a", "1", "b", "2")));
+
+        Set<String> changed = localConfigCache.apply(new ConfigChanges(1L, 3L, true, List.of(
+                new ConfigDelta("a", "1", false))));
+
+        assertThat(changed).containsExactly("b");
+        assertThat(localConfigCache.asMap()).containsOnlyKeys("a");
+        assertThat(localConfigCache.getRevision()).isEqualTo(3L);
+    }
+}
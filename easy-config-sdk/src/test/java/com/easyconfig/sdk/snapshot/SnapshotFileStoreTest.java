@@ -0,0 +1,79 @@
+package com.easyconfig.sdk.snapshot;
+
+import com.easyconfig.sdk.client.ConfigSnapshot;
+import com.easyconfig.sdk.properties.EasyConfigProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnapshotFileStore 单元测试")
+class SnapshotFileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("保存后读取快照 - 成功")
+    void saveAndLoad_Success() throws IOException {
+        // Given
+        EasyConfigProperties properties = new EasyConfigProperties();
+        properties.setSnapshotDir(tempDir.resolve("snapshot").toString());
+        properties.setEnvironment("dev/blue");
+        SnapshotFileStore store = new SnapshotFileStore(properties);
+
+        // When
+        boolean saved = store.save(new ConfigSnapshot(1L, "dev/blue", 7L, Map.of("app.name", "配置中心")));
+        ConfigSnapshot loaded = store.load();
+
+        // Then
+        assertThat(saved).isTrue();
+        assertThat(store.getFile().getFileName().toString()).isEqualTo("dev_blue.snapshot");
+        assertThat(Files.readString(store.getFile())).startsWith(SnapshotFileStore.MAGIC + "\nrevision: 7\n");
+        assertThat(loaded.getEnvironmentId()).isEqualTo(1L);
+        assertThat(loaded.getRevision()).isEqualTo(7L);
+        assertThat(loaded.getConfigs()).containsEntry("app.name", "配置中心");
+        try (var files = Files.list(store.getFile().getParent())) {
+            assertThat(files).containsExactly(store.getFile());
+        }
+    }
+
+    @Test
+    @DisplayName("读取快照 - 文件不存在")
+    void load_Missing() {
+        assertThat(new SnapshotFileStore(tempDir.resolve("dev.snapshot")).load()).isNull();
+    }
+
+    @Test
+    @DisplayName("读取快照 - 正文被篡改时校验失败")
+    void load_ChecksumMismatch() throws IOException {
+        // Given
+        SnapshotFileStore store = new SnapshotFileStore(tempDir.resolve("dev.snapshot"));
+        store.save(new ConfigSnapshot(1L, "dev", 7L, Map.of("app.name", "Easy-Config")));
+        String content = Files.readString(store.getFile(), StandardCharsets.UTF_8);
+        Files.writeString(store.getFile(), content.replace("Easy-Config", "Easy-Conf1g"), StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    @DisplayName("读取快照 - 文件被截断")
+    void load_Truncated() throws IOException {
+        // Given
+        SnapshotFileStore store = new SnapshotFileStore(tempDir.resolve("dev.snapshot"));
+        store.save(new ConfigSnapshot(1L, "dev", 7L, Map.of("app.name", "Easy-Config")));
+        byte[] content = Files.readAllBytes(store.getFile());
+        Files.write(store.getFile(), java.util.Arrays.copyOf(content, content.length - 5));
+
+        // When & Then
+        assertThat(store.load()).isNull();
+    }
+}
@@ -0,0 +1,22 @@
+package com.easyconfig.server.audit;
+
+/**
+ * 审计日志写入方式
+ */
+public enum AuditMode {
+
+    /**
+     * 在配置变更事务内同步批量写入，与配置变更一起提交或回滚
+     */
+    SYNC,
+
+    /**
+     * 事务提交后放入内存队列立即返回，由后台线程批量写入；进程异常退出时可能丢失队列中的日志
+     */
+    ASYNC,
+
+    /**
+     * 事务提交后放入内存队列并等待写入完成，并发请求的日志由后台线程合并为一批写入
+     */
+    GROUP_COMMIT
+}
@@ -0,0 +1,39 @@
+package com.easyconfig.server.audit;
+
+import lombok.Value;
+
+/**
+ * 审计日志写入统计
+ */
+@Value
+public class AuditStats {
+
+    AuditMode mode;
+
+    /**
+     * 当前队列中待写入的日志数
+     */
+    int queueDepth;
+
+    int queueCapacity;
+
+    long enqueued;
+
+    long written;
+
+    /**
+     * 队列已满、等待超时后丢弃的日志数
+     */
+    long dropped;
+
+    /**
+     * 写入数据库失败的日志数
+     */
+    long failed;
+
+    long flushes;
+
+    double avgFlushMillis;
+
+    double maxFlushMillis;
+}
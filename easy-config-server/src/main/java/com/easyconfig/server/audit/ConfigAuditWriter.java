@@ -0,0 +1,256 @@
+package com.easyconfig.server.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.easyconfig.server.entity.ConfigChangeLog;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 配置变更审计日志写入器
+ * <p>
+ * 写入方式见 {@link AuditMode}：
+ * - SYNC：在配置变更事务内通过一次 JDBC 批处理写入
+ * - ASYNC / GROUP_COMMIT：事务提交后放入有界队列，由单个后台线程每次取出当前积压的日志，
+ *   在独立事务中批量写入；队列已满时最多等待 offer-timeout，仍无空位则丢弃并计数
+ * <p>
+ * 事务回滚时不记录审计日志
+ */
+@Slf4j
+@Component
+public class ConfigAuditWriter {
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${easy-config.audit.mode:ASYNC}")
+    private AuditMode mode = AuditMode.ASYNC;
+
+    @Value("${easy-config.audit.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${easy-config.audit.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${easy-config.audit.offer-timeout:1000}")
+    private long offerTimeout = 1000;
+
+    @Value("${easy-config.audit.group-commit-timeout:5000}")
+    private long groupCommitTimeout = 5000;
+
+    private BlockingQueue<PendingLog> queue;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Thread writerThread;
+
+    private volatile boolean running;
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final LongAdder flushNanos = new LongAdder();
+
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (mode == AuditMode.SYNC) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "config-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            // 不中断写入线程，让它写完队列中剩余的日志
+            writerThread.join(groupCommitTimeout);
+            if (!queue.isEmpty()) {
+                log.warn("Discarding {} audit logs that were not written before shutdown", queue.size());
+            }
+        }
+    }
+
+    /**
+     * 记录审计日志
+     * <p>
+     * 在事务内调用时，SYNC 立即写入，其他方式在事务提交后入队
+     *
+     * @param logs 审计日志
+     */
+    public void record(List<ConfigChangeLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        if (mode == AuditMode.SYNC) {
+            long start = System.nanoTime();
+            configJdbcRepository.batchInsertChangeLogs(logs);
+            written.add(logs.size());
+            recordFlush(start);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(logs);
+                }
+            });
+        } else {
+            enqueue(logs);
+        }
+    }
+
+    /**
+     * 获取写入统计
+     *
+     * @return 写入统计
+     */
+    public AuditStats getStats() {
+        long flushCount = flushes.sum();
+        return new AuditStats(
+                mode,
+                queue.size(),
+                queueCapacity,
+                enqueued.sum(),
+                written.sum(),
+                dropped.sum(),
+                failed.sum(),
+                flushCount,
+                flushCount == 0 ? 0 : flushNanos.sum() / 1_000_000.0 / flushCount,
+                maxFlushNanos.get() / 1_000_000.0);
+    }
+
+    private void enqueue(List<ConfigChangeLog> logs) {
+        // GROUP_COMMIT 只需要等待最后一条：单线程按顺序写入，最后一条写完时前面的都已写完
+        CompletableFuture<Void> flushed = mode == AuditMode.GROUP_COMMIT ? new CompletableFuture<>() : null;
+        for (int i = 0; i < logs.size(); i++) {
+            boolean last = i == logs.size() - 1;
+            try {
+                if (!queue.offer(new PendingLog(logs.get(i), last ? flushed : null),
+                        offerTimeout, TimeUnit.MILLISECONDS)) {
+                    dropped.add(logs.size() - i);
+                    log.warn("Audit queue is full, dropped {} audit logs", logs.size() - i);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.add(logs.size() - i);
+                return;
+            }
+            enqueued.increment();
+        }
+        if (flushed != null) {
+            try {
+                flushed.get(groupCommitTimeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("Audit logs were not written within group commit timeout", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingLog first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingLog> batch = new ArrayList<>(Math.min(queue.size() + 1, batchSize));
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<PendingLog> batch) {
+        long start = System.nanoTime();
+        List<ConfigChangeLog> logs = batch.stream().map(pending -> pending.changeLog).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> configJdbcRepository.batchInsertChangeLogs(logs));
+            written.add(logs.size());
+            recordFlush(start);
+            batch.forEach(pending -> pending.complete(null));
+        } catch (RuntimeException e) {
+            failed.add(logs.size());
+            log.error("Failed to write {} audit logs", logs.size(), e);
+            batch.forEach(pending -> pending.complete(e));
+        }
+    }
+
+    private void recordFlush(long start) {
+        long elapsed = System.nanoTime() - start;
+        flushes.increment();
+        flushNanos.add(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private static final class PendingLog {
+
+        private final ConfigChangeLog changeLog;
+
+        /**
+         * GROUP_COMMIT 下事务最后一条日志写入完成的通知，其他情况为 null
+         */
+        private final CompletableFuture<Void> flushed;
+
+        private PendingLog(ConfigChangeLog changeLog, CompletableFuture<Void> flushed) {
+            this.changeLog = changeLog;
+            this.flushed = flushed;
+        }
+
+        private void complete(RuntimeException error) {
+            if (flushed == null) {
+                return;
+            }
+            if (error == null) {
+                flushed.complete(null);
+            } else {
+                flushed.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.easyconfig.server.cache;
+
+import lombok.Value;
+
+/**
+ * 缓存命中统计
+ */
+@Value
+public class CacheStats {
+
+    long hits;
+
+    long misses;
+
+    long rebuilds;
+
+    /**
+     * 当前缓存的条目数
+     */
+    int size;
+}
@@ -0,0 +1,169 @@
+package com.easyconfig.server.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.easyconfig.server.dto.ConfigNamespace;
+import com.easyconfig.server.entity.Config;
+
+/**
+ * 配置键前缀树（不可变）
+ * <p>
+ * 配置键按 "." 分段逐级挂到树上，每个节点记录自身对应的配置和子树中的配置总数：
+ * - 命名空间查询只需沿路径下降再遍历子树，代价与命名空间内的配置数成正比，与环境大小无关
+ * - 命名空间按段匹配："db.pool" 匹配 db.pool 和 db.pool.size，不匹配 db.pooling
+ * - 子节点按名称排序，遍历结果按分段逐级有序返回
+ */
+public final class ConfigKeyTrie {
+
+    private static final char SEPARATOR = '.';
+
+    private final Node root;
+
+    private ConfigKeyTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * 根据配置构建前缀树
+     *
+     * @param configs 配置集合
+     * @return 前缀树
+     */
+    public static ConfigKeyTrie of(Collection<Config> configs) {
+        Node root = new Node();
+        for (Config config : configs) {
+            Node node = root;
+            node.configCount++;
+            String configKey = config.getConfigKey();
+            int start = 0;
+            while (true) {
+                int end = configKey.indexOf(SEPARATOR, start);
+                String segment = end < 0 ? configKey.substring(start) : configKey.substring(start, end);
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+                node.configCount++;
+                if (end < 0) {
+                    break;
+                }
+                start = end + 1;
+            }
+            node.config = config;
+        }
+        return new ConfigKeyTrie(root);
+    }
+
+    /**
+     * 获取命名空间下的全部配置（包括与命名空间同名的配置）
+     *
+     * @param namespace 命名空间，为空时返回全部配置
+     * @return 按分段排序的配置列表
+     */
+    public List<Config> subtree(String namespace) {
+        Node node = find(normalize(namespace));
+        if (node == null) {
+            return List.of();
+        }
+        List<Config> configs = new ArrayList<>(node.configCount);
+        collect(node, configs);
+        return configs;
+    }
+
+    /**
+     * 列出命名空间的下一级节点
+     *
+     * @param namespace 命名空间，为空时列出顶层节点
+     * @return 按名称排序的下一级节点
+     */
+    public List<ConfigNamespace> children(String namespace) {
+        String normalized = normalize(namespace);
+        Node node = find(normalized);
+        if (node == null) {
+            return List.of();
+        }
+        List<ConfigNamespace> children = new ArrayList<>(node.children.size());
+        for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+            Node child = entry.getValue();
+            String path = normalized.isEmpty() ? entry.getKey() : normalized + SEPARATOR + entry.getKey();
+            children.add(new ConfigNamespace(path, entry.getKey(), child.config != null,
+                    !child.children.isEmpty(), child.configCount));
+        }
+        return children;
+    }
+
+    /**
+     * 规范化命名空间：去掉首尾空白以及末尾的 ".*"、"*" 或 "."
+     *
+     * @param namespace 命名空间，例如 db.pool、db.pool. 或 db.pool.*
+     * @return 规范化后的命名空间，为空时返回空字符串
+     */
+    public static String normalize(String namespace) {
+        if (namespace == null) {
+            return "";
+        }
+        String normalized = namespace.trim();
+        if (normalized.endsWith("*")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) == SEPARATOR) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * 判断配置键是否属于命名空间
+     *
+     * @param namespace 已规范化的命名空间，为空时匹配所有配置键
+     * @param configKey 配置键
+     * @return 是否属于
+     */
+    public static boolean contains(String namespace, String configKey) {
+        if (namespace == null || namespace.isEmpty()) {
+            return true;
+        }
+        return configKey.startsWith(namespace)
+                && (configKey.length() == namespace.length() || configKey.charAt(namespace.length()) == SEPARATOR);
+    }
+
+    private Node find(String namespace) {
+        if (namespace.isEmpty()) {
+            return root;
+        }
+        Node node = root;
+        int start = 0;
+        while (node != null) {
+            int end = namespace.indexOf(SEPARATOR, start);
+            String segment = end < 0 ? namespace.substring(start) : namespace.substring(start, end);
+            node = node.children.get(segment);
+            if (end < 0) {
+                break;
+            }
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<Config> configs) {
+        if (node.config != null) {
+            configs.add(node.config);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, configs);
+        }
+    }
+
+    /**
+     * 前缀树节点，构建完成后不再修改
+     */
+    private static final class Node {
+
+        private final TreeMap<String, Node> children = new TreeMap<>();
+
+        private Config config;
+
+        private int configCount;
+    }
+}
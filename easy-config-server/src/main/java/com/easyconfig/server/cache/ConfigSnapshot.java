@@ -0,0 +1,124 @@
+package com.easyconfig.server.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+
+import com.easyconfig.server.dto.ConfigNamespace;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+
+/**
+ * 单个环境的配置快照（不可变）
+ * <p>
+ * 快照中的配置对象是脱离持久化上下文的副本，由所有读请求共享，调用方不应修改
+ */
+public final class ConfigSnapshot {
+
+    private final Map<String, Config> configs;
+
+    /**
+     * 配置键前缀树，第一次按命名空间查询时构建
+     */
+    private volatile ConfigKeyTrie keyTrie;
+
+    private ConfigSnapshot(Map<String, Config> configs) {
+        this.configs = configs;
+    }
+
+    /**
+     * 根据某个环境下的全部配置构建快照
+     *
+     * @param configs 配置列表（需在事务内调用，以便初始化懒加载的环境）
+     * @return 配置快照
+     */
+    public static ConfigSnapshot of(List<Config> configs) {
+        Map<String, Config> copies = new HashMap<>(Math.max(16, configs.size() * 4 / 3 + 1));
+        Environment environment = null;
+        for (Config config : configs) {
+            if (environment == null && config.getEnvironment() != null) {
+                environment = (Environment) Hibernate.unproxy(config.getEnvironment());
+            }
+            copies.put(config.getConfigKey(), copyOf(config, environment));
+        }
+        return new ConfigSnapshot(Map.copyOf(copies));
+    }
+
+    /**
+     * 根据配置键获取配置
+     *
+     * @param configKey 配置键
+     * @return 配置对象，不存在时返回 null
+     */
+    public Config get(String configKey) {
+        return configs.get(configKey);
+    }
+
+    /**
+     * 获取快照中的全部配置
+     *
+     * @return 配置集合
+     */
+    public Collection<Config> values() {
+        return configs.values();
+    }
+
+    /**
+     * 获取命名空间下的全部配置
+     *
+     * @param namespace 命名空间（按 "." 分段匹配），为空时返回全部配置
+     * @return 配置列表
+     */
+    public List<Config> subtree(String namespace) {
+        return keyTrie().subtree(namespace);
+    }
+
+    /**
+     * 列出命名空间的下一级节点
+     *
+     * @param namespace 命名空间，为空时列出顶层节点
+     * @return 下一级节点
+     */
+    public List<ConfigNamespace> namespaces(String namespace) {
+        return keyTrie().children(namespace);
+    }
+
+    /**
+     * 快照中的配置数量
+     *
+     * @return 配置数量
+     */
+    public int size() {
+        return configs.size();
+    }
+
+    private ConfigKeyTrie keyTrie() {
+        ConfigKeyTrie trie = keyTrie;
+        if (trie == null) {
+            // 快照不可变，并发构建的结果相同，无需加锁
+            trie = ConfigKeyTrie.of(configs.values());
+            keyTrie = trie;
+        }
+        return trie;
+    }
+
+    private static Config copyOf(Config config, Environment environment) {
+        return Config.builder()
+                .id(config.getId())
+                .environment(environment)
+                .configKey(config.getConfigKey())
+                .configValue(config.getConfigValue())
+                .valueType(config.getValueType())
+                .description(config.getDescription())
+                .groupName(config.getGroupName())
+                .encrypted(config.getEncrypted())
+                .enabled(config.getEnabled())
+                .version(config.getVersion())
+                .createdAt(config.getCreatedAt())
+                .updatedAt(config.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.easyconfig.server.cache;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
+import com.easyconfig.server.repository.ConfigRepository;
+
+/**
+ * 配置快照缓存（读穿透）
+ * <p>
+ * 按环境缓存不可变的 {@link ConfigSnapshot}：
+ * - 读取时命中直接返回，未命中则从数据库加载整个环境并安装快照
+ * - 配置变更事务结束后整体失效该环境的快照，下次读取时重建
+ * - 每个环境同一时刻只有一个线程在重建，并通过代数（generation）丢弃失效前加载的旧快照
+ */
+@Component
+public class ConfigSnapshotCache {
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    private final ConcurrentHashMap<Long, ConfigSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * 根据环境ID和配置键获取配置
+     *
+     * @param environmentId 环境ID
+     * @param configKey     配置键
+     * @return 配置对象（如果存在）
+     */
+    @Transactional(readOnly = true)
+    public Optional<Config> get(Long environmentId, String configKey) {
+        return Optional.ofNullable(getSnapshot(environmentId).get(configKey));
+    }
+
+    /**
+     * 获取指定环境的配置快照
+     *
+     * @param environmentId 环境ID
+     * @return 配置快照
+     */
+    @Transactional(readOnly = true)
+    public ConfigSnapshot getSnapshot(Long environmentId) {
+        ConfigSnapshot snapshot = snapshots.get(environmentId);
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        return rebuild(environmentId);
+    }
+
+    /**
+     * 使指定环境的快照失效
+     *
+     * @param environmentId 环境ID
+     */
+    public void invalidate(Long environmentId) {
+        generation(environmentId).incrementAndGet();
+        snapshots.remove(environmentId);
+    }
+
+    /**
+     * 配置变更事务提交后失效对应环境的快照
+     * <p>
+     * 优先于其他提交后监听器执行，保证外部看到新的修订号时快照已经失效
+     *
+     * @param event 配置变更事件
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        invalidate(event.getEnvironmentId());
+    }
+
+    /**
+     * 配置变更事务回滚后同样失效，避免事务内读取到的未提交数据残留在缓存中
+     *
+     * @param event 配置变更事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onConfigChangeRollback(ConfigChangeEvent event) {
+        invalidate(event.getEnvironmentId());
+    }
+
+    /**
+     * 环境删除提交后移除该环境的快照
+     *
+     * @param event 环境删除事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnvironmentDeleted(EnvironmentDeletedEvent event) {
+        invalidate(event.getEnvironmentId());
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 命中、未命中、重建次数及已缓存的环境数
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), rebuilds.sum(), snapshots.size());
+    }
+
+    private ConfigSnapshot rebuild(Long environmentId) {
+        AtomicLong generation = generation(environmentId);
+        synchronized (generation) {
+            ConfigSnapshot current = snapshots.get(environmentId);
+            if (current != null) {
+                return current;
+            }
+            long expected = generation.get();
+            ConfigSnapshot loaded = ConfigSnapshot.of(configRepository.findByEnvironmentId(environmentId));
+            rebuilds.increment();
+            // 加载期间如果发生了失效，则本次结果只返回给当前调用方，不安装到缓存
+            snapshots.compute(environmentId, (id, existing) -> generation.get() == expected ? loaded : existing);
+            return loaded;
+        }
+    }
+
+    private AtomicLong generation(Long environmentId) {
+        return generations.computeIfAbsent(environmentId, id -> new AtomicLong());
+    }
+}
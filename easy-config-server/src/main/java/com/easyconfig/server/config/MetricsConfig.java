@@ -0,0 +1,110 @@
+package com.easyconfig.server.config;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.easyconfig.server.audit.AuditStats;
+import com.easyconfig.server.audit.ConfigAuditWriter;
+import com.easyconfig.server.cache.CacheStats;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.monitor.SqlStatementCountFilter;
+import com.easyconfig.server.monitor.SqlStatementCountingDataSource;
+import com.easyconfig.server.search.ConfigSearchIndex;
+import com.easyconfig.server.service.EnvironmentService;
+import com.easyconfig.server.service.PushService;
+import com.easyconfig.server.service.WatchService;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 监控指标配置
+ * <p>
+ * - {@link TimedAspect}：使 ConfigService、EnvironmentService 等类上的 {@code @Timed} 生效
+ * - 缓存、长轮询、推送、审计、搜索索引的指标直接读取各组件已有的统计值，抓取时才计算，不增加请求路径上的开销
+ * - 数据源包装为 {@link SqlStatementCountingDataSource}，按请求统计 SQL 语句数（见 {@link SqlStatementCountFilter}）
+ * - 连接池（hikaricp.*）、HTTP 请求（http.server.requests）、JVM 等指标由 Spring Boot 自动注册
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder easyConfigMeterBinder(ConfigSnapshotCache configSnapshotCache,
+            EnvironmentService environmentService, WatchService watchService, PushService pushService,
+            ConfigAuditWriter configAuditWriter, ConfigSearchIndex configSearchIndex) {
+        return registry -> {
+            bindCache(registry, "config-snapshot", configSnapshotCache, ConfigSnapshotCache::getStats);
+            bindCache(registry, "environment", environmentService, EnvironmentService::getCacheStats);
+
+            Gauge.builder("easyconfig.watch.watchers", watchService, WatchService::getWatcherCount)
+                    .description("Suspended long-polling watch requests")
+                    .register(registry);
+            Gauge.builder("easyconfig.push.subscribers", pushService, PushService::getSubscriberCount)
+                    .description("Subscribed WebSocket push sessions")
+                    .register(registry);
+
+            Gauge.builder("easyconfig.audit.queue.depth", configAuditWriter, w -> w.getStats().getQueueDepth())
+                    .description("Audit logs waiting to be written")
+                    .register(registry);
+            bindAuditCounter(registry, configAuditWriter, "written", AuditStats::getWritten);
+            bindAuditCounter(registry, configAuditWriter, "dropped", AuditStats::getDropped);
+            bindAuditCounter(registry, configAuditWriter, "failed", AuditStats::getFailed);
+
+            Gauge.builder("easyconfig.search.index.size", configSearchIndex, ConfigSearchIndex::size)
+                    .description("Live documents in the in-memory config search index")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 指标只弱引用状态对象，状态对象必须是容器中的组件本身，不能是临时创建的 lambda
+     */
+    private static <T> void bindCache(MeterRegistry registry, String cache, T source, Function<T, CacheStats> stats) {
+        FunctionCounter.builder("easyconfig.cache.hits", source, s -> stats.apply(s).getHits())
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("easyconfig.cache.misses", source, s -> stats.apply(s).getMisses())
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("easyconfig.cache.loads", source, s -> stats.apply(s).getRebuilds())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("easyconfig.cache.size", source, s -> stats.apply(s).getSize())
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private static void bindAuditCounter(MeterRegistry registry, ConfigAuditWriter writer, String outcome,
+            ToLongFunction<AuditStats> count) {
+        FunctionCounter.builder("easyconfig.audit.logs", writer, w -> count.applyAsLong(w.getStats()))
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
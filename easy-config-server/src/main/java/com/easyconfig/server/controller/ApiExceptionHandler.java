@@ -0,0 +1,55 @@
+package com.easyconfig.server.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.easyconfig.server.dto.ConfigResponse;
+import com.easyconfig.server.exception.ConfigVersionConflictException;
+import com.easyconfig.server.service.ConfigService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 将服务层异常转换为 HTTP 状态码（响应体为 RFC 9457 ProblemDetail）
+ * <p>
+ * - IllegalArgumentException：400
+ * - EntityNotFoundException：404
+ * - ConfigVersionConflictException：409，附带配置的当前值（current），调用方据此合并后重试
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @Autowired
+    ConfigService configService;
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ProblemDetail notFound(EntityNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(ConfigVersionConflictException.class)
+    public ProblemDetail conflict(ConfigVersionConflictException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+        problem.setProperty("configId", e.getConfigId());
+        problem.setProperty("expectedVersion", e.getExpectedVersion());
+        ConfigResponse current = e.getCurrent();
+        if (current == null) {
+            // 写入时才发现冲突，原事务已回滚，重新读取当前值（配置可能已被删除）
+            try {
+                current = configService.toResponse(configService.getConfigById(e.getConfigId()));
+            } catch (EntityNotFoundException notFound) {
+                return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, notFound.getMessage());
+            }
+        }
+        problem.setProperty("current", current);
+        return problem;
+    }
+}
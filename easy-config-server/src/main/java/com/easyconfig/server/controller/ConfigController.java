@@ -0,0 +1,261 @@
+package com.easyconfig.server.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.easyconfig.server.audit.AuditStats;
+import com.easyconfig.server.cache.CacheStats;
+import com.easyconfig.server.dto.BatchUpsertRequest;
+import com.easyconfig.server.dto.ConfigAsOfResponse;
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.dto.ConfigChangesResponse;
+import com.easyconfig.server.dto.ConfigCounts;
+import com.easyconfig.server.dto.ConfigNamespace;
+import com.easyconfig.server.dto.ConfigResponse;
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.dto.ConfigSnapshotResponse;
+import com.easyconfig.server.dto.ConfigSummary;
+import com.easyconfig.server.dto.ConfigUpsertItem;
+import com.easyconfig.server.dto.ConfigVersionResponse;
+import com.easyconfig.server.dto.CursorPage;
+import com.easyconfig.server.dto.WatchRequest;
+import com.easyconfig.server.dto.WatchResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.service.ConfigChangeFeedService;
+import com.easyconfig.server.service.ConfigService;
+import com.easyconfig.server.service.ConfigVersionService;
+import com.easyconfig.server.service.EnvironmentSnapshotService;
+import com.easyconfig.server.service.WatchService;
+
+@RestController
+@RequestMapping("/config")
+public class ConfigController {
+
+    @Autowired
+    ConfigService configService;
+
+    @Autowired
+    WatchService watchService;
+
+    @Autowired
+    ConfigChangeFeedService configChangeFeedService;
+
+    @Autowired
+    ConfigVersionService configVersionService;
+
+    @Autowired
+    EnvironmentSnapshotService environmentSnapshotService;
+
+    @GetMapping("/cache/stats")
+    public CacheStats cacheStats() {
+        return configService.getSnapshotCacheStats();
+    }
+
+    /**
+     * 审计日志写入统计（队列深度、写入耗时）
+     */
+    @GetMapping("/audit/stats")
+    public AuditStats auditStats() {
+        return configService.getAuditStats();
+    }
+
+    /**
+     * 获取环境下全部启用配置的快照，指定 namespace 时只返回该命名空间（如 payment.gateway）下的配置
+     */
+    @GetMapping("/snapshot")
+    public ConfigSnapshotResponse snapshot(@RequestParam String environment,
+            @RequestParam(required = false) String namespace) {
+        return configService.getEnabledConfigSnapshot(environment, namespace);
+    }
+
+    /**
+     * 列出命名空间的下一级节点（不指定 namespace 时列出顶层节点）
+     */
+    @GetMapping("/namespaces")
+    public List<ConfigNamespace> namespaces(@RequestParam Long environmentId,
+            @RequestParam(required = false) String namespace) {
+        return configService.getConfigNamespaces(environmentId, namespace);
+    }
+
+    /**
+     * 获取命名空间下的全部配置（db.pool 与 db.pool.* 等价）
+     */
+    @GetMapping("/subtree")
+    public List<ConfigResponse> subtree(@RequestParam Long environmentId, @RequestParam String namespace) {
+        return configService.toResponses(configService.getConfigsByNamespace(environmentId, namespace));
+    }
+
+    /**
+     * 分页查询配置（键集分页，按 ID 升序）
+     * <p>
+     * key、keyword、groupName、valueType 最多指定一个；不指定 environmentId 时查询所有环境。
+     * 返回的 nextCursor 原样作为下一次请求的 cursor
+     */
+    @GetMapping("/list")
+    public CursorPage<ConfigResponse> list(@RequestParam(required = false) Long environmentId,
+            @RequestParam(required = false) String key, @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String groupName, @RequestParam(required = false) String valueType,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        if (Stream.of(key, keyword, groupName, valueType).filter(Objects::nonNull).count() > 1) {
+            throw new IllegalArgumentException("At most one of key, keyword, groupName and valueType is allowed");
+        }
+        CursorPage<Config> page;
+        if (key != null) {
+            page = environmentId != null
+                    ? configService.searchConfigsByEnvironmentAndKey(environmentId, key, cursor, limit)
+                    : configService.searchConfigsByKey(key, cursor, limit);
+        } else if (keyword != null) {
+            page = environmentId != null
+                    ? configService.searchConfigsByEnvironmentAndDescription(environmentId, keyword, cursor, limit)
+                    : configService.searchConfigsByDescription(keyword, cursor, limit);
+        } else if (groupName != null) {
+            page = environmentId != null
+                    ? configService.getConfigsByEnvironmentAndGroup(environmentId, groupName, cursor, limit)
+                    : configService.getConfigsByGroup(groupName, cursor, limit);
+        } else if (valueType != null) {
+            page = environmentId != null
+                    ? configService.getConfigsByEnvironmentAndType(environmentId, valueType, cursor, limit)
+                    : configService.getConfigsByType(valueType, cursor, limit);
+        } else {
+            page = environmentId != null
+                    ? configService.getConfigsByEnvironment(environmentId, cursor, limit)
+                    : configService.getAllConfigs(cursor, limit);
+        }
+        return page.mapItems(configService::toResponses);
+    }
+
+    /**
+     * 分页查询环境下的配置摘要（不包含配置值，键集分页）
+     */
+    @GetMapping("/summaries")
+    public CursorPage<ConfigSummary> summaries(@RequestParam Long environmentId,
+            @RequestParam(required = false) String groupName, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return groupName != null
+                ? configService.getConfigSummariesByEnvironmentAndGroup(environmentId, groupName, cursor, limit)
+                : configService.getConfigSummariesByEnvironment(environmentId, cursor, limit);
+    }
+
+    /**
+     * 按配置键、描述、分组搜索配置（按相关度排序）
+     */
+    @GetMapping("/search")
+    public List<ConfigSearchHit> search(@RequestParam String q, @RequestParam(required = false) Long environmentId,
+            @RequestParam(required = false) Integer limit) {
+        return configService.searchConfigs(q, environmentId, limit);
+    }
+
+    /**
+     * 按 ID 批量获取配置值（ids=1,2,3）
+     */
+    @GetMapping("/values")
+    public Map<Long, String> values(@RequestParam List<Long> ids) {
+        return configService.getConfigValues(ids);
+    }
+
+    /**
+     * 统计环境下的配置数量
+     */
+    @GetMapping("/counts")
+    public ConfigCounts counts(@RequestParam Long environmentId) {
+        return configService.getConfigCounts(environmentId);
+    }
+
+    /**
+     * 批量写入配置（存在则更新，不存在则创建）
+     */
+    @PostMapping("/batch")
+    public BatchUpsertResult batchUpsert(@RequestBody BatchUpsertRequest request) {
+        List<Config> configs = request.getConfigs() == null ? List.of()
+                : request.getConfigs().stream().map(ConfigUpsertItem::toConfig).toList();
+        return configService.batchUpsertConfigs(request.getEnvironmentId(), configs);
+    }
+
+    /**
+     * 更新单个配置（只更新非空字段）
+     * <p>
+     * 携带 expectedVersion 时按版本号比较并设置：配置已被其他人修改时返回 409 和当前值
+     */
+    @PutMapping("/{id}")
+    public ConfigResponse update(@PathVariable Long id, @RequestParam(required = false) Long expectedVersion,
+            @RequestBody ConfigUpsertItem item) {
+        return configService.toResponse(configService.updateConfig(id, item.toConfig(), expectedVersion));
+    }
+
+    /**
+     * 查询配置的全部历史版本（最新的在前）
+     */
+    @GetMapping("/{id}/versions")
+    public List<ConfigVersionResponse> versions(@PathVariable Long id) {
+        return configVersionService.getVersions(id);
+    }
+
+    /**
+     * 获取单个历史版本
+     */
+    @GetMapping("/versions/{versionId}")
+    public ConfigVersionResponse version(@PathVariable Long versionId) {
+        return configVersionService.getVersion(versionId);
+    }
+
+    /**
+     * 读取环境在指定修订号或时间点的全部启用配置（二选一）
+     */
+    @GetMapping("/as-of")
+    public ConfigAsOfResponse asOf(@RequestParam Long environmentId, @RequestParam(required = false) Long revision,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime time) {
+        if ((revision == null) == (time == null)) {
+            throw new IllegalArgumentException("Exactly one of revision and time is required");
+        }
+        return revision != null ? environmentSnapshotService.getConfigsAsOfRevision(environmentId, revision)
+                : environmentSnapshotService.getConfigsAsOfTime(environmentId, time);
+    }
+
+    /**
+     * 获取指定修订号之后的增量变更，指定 namespace 时只返回该命名空间下的变更
+     */
+    @GetMapping("/changes")
+    public ConfigChangesResponse changes(@RequestParam Long environmentId, @RequestParam long since,
+            @RequestParam(required = false) String namespace) {
+        return configChangeFeedService.getChangesSince(environmentId, since, namespace);
+    }
+
+    /**
+     * 按环境修订号长轮询，指定 namespace 时只有该命名空间下的变更才会唤醒
+     */
+    @GetMapping("/watch")
+    public DeferredResult<ResponseEntity<WatchResult>> watch(@RequestParam Long environmentId,
+            @RequestParam(required = false) Long revision, @RequestParam(required = false) String namespace,
+            @RequestParam(required = false) Long timeout) {
+        return watchService.watch(WatchRequest.builder()
+                .environmentId(environmentId)
+                .revision(revision)
+                .namespace(namespace)
+                .timeout(timeout)
+                .build());
+    }
+
+    /**
+     * 按配置键版本长轮询
+     */
+    @PostMapping("/watch")
+    public DeferredResult<ResponseEntity<WatchResult>> watch(@RequestBody WatchRequest request) {
+        return watchService.watch(request);
+    }
+}
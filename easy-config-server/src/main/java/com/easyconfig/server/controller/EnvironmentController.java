@@ -1,13 +1,18 @@
 package com.easyconfig.server.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.easyconfig.server.cache.CacheStats;
 import com.easyconfig.server.entity.Environment;
 import com.easyconfig.server.service.EnvironmentService;
+import com.easyconfig.server.service.RevisionService;
 
 @RestController
 @RequestMapping("/env")
@@ -16,8 +21,35 @@ public class EnvironmentController {
     @Autowired
     EnvironmentService environmentService;
 
+    @Autowired
+    RevisionService revisionService;
+
     @GetMapping("/test")
     public Environment test(@RequestParam String name) {
-        return environmentService.getEnvironmentByName(name);
+        Environment environment = environmentService.getEnvironmentByName(name);
+        // 缓存的环境副本不随配置变更更新修订号，返回时替换为当前修订号
+        return environment.toBuilder().revision(revisionService.getRevision(environment.getId())).build();
+    }
+
+    /**
+     * 环境缓存统计（按 ID、名称获取环境的命中情况）
+     */
+    @GetMapping("/cache/stats")
+    public CacheStats cacheStats() {
+        return environmentService.getCacheStats();
+    }
+
+    /**
+     * 查询环境修订号
+     * <p>
+     * 客户端携带上次获取的修订号轮询，未变化时返回 304 且不访问数据库
+     */
+    @GetMapping("/{id}/revision")
+    public ResponseEntity<Long> revision(@PathVariable Long id, @RequestParam(required = false) Long since) {
+        long revision = revisionService.getRevision(id);
+        if (since != null && since == revision) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(revision);
     }
 }
@@ -0,0 +1,80 @@
+package com.easyconfig.server.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.easyconfig.server.dto.ImportResult;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.exchange.ConfigFileFormat;
+import com.easyconfig.server.service.ConfigExportService;
+import com.easyconfig.server.service.ConfigImportService;
+import com.easyconfig.server.service.EnvironmentService;
+
+@RestController
+@RequestMapping("/config")
+public class ImportExportController {
+
+    @Autowired
+    EnvironmentService environmentService;
+
+    @Autowired
+    ConfigExportService configExportService;
+
+    @Autowired
+    ConfigImportService configImportService;
+
+    /**
+     * 导出环境下的全部启用配置（yaml/properties/json）
+     * <p>
+     * 响应体边查询边写出，不在内存中构建完整的配置列表
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam Long environmentId,
+            @RequestParam(defaultValue = "yaml") String format) {
+        ConfigFileFormat fileFormat = ConfigFileFormat.of(format);
+        Environment environment = environmentService.getEnvironmentById(environmentId);
+        String fileName = configExportService.getExportFileName(environment, fileFormat);
+
+        StreamingResponseBody body = out -> configExportService.exportConfigs(environment, fileFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(new MediaType(MediaType.parseMediaType(fileFormat.getContentType()),
+                        StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    /**
+     * 导入配置文件（yaml/properties/json），未指定格式时按文件扩展名识别
+     * <p>
+     * 上传内容边解析边分块写入，部分分块失败时返回 PARTIAL 状态及错误信息
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportResult> importConfigs(@RequestParam Long environmentId,
+            @RequestParam MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        ConfigFileFormat fileFormat = ConfigFileFormat.of(format != null ? format
+                : StringUtils.getFilenameExtension(file.getOriginalFilename()));
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(configImportService.importConfigs(environmentId, fileFormat,
+                    file.getOriginalFilename(), in));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.easyconfig.server.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.easyconfig.server.dto.ReleaseItemRequest;
+import com.easyconfig.server.dto.ReleaseRequest;
+import com.easyconfig.server.dto.ReleaseResponse;
+import com.easyconfig.server.entity.ConfigRelease;
+import com.easyconfig.server.service.ConfigReleaseService;
+
+@RestController
+@RequestMapping("/release")
+public class ReleaseController {
+
+    @Autowired
+    ConfigReleaseService configReleaseService;
+
+    /**
+     * 创建草稿发布
+     */
+    @PostMapping
+    public ReleaseResponse create(@RequestBody ReleaseRequest request) {
+        return configReleaseService.createRelease(request.getEnvironmentId(), request.getName(),
+                request.getDescription(), request.getItems() == null ? List.of()
+                        : request.getItems().stream().map(ReleaseItemRequest::toItem).toList());
+    }
+
+    /**
+     * 查询环境下的发布列表
+     */
+    @GetMapping
+    public List<ConfigRelease> list(@RequestParam Long environmentId) {
+        return configReleaseService.getReleasesByEnvironment(environmentId);
+    }
+
+    /**
+     * 获取发布详情
+     */
+    @GetMapping("/{id}")
+    public ReleaseResponse get(@PathVariable Long id) {
+        return configReleaseService.getRelease(id);
+    }
+
+    /**
+     * 整体应用草稿发布（一个修订号、一次推送）
+     */
+    @PostMapping("/{id}/publish")
+    public ReleaseResponse publish(@PathVariable Long id) {
+        return configReleaseService.publishRelease(id);
+    }
+
+    /**
+     * 一步回滚发布，恢复发布前的配置
+     */
+    @PostMapping("/{id}/rollback")
+    public ReleaseResponse rollback(@PathVariable Long id) {
+        return configReleaseService.rollbackRelease(id);
+    }
+
+    /**
+     * 删除草稿发布
+     */
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable Long id) {
+        configReleaseService.deleteRelease(id);
+    }
+}
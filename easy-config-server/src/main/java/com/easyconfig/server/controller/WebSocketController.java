@@ -0,0 +1,56 @@
+package com.easyconfig.server.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import com.easyconfig.server.service.PushService;
+
+/**
+ * 配置推送 WebSocket 接口
+ * <p>
+ * 连接地址：/ws/config?environmentId=1[&amp;group=database][&amp;namespace=payment.gateway]
+ */
+@Component
+public class WebSocketController extends TextWebSocketHandler {
+
+    @Autowired
+    PushService pushService;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams();
+        Long environmentId;
+        String group;
+        String namespace;
+        try {
+            environmentId = Long.valueOf(decode(params.getFirst("environmentId")));
+            group = decode(params.getFirst("group"));
+            namespace = decode(params.getFirst("namespace"));
+        } catch (IllegalArgumentException e) {
+            // 缺少或无法解析的 environmentId，以及无效的百分号编码；关闭原因有长度限制，不带上原始输入
+            session.close(CloseStatus.BAD_DATA.withReason("Invalid environmentId, group or namespace"));
+            return;
+        }
+        pushService.subscribe(session, environmentId, group, namespace);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        pushService.unsubscribe(session);
+    }
+
+    /**
+     * 查询参数保持编码后的原样，按 UTF-8 解码后再与分组、命名空间比较
+     */
+    private static String decode(String value) {
+        return value == null ? null : UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+}
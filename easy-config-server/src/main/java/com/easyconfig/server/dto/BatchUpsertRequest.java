@@ -0,0 +1,20 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量写入配置请求
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpsertRequest {
+
+    private Long environmentId;
+
+    private List<ConfigUpsertItem> configs;
+}
@@ -0,0 +1,27 @@
+package com.easyconfig.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量写入配置结果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpsertResult {
+
+    private Long environmentId;
+
+    /**
+     * 写入后的环境修订号（整批只递增一次，没有任何变化时为当前修订号）
+     */
+    private long revision;
+
+    private int created;
+
+    private int updated;
+
+    private int unchanged;
+}
@@ -0,0 +1,35 @@
+package com.easyconfig.server.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 环境在某个修订号（时间点）的全部启用配置
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigAsOfResponse {
+
+    private Long environmentId;
+
+    private long revision;
+
+    /**
+     * 回放起点快照的修订号
+     */
+    private long snapshotRevision;
+
+    /**
+     * 从快照开始回放的历史版本数
+     */
+    private int replayedVersions;
+
+    /**
+     * 配置键 -> 配置值（按配置键排序）
+     */
+    private Map<String, String> configs;
+}
@@ -0,0 +1,30 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 增量同步结果
+ * <p>
+ * reset 为 true 时表示服务端无法提供从客户端修订号开始的增量（变更流水不完整），
+ * changes 中为环境下全部启用配置，客户端应整体替换本地配置
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigChangesResponse {
+
+    private Long environmentId;
+
+    /**
+     * 本次结果对应的环境修订号，客户端下次同步时作为起始修订号
+     */
+    private long revision;
+
+    private boolean reset;
+
+    private List<ConfigDelta> changes;
+}
@@ -0,0 +1,30 @@
+package com.easyconfig.server.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 环境配置数量统计（一次聚合查询得到，不读取配置值）
+ */
+@Data
+@NoArgsConstructor
+public class ConfigCounts {
+
+    private long total;
+
+    private long enabled;
+
+    private long disabled;
+
+    private long encrypted;
+
+    /**
+     * JPQL 构造表达式使用；环境下没有配置时 SUM 结果为 null
+     */
+    public ConfigCounts(Long total, Long enabled, Long disabled, Long encrypted) {
+        this.total = total != null ? total : 0L;
+        this.enabled = enabled != null ? enabled : 0L;
+        this.disabled = disabled != null ? disabled : 0L;
+        this.encrypted = encrypted != null ? encrypted : 0L;
+    }
+}
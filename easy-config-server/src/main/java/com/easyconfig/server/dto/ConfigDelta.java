@@ -0,0 +1,29 @@
+package com.easyconfig.server.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 单个配置键的增量变更
+ * <p>
+ * deleted 为 true 时表示该键已被删除或禁用，客户端应移除本地值
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConfigDelta {
+
+    private String key;
+
+    private String value;
+
+    private Long version;
+
+    private Boolean deleted;
+}
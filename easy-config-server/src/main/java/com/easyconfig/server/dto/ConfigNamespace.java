@@ -0,0 +1,39 @@
+package com.easyconfig.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置键命名空间节点（配置键按 "." 分段后的一级子节点）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigNamespace {
+
+    /**
+     * 完整路径，例如 payment.gateway
+     */
+    private String path;
+
+    /**
+     * 最后一段名称，例如 gateway
+     */
+    private String name;
+
+    /**
+     * 路径本身是否也是一个配置键
+     */
+    private boolean config;
+
+    /**
+     * 是否还有下级节点
+     */
+    private boolean hasChildren;
+
+    /**
+     * 该节点及其下级的配置总数
+     */
+    private int configCount;
+}
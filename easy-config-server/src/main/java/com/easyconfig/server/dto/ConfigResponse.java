@@ -0,0 +1,67 @@
+package com.easyconfig.server.dto;
+
+import java.time.LocalDateTime;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置详情（列表接口使用，不序列化环境关联）
+ * <p>
+ * 环境名称由调用方传入（通常取自环境缓存），组装时不访问配置上的懒加载环境关联
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigResponse {
+
+    private Long id;
+
+    private Long environmentId;
+
+    private String environmentName;
+
+    private String configKey;
+
+    private String configValue;
+
+    private String valueType;
+
+    private String description;
+
+    private String groupName;
+
+    private Boolean encrypted;
+
+    private Boolean enabled;
+
+    private Long version;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public static ConfigResponse of(Config config, Environment environment) {
+        return ConfigResponse.builder()
+                .id(config.getId())
+                .environmentId(config.getEnvironment().getId())
+                .environmentName(environment != null ? environment.getName() : null)
+                .configKey(config.getConfigKey())
+                .configValue(config.getConfigValue())
+                .valueType(config.getValueType())
+                .description(config.getDescription())
+                .groupName(config.getGroupName())
+                .encrypted(config.getEncrypted())
+                .enabled(config.getEnabled())
+                .version(config.getVersion())
+                .createdAt(config.getCreatedAt())
+                .updatedAt(config.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.easyconfig.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置搜索结果（按 score 降序排列）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigSearchHit {
+
+    private Long configId;
+
+    private Long environmentId;
+
+    private String configKey;
+
+    private String groupName;
+
+    private String description;
+
+    /**
+     * 匹配得分，越大越相关
+     */
+    private int score;
+}
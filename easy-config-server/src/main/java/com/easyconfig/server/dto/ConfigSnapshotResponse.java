@@ -0,0 +1,27 @@
+package com.easyconfig.server.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 环境全量配置快照（只包含启用的配置）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigSnapshotResponse {
+
+    private Long environmentId;
+
+    private String environmentName;
+
+    /**
+     * 快照对应的环境修订号，客户端可据此发起长轮询
+     */
+    private long revision;
+
+    private Map<String, String> configs;
+}
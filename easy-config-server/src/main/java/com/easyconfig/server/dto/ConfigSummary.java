@@ -0,0 +1,39 @@
+package com.easyconfig.server.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置摘要（不包含配置值）
+ * <p>
+ * 由 JPQL 构造表达式直接生成，查询不读取 config_value 大字段；需要配置值时按 ID 批量获取
+ * （参见 {@code GET /config/values}）。字段顺序与构造表达式一致，调整时需同步修改查询
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigSummary {
+
+    private Long id;
+
+    private Long environmentId;
+
+    private String configKey;
+
+    private String valueType;
+
+    private String description;
+
+    private String groupName;
+
+    private Boolean encrypted;
+
+    private Boolean enabled;
+
+    private Long version;
+
+    private LocalDateTime updatedAt;
+}
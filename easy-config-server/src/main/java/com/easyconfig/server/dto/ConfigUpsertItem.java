@@ -0,0 +1,46 @@
+package com.easyconfig.server.dto;
+
+import com.easyconfig.server.entity.Config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量写入中的单个配置
+ * <p>
+ * 配置已存在时只更新非空字段，不存在时按默认值创建
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigUpsertItem {
+
+    private String configKey;
+
+    private String configValue;
+
+    private String valueType;
+
+    private String description;
+
+    private String groupName;
+
+    private Boolean encrypted;
+
+    private Boolean enabled;
+
+    public Config toConfig() {
+        return Config.builder()
+                .configKey(configKey)
+                .configValue(configValue)
+                .valueType(valueType)
+                .description(description)
+                .groupName(groupName)
+                .encrypted(encrypted)
+                .enabled(enabled)
+                .build();
+    }
+}
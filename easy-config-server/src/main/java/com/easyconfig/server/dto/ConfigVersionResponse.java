@@ -0,0 +1,38 @@
+package com.easyconfig.server.dto;
+
+import java.time.LocalDateTime;
+
+import com.easyconfig.server.event.ConfigOperation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置历史版本（配置值已还原为完整值）
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigVersionResponse {
+
+    private Long id;
+
+    private Long configId;
+
+    private Long environmentId;
+
+    private Long revision;
+
+    private Long version;
+
+    private String configKey;
+
+    private String configValue;
+
+    private ConfigOperation operation;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 键集分页结果
+ * <p>
+ * nextCursor 为不透明的续页令牌，原样传回即可获取下一页；没有更多数据时为 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * 整页转换，适用于需要批量处理一页数据的场景（如批量加载关联数据）
+     */
+    public <R> CursorPage<R> mapItems(Function<? super List<T>, List<R>> mapper) {
+        return new CursorPage<>(mapper.apply(items), nextCursor);
+    }
+}
@@ -0,0 +1,55 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 配置导入结果
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+
+    private Long environmentId;
+
+    /**
+     * 导入状态：SUCCESS / FAILED / PARTIAL
+     */
+    private String status;
+
+    /**
+     * 最后一个成功分块写入后的环境修订号（没有分块成功时为 0）
+     */
+    private long revision;
+
+    /**
+     * 从文件中读取的配置条数
+     */
+    private int total;
+
+    private int created;
+
+    private int updated;
+
+    private int unchanged;
+
+    /**
+     * 未能写入的配置条数（非法配置键和失败分块中的配置）
+     */
+    private int failed;
+
+    private int chunks;
+
+    private int failedChunks;
+
+    /**
+     * 错误信息（最多保留前若干条）
+     */
+    private List<String> errors;
+}
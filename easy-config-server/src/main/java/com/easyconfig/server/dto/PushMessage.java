@@ -0,0 +1,25 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WebSocket 推送消息
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PushMessage {
+
+    private Long environmentId;
+
+    /**
+     * 本批变更中最新的环境修订号
+     */
+    private long revision;
+
+    private List<ConfigDelta> changes;
+}
@@ -0,0 +1,40 @@
+package com.easyconfig.server.dto;
+
+import com.easyconfig.server.entity.ConfigReleaseItem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 发布中的单个配置变更
+ * <p>
+ * action 为空时按 UPSERT 处理；UPSERT 只更新非空字段
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseItemRequest {
+
+    private String configKey;
+
+    private ConfigReleaseItem.Action action;
+
+    private String configValue;
+
+    private String valueType;
+
+    private Boolean enabled;
+
+    public ConfigReleaseItem toItem() {
+        return ConfigReleaseItem.builder()
+                .configKey(configKey)
+                .action(action != null ? action : ConfigReleaseItem.Action.UPSERT)
+                .configValue(configValue)
+                .valueType(valueType)
+                .enabled(enabled)
+                .build();
+    }
+}
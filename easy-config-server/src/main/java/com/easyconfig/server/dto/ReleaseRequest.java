@@ -0,0 +1,24 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 创建发布请求
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseRequest {
+
+    private Long environmentId;
+
+    private String name;
+
+    private String description;
+
+    private List<ReleaseItemRequest> items;
+}
@@ -0,0 +1,57 @@
+package com.easyconfig.server.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.easyconfig.server.entity.ConfigRelease;
+import com.easyconfig.server.entity.ConfigReleaseItem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 发布详情（包含全部配置变更）
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseResponse {
+
+    private Long id;
+
+    private Long environmentId;
+
+    private String name;
+
+    private String description;
+
+    private ConfigRelease.Status status;
+
+    private Long revision;
+
+    private Long rollbackOf;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private List<ConfigReleaseItem> items;
+
+    public static ReleaseResponse of(ConfigRelease release, List<ConfigReleaseItem> items) {
+        return ReleaseResponse.builder()
+                .id(release.getId())
+                .environmentId(release.getEnvironmentId())
+                .name(release.getName())
+                .description(release.getDescription())
+                .status(release.getStatus())
+                .revision(release.getRevision())
+                .rollbackOf(release.getRollbackOf())
+                .createdAt(release.getCreatedAt())
+                .publishedAt(release.getPublishedAt())
+                .items(items)
+                .build();
+    }
+}
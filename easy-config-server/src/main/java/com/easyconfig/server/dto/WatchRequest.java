@@ -0,0 +1,38 @@
+package com.easyconfig.server.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 长轮询监听请求
+ * <p>
+ * 二选一：
+ * - 携带 revision，环境内任意配置变更时返回
+ * - 携带 keys（配置键 -> 已知版本号，null 表示客户端认为该键不存在），只有这些键变化时返回
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WatchRequest {
+
+    private Long environmentId;
+
+    private Long revision;
+
+    private Map<String, Long> keys;
+
+    /**
+     * 命名空间（如 payment.gateway），只在按修订号监听时生效：只有该命名空间下的变更才会唤醒
+     */
+    private String namespace;
+
+    /**
+     * 挂起超时时间（毫秒），必须为正数，为空时使用服务端默认值
+     */
+    private Long timeout;
+}
@@ -0,0 +1,28 @@
+package com.easyconfig.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 长轮询监听结果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WatchResult {
+
+    private Long environmentId;
+
+    /**
+     * 环境当前修订号
+     */
+    private long revision;
+
+    /**
+     * 发生变化的配置键，为空表示需要客户端全量刷新
+     */
+    private List<String> changedKeys;
+}
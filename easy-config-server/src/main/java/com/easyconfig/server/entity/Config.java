@@ -15,10 +15,11 @@ import java.time.LocalDateTime;
     @UniqueConstraint(columnNames = {"environment_id", "config_key"}, name = "uk_config_env_key")
 }, indexes = {
     @Index(name = "idx_config_group", columnList = "group_name"),
-    @Index(name = "idx_config_enabled", columnList = "enabled")
+    @Index(name = "idx_config_enabled", columnList = "enabled"),
+    @Index(name = "idx_config_env_id", columnList = "environment_id, id")
 })
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Config {
@@ -56,6 +57,10 @@ public class Config {
     @Builder.Default
     private Boolean enabled = true;
 
+    /**
+     * 乐观锁版本号：更新时按加载时的版本号比较并递增，被并发修改时更新失败
+     */
+    @Version
     @Column(name = "version")
     @Builder.Default
     private Long version = 1L;
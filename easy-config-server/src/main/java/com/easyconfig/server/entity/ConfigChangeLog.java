@@ -0,0 +1,82 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.easyconfig.server.event.ConfigOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 配置变更审计日志
+ * <p>
+ * 由 {@link com.easyconfig.server.audit.ConfigAuditWriter} 批量写入；
+ * 不与 config 表建立外键，配置删除后日志仍然保留，异步写入也不受配置删除的影响
+ */
+@Entity
+@Table(name = "config_change_log", indexes = {
+    @Index(name = "idx_log_config", columnList = "config_id"),
+    @Index(name = "idx_log_operation", columnList = "operation"),
+    @Index(name = "idx_log_created", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "config_id", nullable = false)
+    private Long configId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private ConfigOperation operation;
+
+    @Lob
+    @Column(name = "old_config_value", columnDefinition = "CLOB")
+    private String oldConfigValue;
+
+    @Lob
+    @Column(name = "new_config_value", columnDefinition = "CLOB")
+    private String newConfigValue;
+
+    @Column(name = "operator", length = 50)
+    private String operator;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = 500)
+    private String userAgent;
+
+    @Column(name = "change_reason", length = 500)
+    private String changeReason;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 根据变更后的配置构建审计日志
+     *
+     * @param config    变更后的配置
+     * @param operation 操作类型
+     * @param oldValue  变更前的配置值
+     * @return 审计日志
+     */
+    public static ConfigChangeLog of(Config config, ConfigOperation operation, String oldValue) {
+        return ConfigChangeLog.builder()
+                .configId(config.getId())
+                .operation(operation)
+                .oldConfigValue(oldValue)
+                .newConfigValue(operation == ConfigOperation.DELETE ? null : config.getConfigValue())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
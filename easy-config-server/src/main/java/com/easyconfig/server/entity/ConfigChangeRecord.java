@@ -0,0 +1,50 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.easyconfig.server.event.ConfigOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 配置变更流水
+ * <p>
+ * 每次配置变更按环境修订号记录一行，只记录发生变化的配置键和操作类型，不保存配置值；
+ * 增量同步时根据修订号找出变化的键，再从当前配置中取值或返回删除标记
+ */
+@Entity
+@Table(name = "config_change_feed", indexes = {
+    @Index(name = "idx_change_feed_env_revision", columnList = "environment_id, revision")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigChangeRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "environment_id", nullable = false)
+    private Long environmentId;
+
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @Column(name = "config_key", nullable = false, length = 200)
+    private String configKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private ConfigOperation operation;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
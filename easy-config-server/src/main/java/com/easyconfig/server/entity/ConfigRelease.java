@@ -0,0 +1,83 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 环境发布
+ * <p>
+ * 一组预先整理好的配置变更（{@link ConfigReleaseItem}），发布时在同一事务内整体应用，
+ * 只递增一次环境修订号并触发一次推送；发布时记录各配置键的原值，回滚时据此一步恢复
+ */
+@Entity
+@Table(name = "config_release", indexes = {
+    @Index(name = "idx_release_env_status", columnList = "environment_id, status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigRelease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "environment_id", nullable = false)
+    private Long environmentId;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.DRAFT;
+
+    /**
+     * 发布后的环境修订号，未发布时为 null
+     */
+    @Column(name = "revision")
+    private Long revision;
+
+    /**
+     * 回滚发布所撤销的发布ID，普通发布为 null
+     */
+    @Column(name = "rollback_of")
+    private Long rollbackOf;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * 发布状态
+     */
+    public enum Status {
+
+        /**
+         * 草稿，尚未应用
+         */
+        DRAFT,
+
+        /**
+         * 已应用
+         */
+        PUBLISHED,
+
+        /**
+         * 已应用，随后被回滚
+         */
+        ROLLED_BACK
+    }
+}
@@ -0,0 +1,83 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 发布中的单个配置变更
+ * <p>
+ * previous* 字段在发布时填充，记录应用前该配置键的状态，回滚时用于恢复；
+ * 回滚只恢复配置值、值类型和启用状态，被删除后又恢复的配置其描述、分组等属性使用默认值
+ */
+@Entity
+@Table(name = "config_release_item", indexes = {
+    @Index(name = "idx_release_item_release", columnList = "release_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigReleaseItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "release_id", nullable = false)
+    private Long releaseId;
+
+    @Column(name = "config_key", nullable = false, length = 200)
+    private String configKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 10)
+    private Action action;
+
+    /**
+     * UPSERT 时写入的配置值，为 null 时保持原值（新建的配置为 null）
+     */
+    @Lob
+    @Column(name = "config_value", columnDefinition = "CLOB")
+    private String configValue;
+
+    @Column(name = "value_type", length = 20)
+    private String valueType;
+
+    @Column(name = "enabled")
+    private Boolean enabled;
+
+    /**
+     * 发布前该配置键是否存在
+     */
+    @Column(name = "previous_exists")
+    private Boolean previousExists;
+
+    @Lob
+    @Column(name = "previous_value", columnDefinition = "CLOB")
+    private String previousValue;
+
+    @Column(name = "previous_value_type", length = 20)
+    private String previousValueType;
+
+    @Column(name = "previous_enabled")
+    private Boolean previousEnabled;
+
+    /**
+     * 变更动作
+     */
+    public enum Action {
+
+        /**
+         * 存在则更新，不存在则创建
+         */
+        UPSERT,
+
+        /**
+         * 删除
+         */
+        DELETE
+    }
+}
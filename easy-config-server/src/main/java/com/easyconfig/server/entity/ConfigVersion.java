@@ -0,0 +1,110 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.easyconfig.server.event.ConfigOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 配置版本历史
+ * <p>
+ * 每次配置变更记录一行。较大的配置值以基准快照为参照只保存差异部分（DELTA），
+ * 每条差异记录都直接指向所属的完整快照（FULL），还原任意版本最多读取两行；
+ * 不与 config 表建立外键，配置删除后历史仍然保留
+ */
+@Entity
+@Table(name = "config_version", indexes = {
+    @Index(name = "idx_version_config", columnList = "config_id"),
+    @Index(name = "idx_version_env_revision", columnList = "environment_id, revision")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "config_id", nullable = false)
+    private Long configId;
+
+    @Column(name = "environment_id")
+    private Long environmentId;
+
+    /**
+     * 变更后的环境修订号
+     */
+    @Column(name = "revision")
+    private Long revision;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "config_key", nullable = false, length = 200)
+    private String configKey;
+
+    /**
+     * FULL 时为完整配置值，DELTA 时为相对基准快照的差异（见 {@link #getStorageType()}）
+     */
+    @Lob
+    @Column(name = "config_value", columnDefinition = "CLOB")
+    private String configValue;
+
+    /**
+     * 变更后配置是否启用
+     */
+    @Column(name = "enabled")
+    private Boolean enabled;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", length = 10)
+    @Builder.Default
+    private StorageType storageType = StorageType.FULL;
+
+    /**
+     * DELTA 记录所参照的完整快照ID，FULL 记录为 null
+     */
+    @Column(name = "base_version_id")
+    private Long baseVersionId;
+
+    /**
+     * 距离所属完整快照的记录数，FULL 记录为 0
+     */
+    @Column(name = "chain_index")
+    @Builder.Default
+    private Integer chainIndex = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private ConfigOperation operation;
+
+    @Column(name = "operator", length = 50)
+    private String operator;
+
+    @Column(name = "change_reason", length = 500)
+    private String changeReason;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 配置值存储方式
+     */
+    public enum StorageType {
+        /**
+         * 完整配置值
+         */
+        FULL,
+        /**
+         * 相对基准快照的差异
+         */
+        DELTA
+    }
+}
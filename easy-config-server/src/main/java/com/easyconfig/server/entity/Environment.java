@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
     @Index(name = "idx_env_name", columnList = "name")
 })
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Environment {
@@ -38,6 +38,15 @@ public class Environment {
     @Builder.Default
     private Integer sortOrder = 0;
 
+    /**
+     * 环境修订号，环境内任意配置变更都会使其单调递增
+     * <p>
+     * 只允许通过 EnvironmentRepository#incrementRevision 原子递增，实体更新时不写回该字段
+     */
+    @Column(name = "revision", updatable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
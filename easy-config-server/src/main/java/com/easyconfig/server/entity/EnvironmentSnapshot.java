@@ -0,0 +1,53 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 环境配置快照
+ * <p>
+ * 物化某个环境修订号时环境下的全部配置（包括禁用的配置），按时间点读取环境时
+ * 从不晚于目标修订号的最近快照开始回放 config_version 中的历史即可。
+ * 基线快照（baseline）直接从 config 表生成，其之前的历史不完整，不能作为回放起点
+ */
+@Entity
+@Table(name = "environment_snapshot", indexes = {
+    @Index(name = "idx_env_snapshot_revision", columnList = "environment_id, revision")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnvironmentSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "environment_id", nullable = false)
+    private Long environmentId;
+
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @Column(name = "config_count", nullable = false)
+    private Integer configCount;
+
+    @Column(name = "baseline", nullable = false)
+    private Boolean baseline;
+
+    /**
+     * 配置集合（JSON）
+     */
+    @Lob
+    @Column(name = "content", columnDefinition = "CLOB")
+    private String content;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
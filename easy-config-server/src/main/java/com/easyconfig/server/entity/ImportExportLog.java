@@ -0,0 +1,78 @@
+package com.easyconfig.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 导入导出日志
+ */
+@Entity
+@Table(name = "import_export_log", indexes = {
+    @Index(name = "idx_import_env", columnList = "environment_id"),
+    @Index(name = "idx_import_type", columnList = "operation_type"),
+    @Index(name = "idx_import_created", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportExportLog {
+
+    public static final String OPERATION_IMPORT = "IMPORT";
+    public static final String OPERATION_EXPORT = "EXPORT";
+
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_PARTIAL = "PARTIAL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 操作类型（IMPORT/EXPORT）
+     */
+    @Column(name = "operation_type", nullable = false, length = 20)
+    private String operationType;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    /**
+     * 文件格式（YAML/PROPERTIES/JSON）
+     */
+    @Column(name = "file_format", nullable = false, length = 20)
+    private String fileFormat;
+
+    @Column(name = "environment_id")
+    private Long environmentId;
+
+    @Column(name = "record_count")
+    private Integer recordCount;
+
+    /**
+     * 状态（SUCCESS/FAILED/PARTIAL）
+     */
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Lob
+    @Column(name = "error_message", columnDefinition = "CLOB")
+    private String errorMessage;
+
+    @Column(name = "file_path", length = 500)
+    private String filePath;
+
+    @Column(name = "operator", length = 50)
+    private String operator;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
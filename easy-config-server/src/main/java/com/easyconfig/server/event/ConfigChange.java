@@ -0,0 +1,63 @@
+package com.easyconfig.server.event;
+
+import com.easyconfig.server.entity.Config;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 单个配置项的变更记录
+ * <p>
+ * 作为 {@link ConfigChangeEvent} 的组成部分，描述某个配置键发生了什么操作
+ */
+@Value
+@Builder
+public class ConfigChange {
+
+    Long configId;
+
+    String configKey;
+
+    ConfigOperation operation;
+
+    String groupName;
+
+    String description;
+
+    Long version;
+
+    Boolean enabled;
+
+    /**
+     * 变更后客户端可见的版本号
+     * <p>
+     * 配置被删除或处于禁用状态时对客户端不可见，返回 null
+     *
+     * @return 版本号，不可见时为 null
+     */
+    public Long getVisibleVersion() {
+        if (operation == ConfigOperation.DELETE || !Boolean.TRUE.equals(enabled)) {
+            return null;
+        }
+        return version;
+    }
+
+    /**
+     * 根据配置实体构建变更记录
+     *
+     * @param config    配置实体
+     * @param operation 操作类型
+     * @return 变更记录
+     */
+    public static ConfigChange of(Config config, ConfigOperation operation) {
+        return ConfigChange.builder()
+                .configId(config.getId())
+                .configKey(config.getConfigKey())
+                .operation(operation)
+                .groupName(config.getGroupName())
+                .description(config.getDescription())
+                .version(config.getVersion())
+                .enabled(config.getEnabled())
+                .build();
+    }
+}
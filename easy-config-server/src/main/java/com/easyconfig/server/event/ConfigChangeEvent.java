@@ -0,0 +1,24 @@
+package com.easyconfig.server.event;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * 配置变更事件
+ * <p>
+ * 由 ConfigService 在每次配置变更时发布，一个事件只对应一个环境。
+ * 监听方应使用 {@code @TransactionalEventListener}，保证只在事务提交后才感知到变更。
+ */
+@Value
+public class ConfigChangeEvent {
+
+    Long environmentId;
+
+    /**
+     * 本次变更后环境的修订号
+     */
+    long revision;
+
+    List<ConfigChange> changes;
+}
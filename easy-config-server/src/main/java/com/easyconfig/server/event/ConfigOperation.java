@@ -0,0 +1,19 @@
+package com.easyconfig.server.event;
+
+/**
+ * 配置变更操作类型
+ * <p>
+ * 名称与 config_version / config_change_log 表中的 operation 字段取值保持一致
+ */
+public enum ConfigOperation {
+
+    CREATE,
+
+    UPDATE,
+
+    DELETE,
+
+    ENABLE,
+
+    DISABLE
+}
@@ -0,0 +1,14 @@
+package com.easyconfig.server.event;
+
+import lombok.Value;
+
+/**
+ * 环境创建或更新事件（名称、描述、排序变化）
+ * <p>
+ * 由 EnvironmentService 在事务内发布，缓存环境信息的组件在事务提交后据此失效
+ */
+@Value
+public class EnvironmentChangedEvent {
+
+    Long environmentId;
+}
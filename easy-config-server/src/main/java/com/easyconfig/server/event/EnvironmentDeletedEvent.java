@@ -0,0 +1,15 @@
+package com.easyconfig.server.event;
+
+import lombok.Value;
+
+/**
+ * 环境删除事件
+ * <p>
+ * 环境下的配置由数据库级联删除，不会逐条发布 {@link ConfigChangeEvent}；
+ * 按环境维护内存数据的组件监听本事件（{@code @TransactionalEventListener}）清理该环境的数据
+ */
+@Value
+public class EnvironmentDeletedEvent {
+
+    Long environmentId;
+}
@@ -0,0 +1,33 @@
+package com.easyconfig.server.exception;
+
+import com.easyconfig.server.dto.ConfigResponse;
+
+import lombok.Getter;
+
+/**
+ * 配置版本冲突：调用方基于的版本号已被其他写入覆盖
+ * <p>
+ * 由 {@link com.easyconfig.server.controller.ApiExceptionHandler} 转换为 409 响应，并附带配置的当前值
+ */
+@Getter
+public class ConfigVersionConflictException extends RuntimeException {
+
+    private final Long configId;
+
+    private final Long expectedVersion;
+
+    /**
+     * 冲突时配置的当前值；在刷新时才发现冲突时为 null，由异常处理器重新查询
+     */
+    private final transient ConfigResponse current;
+
+    public ConfigVersionConflictException(Long configId, Long expectedVersion, ConfigResponse current) {
+        super(current != null
+                ? "Config with id '" + configId + "' is at version " + current.getVersion()
+                        + ", expected version " + expectedVersion
+                : "Config with id '" + configId + "' was modified concurrently, expected version " + expectedVersion);
+        this.configId = configId;
+        this.expectedVersion = expectedVersion;
+        this.current = current;
+    }
+}
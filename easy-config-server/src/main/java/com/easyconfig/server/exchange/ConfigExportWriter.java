@@ -0,0 +1,34 @@
+package com.easyconfig.server.exchange;
+
+import java.io.IOException;
+
+/**
+ * 配置导出写入器
+ * <p>
+ * 按 start → write × N → finish 的顺序调用，每条配置写入后即可丢弃，不在内存中累积
+ */
+public interface ConfigExportWriter {
+
+    /**
+     * 写入文件头
+     *
+     * @throws IOException 写入失败
+     */
+    void start() throws IOException;
+
+    /**
+     * 写入单条配置
+     *
+     * @param key   配置键
+     * @param value 配置值（可能为 null）
+     * @throws IOException 写入失败
+     */
+    void write(String key, String value) throws IOException;
+
+    /**
+     * 写入文件尾并刷新缓冲区（不关闭底层输出流）
+     *
+     * @throws IOException 写入失败
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.easyconfig.server.exchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 配置导入导出文件格式
+ */
+public enum ConfigFileFormat {
+
+    YAML("yaml", "application/x-yaml"),
+
+    PROPERTIES("properties", "text/plain"),
+
+    JSON("json", "application/json");
+
+    private final String extension;
+
+    private final String contentType;
+
+    ConfigFileFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 创建写入指定输出流的导出写入器
+     *
+     * @param out 输出流（写入器不会关闭该输出流）
+     * @return 导出写入器
+     * @throws IOException 初始化失败
+     */
+    public ConfigExportWriter newWriter(OutputStream out) throws IOException {
+        return switch (this) {
+            case YAML -> new YamlExportWriter(out);
+            case PROPERTIES -> new PropertiesExportWriter(out);
+            case JSON -> new JsonExportWriter(out);
+        };
+    }
+
+    /**
+     * 创建读取指定输入流的导入读取器
+     *
+     * @param in 输入流（关闭读取器时一并关闭）
+     * @return 导入读取器
+     * @throws IOException 初始化失败
+     */
+    public ConfigImportReader newReader(InputStream in) throws IOException {
+        return switch (this) {
+            case YAML -> new YamlImportReader(in);
+            case PROPERTIES -> new PropertiesImportReader(in);
+            case JSON -> new JsonImportReader(in);
+        };
+    }
+
+    /**
+     * 根据名称或扩展名解析文件格式（不区分大小写，yml 视为 YAML）
+     *
+     * @param value 格式名称或扩展名
+     * @return 文件格式
+     * @throws IllegalArgumentException 如果格式不支持
+     */
+    public static ConfigFileFormat of(String value) {
+        if (value != null) {
+            for (ConfigFileFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            if ("yml".equalsIgnoreCase(value)) {
+                return YAML;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported config file format '" + value + "'");
+    }
+}
@@ -0,0 +1,23 @@
+package com.easyconfig.server.exchange;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 配置导入读取器
+ * <p>
+ * 增量解析上传的文件，嵌套结构在读取时即展开为点分配置键（列表元素为 {@code key[0]}），
+ * 不在内存中构建完整的文档树
+ */
+public interface ConfigImportReader extends Closeable {
+
+    /**
+     * 读取下一条配置
+     *
+     * @return 配置键值对（值可能为 null），读取完毕返回 null
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 文件内容格式错误
+     */
+    Map.Entry<String, String> next() throws IOException;
+}
@@ -0,0 +1,53 @@
+package com.easyconfig.server.exchange;
+
+/**
+ * 导入时展开嵌套结构的当前层级
+ * <p>
+ * 对象层级的子节点为 {@code parent.key}，列表层级的子节点为 {@code parent[index]}
+ */
+final class FlatteningPath {
+
+    private final String prefix;
+
+    private final boolean mapping;
+
+    private String key;
+
+    private int index;
+
+    private FlatteningPath(String prefix, boolean mapping) {
+        this.prefix = prefix;
+        this.mapping = mapping;
+    }
+
+    static FlatteningPath root() {
+        return new FlatteningPath("", true);
+    }
+
+    static FlatteningPath child(String prefix, boolean mapping) {
+        return new FlatteningPath(prefix, mapping);
+    }
+
+    /**
+     * 当前是否等待对象的下一个键
+     */
+    boolean expectsKey() {
+        return mapping && key == null;
+    }
+
+    void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 返回下一个子节点的完整配置键，并移动到下一个位置
+     */
+    String nextChild() {
+        if (mapping) {
+            String child = prefix.isEmpty() ? key : prefix + "." + key;
+            key = null;
+            return child;
+        }
+        return prefix + "[" + index++ + "]";
+    }
+}
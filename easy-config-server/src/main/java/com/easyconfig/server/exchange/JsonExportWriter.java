@@ -0,0 +1,42 @@
+package com.easyconfig.server.exchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * JSON 导出写入器
+ * <p>
+ * 通过 Jackson 流式 API 输出扁平对象（{@code {"app.name": "demo", ...}}）
+ */
+class JsonExportWriter implements ConfigExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    private final JsonGenerator generator;
+
+    JsonExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+    }
+
+    @Override
+    public void start() throws IOException {
+        generator.writeStartObject();
+    }
+
+    @Override
+    public void write(String key, String value) throws IOException {
+        generator.writeStringField(key, value);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.writeEndObject();
+        generator.flush();
+    }
+}
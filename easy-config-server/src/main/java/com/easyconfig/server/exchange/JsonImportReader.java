@@ -0,0 +1,72 @@
+package com.easyconfig.server.exchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * JSON 导入读取器
+ * <p>
+ * 基于 Jackson 流式 API 逐个读取 token，嵌套对象展开为点分配置键
+ */
+class JsonImportReader implements ConfigImportReader {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    private final JsonParser parser;
+
+    private final Deque<FlatteningPath> path = new ArrayDeque<>();
+
+    JsonImportReader(InputStream in) throws IOException {
+        this.parser = JSON_FACTORY.createParser(in);
+    }
+
+    @Override
+    public Map.Entry<String, String> next() throws IOException {
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> {
+                        boolean mapping = token == JsonToken.START_OBJECT;
+                        if (path.isEmpty()) {
+                            if (!mapping) {
+                                throw new IllegalArgumentException("JSON root must be an object");
+                            }
+                            path.push(FlatteningPath.root());
+                        } else {
+                            path.push(FlatteningPath.child(path.peek().nextChild(), mapping));
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> path.pop();
+                    case FIELD_NAME -> path.peek().setKey(parser.currentName());
+                    case VALUE_NULL -> {
+                        return new AbstractMap.SimpleImmutableEntry<>(path.peek().nextChild(), null);
+                    }
+                    default -> {
+                        if (path.isEmpty()) {
+                            throw new IllegalArgumentException("JSON root must be an object");
+                        }
+                        return new AbstractMap.SimpleImmutableEntry<>(path.peek().nextChild(), parser.getText());
+                    }
+                }
+            }
+            return null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
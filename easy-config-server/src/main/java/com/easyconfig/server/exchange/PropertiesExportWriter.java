@@ -0,0 +1,73 @@
+package com.easyconfig.server.exchange;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Properties 导出写入器
+ * <p>
+ * 按 {@link java.util.Properties#store} 的转义规则逐行输出，非 ASCII 字符转义为 \\uXXXX，
+ * 读取方无论按 ISO-8859-1 还是 UTF-8 解析都能得到相同结果
+ */
+class PropertiesExportWriter implements ConfigExportWriter {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final Writer writer;
+
+    PropertiesExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.ISO_8859_1));
+    }
+
+    @Override
+    public void start() {
+        // Properties 文件没有文件头
+    }
+
+    @Override
+    public void write(String key, String value) throws IOException {
+        escape(key, true);
+        writer.write('=');
+        if (value != null) {
+            escape(value, false);
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void escape(String text, boolean isKey) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case ' ' -> writer.write(i == 0 || isKey ? "\\ " : " ");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\f' -> writer.write("\\f");
+                case '\\', '=', ':', '#', '!' -> {
+                    writer.write('\\');
+                    writer.write(c);
+                }
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        writer.write("\\u");
+                        writer.write(HEX[(c >> 12) & 0xF]);
+                        writer.write(HEX[(c >> 8) & 0xF]);
+                        writer.write(HEX[(c >> 4) & 0xF]);
+                        writer.write(HEX[c & 0xF]);
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
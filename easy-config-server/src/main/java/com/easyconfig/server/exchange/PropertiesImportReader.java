@@ -0,0 +1,129 @@
+package com.easyconfig.server.exchange;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Map;
+
+/**
+ * Properties 导入读取器
+ * <p>
+ * 按 {@link java.util.Properties#load(java.io.Reader)} 的语法逐行解析（注释、续行、转义），
+ * 每次只持有当前一条逻辑行；文件按 UTF-8 读取，兼容 \\uXXXX 转义
+ */
+class PropertiesImportReader implements ConfigImportReader {
+
+    private final BufferedReader reader;
+
+    PropertiesImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Map.Entry<String, String> next() throws IOException {
+        String line = readLogicalLine();
+        if (line == null) {
+            return null;
+        }
+
+        int keyEnd = 0;
+        boolean escaped = false;
+        while (keyEnd < line.length()) {
+            char c = line.charAt(keyEnd);
+            if (!escaped && (c == '=' || c == ':' || isWhitespace(c))) {
+                break;
+            }
+            escaped = c == '\\' && !escaped;
+            keyEnd++;
+        }
+        int valueStart = keyEnd;
+        while (valueStart < line.length() && isWhitespace(line.charAt(valueStart))) {
+            valueStart++;
+        }
+        if (valueStart < line.length() && (line.charAt(valueStart) == '=' || line.charAt(valueStart) == ':')) {
+            valueStart++;
+            while (valueStart < line.length() && isWhitespace(line.charAt(valueStart))) {
+                valueStart++;
+            }
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(unescape(line.substring(0, keyEnd)),
+                unescape(line.substring(valueStart)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 读取一条逻辑行：跳过空行和注释，合并以奇数个反斜杠结尾的续行
+     */
+    private String readLogicalLine() throws IOException {
+        StringBuilder logical = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int start = 0;
+            while (start < line.length() && isWhitespace(line.charAt(start))) {
+                start++;
+            }
+            if (logical == null && (start == line.length()
+                    || line.charAt(start) == '#' || line.charAt(start) == '!')) {
+                continue;
+            }
+            int backslashes = 0;
+            for (int i = line.length() - 1; i >= start && line.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+            if (logical == null) {
+                logical = new StringBuilder();
+            }
+            if (backslashes % 2 == 1) {
+                logical.append(line, start, line.length() - 1);
+                continue;
+            }
+            return logical.append(line, start, line.length()).toString();
+        }
+        return logical == null ? null : logical.toString();
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i == text.length() - 1) {
+                result.append(c);
+                continue;
+            }
+            c = text.charAt(++i);
+            switch (c) {
+                case 't' -> result.append('\t');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 'f' -> result.append('\f');
+                case 'u' -> {
+                    if (i + 4 >= text.length()) {
+                        throw new IllegalArgumentException("Malformed \\uXXXX encoding in properties");
+                    }
+                    try {
+                        result.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Malformed \\uXXXX encoding in properties", e);
+                    }
+                    i += 4;
+                }
+                default -> result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
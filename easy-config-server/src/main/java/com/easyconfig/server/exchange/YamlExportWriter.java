@@ -0,0 +1,79 @@
+package com.easyconfig.server.exchange;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * YAML 导出写入器
+ * <p>
+ * 通过 SnakeYAML 事件 API 逐条输出，配置键保持扁平的点分形式（如 {@code app.name: demo}），
+ * Spring Boot 可直接加载；字符串值在可能被解析为其他类型时自动加引号
+ */
+class YamlExportWriter implements ConfigExportWriter {
+
+    private final Writer writer;
+
+    private final Emitter emitter;
+
+    private final Resolver resolver = new Resolver();
+
+    YamlExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setAllowUnicode(true);
+        options.setWidth(Integer.MAX_VALUE);
+        this.emitter = new Emitter(writer, options);
+    }
+
+    @Override
+    public void start() throws IOException {
+        emitter.emit(new StreamStartEvent(null, null));
+        emitter.emit(new DocumentStartEvent(null, null, false, null, null));
+        emitter.emit(new MappingStartEvent(null, null, true, null, null, DumperOptions.FlowStyle.BLOCK));
+    }
+
+    @Override
+    public void write(String key, String value) throws IOException {
+        emitter.emit(scalar(key));
+        if (value == null) {
+            emitter.emit(new ScalarEvent(null, Tag.NULL.getValue(), new ImplicitTuple(true, false), "null",
+                    null, null, DumperOptions.ScalarStyle.PLAIN));
+        } else {
+            emitter.emit(scalar(value));
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        emitter.emit(new MappingEndEvent(null, null));
+        emitter.emit(new DocumentEndEvent(null, null, false));
+        emitter.emit(new StreamEndEvent(null, null));
+        writer.flush();
+    }
+
+    private ScalarEvent scalar(String value) {
+        // 与 SnakeYAML Serializer 一致：只有按普通标量解析仍是字符串时才允许不加引号
+        boolean plainImplicit = Tag.STR.equals(resolver.resolve(NodeId.scalar, value, true));
+        return new ScalarEvent(null, Tag.STR.getValue(), new ImplicitTuple(plainImplicit, true), value,
+                null, null, DumperOptions.ScalarStyle.PLAIN);
+    }
+}
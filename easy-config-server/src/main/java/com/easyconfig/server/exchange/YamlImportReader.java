@@ -0,0 +1,108 @@
+package com.easyconfig.server.exchange;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * YAML 导入读取器
+ * <p>
+ * 基于 SnakeYAML 事件 API，只维护当前路径上的嵌套层级；
+ * 多个文档按顺序读取，别名（*alias）需要回溯已解析的内容，不支持
+ */
+class YamlImportReader implements ConfigImportReader {
+
+    private final Reader reader;
+
+    private final Iterator<Event> events;
+
+    private final Resolver resolver = new Resolver();
+
+    private final Deque<FlatteningPath> path = new ArrayDeque<>();
+
+    YamlImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        LoaderOptions options = new LoaderOptions();
+        // 默认 3MB 的长度上限针对整个输入流，导入大文件时放开
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        this.events = new Yaml(options).parse(reader).iterator();
+    }
+
+    @Override
+    public Map.Entry<String, String> next() {
+        try {
+            while (events.hasNext()) {
+                Event event = events.next();
+                if (event instanceof ScalarEvent scalar) {
+                    if (path.isEmpty()) {
+                        continue;
+                    }
+                    FlatteningPath parent = path.peek();
+                    if (parent.expectsKey()) {
+                        parent.setKey(scalar.getValue());
+                        continue;
+                    }
+                    return new AbstractMap.SimpleImmutableEntry<>(parent.nextChild(), valueOf(scalar));
+                } else if (event instanceof CollectionStartEvent) {
+                    boolean mapping = event instanceof MappingStartEvent;
+                    if (path.isEmpty()) {
+                        if (!mapping) {
+                            throw new IllegalArgumentException("YAML document root must be a mapping");
+                        }
+                        path.push(FlatteningPath.root());
+                    } else {
+                        FlatteningPath parent = path.peek();
+                        if (parent.expectsKey()) {
+                            throw new IllegalArgumentException("Complex YAML keys are not supported");
+                        }
+                        path.push(FlatteningPath.child(parent.nextChild(), mapping));
+                    }
+                } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                    path.pop();
+                } else if (event instanceof AliasEvent) {
+                    throw new IllegalArgumentException("YAML aliases are not supported");
+                }
+            }
+            return null;
+        } catch (YAMLException e) {
+            throw new IllegalArgumentException("Invalid YAML: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String valueOf(ScalarEvent scalar) {
+        String tag = scalar.getTag();
+        if (Tag.NULL.getValue().equals(tag)) {
+            return null;
+        }
+        if (tag == null && scalar.isPlain()
+                && Tag.NULL.equals(resolver.resolve(NodeId.scalar, scalar.getValue(), true))) {
+            return null;
+        }
+        return scalar.getValue();
+    }
+}
@@ -0,0 +1,51 @@
+package com.easyconfig.server.monitor;
+
+/**
+ * 当前线程的 SQL 语句计数
+ * <p>
+ * 由 {@link SqlStatementCountFilter} 在每个请求开始时开启、结束时关闭；
+ * {@link SqlStatementCountingDataSource} 每创建一条语句（Statement / PreparedStatement / CallableStatement）计数一次，
+ * JPA 和 JdbcTemplate 的语句都会被统计。未开启计数的线程（启动、后台任务）不统计
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * 在当前线程开启计数（已开启时重新从 0 开始）
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * 关闭当前线程的计数
+     *
+     * @return 开启以来执行的语句数，未开启时返回 0
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * 当前线程开启计数以来执行的语句数
+     *
+     * @return 语句数，未开启时返回 0
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.easyconfig.server.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.ConfigChangeRecord;
+
+@Repository
+public interface ConfigChangeRecordRepository extends JpaRepository<ConfigChangeRecord, Long> {
+
+    /**
+     * 查询指定修订号之后发生变化的配置键（去重）
+     *
+     * @param environmentId 环境ID
+     * @param revision      起始修订号（不包含）
+     * @return 配置键列表
+     */
+    @Query("SELECT DISTINCT r.configKey FROM ConfigChangeRecord r "
+            + "WHERE r.environmentId = :environmentId AND r.revision > :revision")
+    List<String> findDistinctConfigKeysSince(@Param("environmentId") Long environmentId,
+            @Param("revision") Long revision);
+
+    /**
+     * 查询环境最早保留的变更修订号
+     *
+     * @param environmentId 环境ID
+     * @return 最早的修订号，没有变更记录时返回 null
+     */
+    @Query("SELECT MIN(r.revision) FROM ConfigChangeRecord r WHERE r.environmentId = :environmentId")
+    Long findMinRevisionByEnvironmentId(@Param("environmentId") Long environmentId);
+}
@@ -0,0 +1,277 @@
+package com.easyconfig.server.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigChangeLog;
+import com.easyconfig.server.entity.ConfigChangeRecord;
+import com.easyconfig.server.entity.ConfigVersion;
+
+/**
+ * 配置批量写入和流式读取（JDBC）
+ * <p>
+ * Config 使用 IDENTITY 主键，Hibernate 无法对插入做 JDBC 批处理，批量写入绕过 JPA 直接使用 JdbcTemplate。
+ * 在 JPA 事务内调用时与 JPA 共用同一个数据库连接和事务。
+ * 写入不会经过 Hibernate 的持久化上下文，调用方需要自行设置时间戳和版本号
+ */
+@Repository
+public class ConfigJdbcRepository {
+
+    /**
+     * 单个 JDBC 批次的最大语句数
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO config (environment_id, config_key, config_value, "
+            + "value_type, description, group_name, encrypted, enabled, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE config SET config_value = ?, value_type = ?, description = ?, "
+            + "group_name = ?, encrypted = ?, enabled = ?, version = ?, updated_at = ? WHERE id = ? AND version = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM config WHERE id = ?";
+
+    private static final String INSERT_VERSION_SQL = "INSERT INTO config_version (config_id, environment_id, "
+            + "revision, version, config_key, config_value, enabled, storage_type, base_version_id, chain_index, "
+            + "operation, operator, change_reason, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CHANGE_RECORD_SQL = "INSERT INTO config_change_feed (environment_id, "
+            + "revision, config_key, operation, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CHANGE_LOG_SQL = "INSERT INTO config_change_log (config_id, operation, "
+            + "old_config_value, new_config_value, operator, ip_address, user_agent, change_reason, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 流式查询时每次从数据库读取的行数（嵌入式 H2 忽略该值，需要在连接上开启 LAZY_QUERY_EXECUTION）
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * config_key 上的范围条件和按 (environment_id, config_key) 排序让查询走 uk_config_env_key 索引顺序读取，
+     * 否则 H2 选择外键索引后需要先排序整个结果集，惰性执行也无法逐行返回
+     */
+    private static final String STREAM_ENABLED_SQL = "SELECT config_key, config_value FROM config "
+            + "WHERE environment_id = ? AND config_key >= '' AND enabled = TRUE ORDER BY environment_id, config_key";
+
+    private static final String STREAM_METADATA_SQL = "SELECT id, environment_id, config_key, description, group_name "
+            + "FROM config";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 通过只进游标逐行读取环境下的启用配置（按配置键排序）
+     * <p>
+     * 每行读取后立即交给回调处理，不构建实体也不在内存中累积结果；回调抛出的 IOException 包装为 UncheckedIOException
+     *
+     * @param environmentId 环境ID
+     * @param handler       行回调
+     */
+    public void streamEnabledConfigs(Long environmentId, ConfigRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_ENABLED_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, environmentId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                handler.handle(rs.getString(1), rs.getString(2));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 通过只进游标逐行读取全部配置的元数据（不读取配置值）
+     *
+     * @param handler 行回调
+     */
+    public void streamConfigMetadata(ConfigMetadataHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_METADATA_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                rs.getString(4), rs.getString(5)));
+    }
+
+    /**
+     * 批量插入配置，插入后回填自增主键
+     *
+     * @param configs 待插入的配置（需已设置环境）
+     */
+    public void batchInsert(List<Config> configs) {
+        for (int from = 0; from < configs.size(); from += BATCH_SIZE) {
+            List<Config> batch = configs.subList(from, Math.min(from + BATCH_SIZE, configs.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Config config = batch.get(i);
+                            ps.setLong(1, config.getEnvironment().getId());
+                            ps.setString(2, config.getConfigKey());
+                            ps.setString(3, config.getConfigValue());
+                            ps.setString(4, config.getValueType());
+                            ps.setString(5, config.getDescription());
+                            ps.setString(6, config.getGroupName());
+                            ps.setBoolean(7, config.getEncrypted());
+                            ps.setBoolean(8, config.getEnabled());
+                            ps.setLong(9, config.getVersion());
+                            ps.setTimestamp(10, Timestamp.valueOf(config.getCreatedAt()));
+                            ps.setTimestamp(11, Timestamp.valueOf(config.getUpdatedAt()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+        }
+    }
+
+    /**
+     * 按主键批量更新配置内容、版本号和更新时间
+     * <p>
+     * 配置的 version 是递增后的新版本号，只有数据库中仍为 version - 1 的行才会被更新（与 {@code @Version} 一致）
+     *
+     * @param configs 待更新的配置
+     * @return 已被并发修改、未更新的配置
+     */
+    public List<Config> batchUpdate(List<Config> configs) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, configs, BATCH_SIZE, (ps, config) -> {
+            ps.setString(1, config.getConfigValue());
+            ps.setString(2, config.getValueType());
+            ps.setString(3, config.getDescription());
+            ps.setString(4, config.getGroupName());
+            ps.setBoolean(5, config.getEncrypted());
+            ps.setBoolean(6, config.getEnabled());
+            ps.setLong(7, config.getVersion());
+            ps.setTimestamp(8, Timestamp.valueOf(config.getUpdatedAt()));
+            ps.setLong(9, config.getId());
+            ps.setLong(10, config.getVersion() - 1);
+        });
+        List<Config> stale = new ArrayList<>();
+        for (int batch = 0; batch < counts.length; batch++) {
+            for (int i = 0; i < counts[batch].length; i++) {
+                // 驱动无法给出行数时返回 SUCCESS_NO_INFO，只有 0 表示版本号不匹配
+                if (counts[batch][i] == 0) {
+                    stale.add(configs.get(batch * BATCH_SIZE + i));
+                }
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * 按主键批量删除配置
+     *
+     * @param configs 待删除的配置
+     */
+    public void batchDelete(List<Config> configs) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, configs, BATCH_SIZE, (ps, config) -> ps.setLong(1, config.getId()));
+    }
+
+    /**
+     * 批量插入配置历史版本
+     *
+     * @param versions 待插入的历史版本
+     */
+    public void batchInsertVersions(List<ConfigVersion> versions) {
+        jdbcTemplate.batchUpdate(INSERT_VERSION_SQL, versions, BATCH_SIZE, (ps, version) -> {
+            ps.setLong(1, version.getConfigId());
+            ps.setObject(2, version.getEnvironmentId());
+            ps.setObject(3, version.getRevision());
+            ps.setLong(4, version.getVersion());
+            ps.setString(5, version.getConfigKey());
+            ps.setString(6, version.getConfigValue());
+            ps.setObject(7, version.getEnabled());
+            ps.setString(8, version.getStorageType().name());
+            ps.setObject(9, version.getBaseVersionId());
+            ps.setInt(10, version.getChainIndex());
+            ps.setString(11, version.getOperation().name());
+            ps.setString(12, version.getOperator());
+            ps.setString(13, version.getChangeReason());
+            ps.setTimestamp(14, Timestamp.valueOf(version.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 批量插入配置变更流水（主键自增，JPA 的 saveAll 无法合并为批量语句）
+     *
+     * @param records 待插入的变更流水
+     */
+    public void batchInsertChangeRecords(List<ConfigChangeRecord> records) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_RECORD_SQL, records, BATCH_SIZE, (ps, record) -> {
+            ps.setLong(1, record.getEnvironmentId());
+            ps.setLong(2, record.getRevision());
+            ps.setString(3, record.getConfigKey());
+            ps.setString(4, record.getOperation().name());
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * 批量插入配置变更审计日志
+     *
+     * @param logs 待插入的审计日志
+     */
+    public void batchInsertChangeLogs(List<ConfigChangeLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG_SQL, logs, BATCH_SIZE, (ps, changeLog) -> {
+            ps.setLong(1, changeLog.getConfigId());
+            ps.setString(2, changeLog.getOperation().name());
+            ps.setString(3, changeLog.getOldConfigValue());
+            ps.setString(4, changeLog.getNewConfigValue());
+            ps.setString(5, changeLog.getOperator());
+            ps.setString(6, changeLog.getIpAddress());
+            ps.setString(7, changeLog.getUserAgent());
+            ps.setString(8, changeLog.getChangeReason());
+            ps.setTimestamp(9, Timestamp.valueOf(changeLog.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 流式查询的行回调
+     */
+    @FunctionalInterface
+    public interface ConfigRowHandler {
+
+        void handle(String configKey, String configValue) throws IOException;
+    }
+
+    /**
+     * 元数据流式查询的行回调
+     */
+    @FunctionalInterface
+    public interface ConfigMetadataHandler {
+
+        void handle(long id, long environmentId, String configKey, String description, String groupName);
+    }
+}
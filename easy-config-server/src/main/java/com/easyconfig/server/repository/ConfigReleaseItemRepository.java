@@ -0,0 +1,14 @@
+package com.easyconfig.server.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.ConfigReleaseItem;
+
+@Repository
+public interface ConfigReleaseItemRepository extends JpaRepository<ConfigReleaseItem, Long> {
+
+    List<ConfigReleaseItem> findByReleaseIdOrderByIdAsc(Long releaseId);
+}
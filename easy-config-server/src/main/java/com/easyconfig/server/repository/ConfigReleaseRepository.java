@@ -0,0 +1,42 @@
+package com.easyconfig.server.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.ConfigRelease;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ConfigReleaseRepository extends JpaRepository<ConfigRelease, Long> {
+
+    List<ConfigRelease> findByEnvironmentIdOrderByIdDesc(Long environmentId);
+
+    /**
+     * 根据 ID 查询发布并加行锁（SELECT ... FOR UPDATE）
+     * <p>
+     * 发布、回滚、删除前调用，同一发布上的并发操作串行执行，后执行的一方读取到的是已提交的最新状态
+     *
+     * @param id 发布ID
+     * @return 发布（如果存在）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ConfigRelease r WHERE r.id = :id")
+    Optional<ConfigRelease> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 查询环境最近一次应用且未被回滚的普通发布（不包括回滚发布）
+     *
+     * @param environmentId 环境ID
+     * @param status        发布状态
+     * @return 发布
+     */
+    Optional<ConfigRelease> findTopByEnvironmentIdAndStatusAndRollbackOfIsNullOrderByRevisionDescIdDesc(
+            Long environmentId, ConfigRelease.Status status);
+}
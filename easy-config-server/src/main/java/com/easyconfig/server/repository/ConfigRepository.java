@@ -1,13 +1,20 @@
 package com.easyconfig.server.repository;
 
+import com.easyconfig.server.dto.ConfigCounts;
+import com.easyconfig.server.dto.ConfigSummary;
 import com.easyconfig.server.entity.Config;
 import com.easyconfig.server.entity.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +42,15 @@ public interface ConfigRepository extends JpaRepository<Config, Long> {
      */
     Optional<Config> findByEnvironmentIdAndConfigKey(Long environmentId, String configKey);
 
+    /**
+     * 根据环境ID和一组配置键批量查询配置
+     *
+     * @param environmentId 环境ID
+     * @param configKeys    配置键集合
+     * @return 配置列表（只包含存在的配置）
+     */
+    List<Config> findByEnvironmentIdAndConfigKeyIn(Long environmentId, Collection<String> configKeys);
+
     /**
      * 根据配置键模糊查询所有环境的配置
      *
@@ -275,4 +291,228 @@ public interface ConfigRepository extends JpaRepository<Config, Long> {
      * @return 配置列表（按更新时间倒序）
      */
     List<Config> findByEnvironmentIdOrderByUpdatedAtDesc(Long environmentId);
+
+    // ==================== 键集分页（WHERE id > ? ORDER BY id LIMIT ?） ====================
+    // 以下查询按主键升序返回一页结果，position 为上一页最后一条记录的位置
+    // （第一页使用 ScrollPosition.keyset()），不使用 OFFSET，翻到任意深度的代价都相同
+
+    /**
+     * 查询所有配置（键集分页）
+     */
+    Window<Config> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdOrderByIdAsc(Long environmentId, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID查询启用的配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndEnabledTrueOrderByIdAsc(
+            Long environmentId, ScrollPosition position, Limit limit);
+
+    /**
+     * 查询所有启用的配置（键集分页）
+     */
+    Window<Config> findByEnabledTrueOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * 查询所有禁用的配置（键集分页）
+     */
+    Window<Config> findByEnabledFalseOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * 查询所有加密的配置（键集分页）
+     */
+    Window<Config> findByEncryptedTrueOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID查询加密的配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndEncryptedTrueOrderByIdAsc(
+            Long environmentId, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据配置键模糊查询所有环境的配置（键集分页）
+     */
+    Window<Config> findByConfigKeyContainingOrderByIdAsc(String configKey, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和配置键模糊查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndConfigKeyContainingOrderByIdAsc(
+            Long environmentId, String configKey, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据描述模糊查询配置（键集分页）
+     */
+    Window<Config> findByDescriptionContainingOrderByIdAsc(String keyword, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和描述模糊查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndDescriptionContainingOrderByIdAsc(
+            Long environmentId, String keyword, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据分组名称查询所有环境的配置（键集分页）
+     */
+    Window<Config> findByGroupNameOrderByIdAsc(String groupName, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和分组名称查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndGroupNameOrderByIdAsc(
+            Long environmentId, String groupName, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据值类型查询配置（键集分页）
+     */
+    Window<Config> findByValueTypeOrderByIdAsc(String valueType, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和值类型查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndValueTypeOrderByIdAsc(
+            Long environmentId, String valueType, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据创建时间范围查询配置（键集分页）
+     */
+    Window<Config> findByCreatedAtBetweenOrderByIdAsc(
+            LocalDateTime start, LocalDateTime end, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和创建时间范围查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndCreatedAtBetweenOrderByIdAsc(
+            Long environmentId, LocalDateTime start, LocalDateTime end, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据更新时间范围查询配置（键集分页）
+     */
+    Window<Config> findByUpdatedAtBetweenOrderByIdAsc(
+            LocalDateTime start, LocalDateTime end, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID和更新时间范围查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndUpdatedAtBetweenOrderByIdAsc(
+            Long environmentId, LocalDateTime start, LocalDateTime end, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境、启用状态和分组查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndEnabledAndGroupNameOrderByIdAsc(
+            Long environmentId, Boolean enabled, String groupName, ScrollPosition position, Limit limit);
+
+    /**
+     * 根据环境ID、启用状态和加密状态查询配置（键集分页）
+     */
+    Window<Config> findByEnvironmentIdAndEnabledAndEncryptedOrderByIdAsc(
+            Long environmentId, Boolean enabled, Boolean encrypted, ScrollPosition position, Limit limit);
+
+    // ==================== 跨环境查询（同一条 SQL 中加载环境） ====================
+    // 环境是懒加载关联，跨环境的结果逐条访问 config.getEnvironment() 时每个环境各发出一次查询；
+    // 以下查询通过实体图 JOIN 环境表，返回的配置离开事务后也可以直接读取环境
+
+    /**
+     * 查询所有配置（一并加载环境）
+     *
+     * @return 配置列表
+     */
+    @EntityGraph(attributePaths = "environment")
+    @Query("SELECT c FROM Config c")
+    List<Config> findAllWithEnvironment();
+
+    /**
+     * 根据分组名称查询所有环境的配置（一并加载环境）
+     *
+     * @param groupName 分组名称
+     * @return 配置列表
+     */
+    @EntityGraph(attributePaths = "environment")
+    List<Config> findWithEnvironmentByGroupName(String groupName);
+
+    /**
+     * 查询所有启用的配置（一并加载环境）
+     *
+     * @return 配置列表
+     */
+    @EntityGraph(attributePaths = "environment")
+    List<Config> findWithEnvironmentByEnabledTrue();
+
+    /**
+     * 根据值类型查询所有环境的配置（一并加载环境）
+     *
+     * @param valueType 值类型（STRING/NUMBER/BOOLEAN/JSON）
+     * @return 配置列表
+     */
+    @EntityGraph(attributePaths = "environment")
+    List<Config> findWithEnvironmentByValueType(String valueType);
+
+    // ==================== 轻量查询（不读取 config_value 大字段） ====================
+
+    /**
+     * 查询环境下的配置摘要（按主键升序，键集分页）
+     *
+     * @param environmentId 环境ID
+     * @param afterId       上一页最后一条记录的主键，第一页为 0
+     * @param limit         最多返回的条数
+     * @return 配置摘要列表
+     */
+    @Query("SELECT new com.easyconfig.server.dto.ConfigSummary(c.id, c.environment.id, c.configKey, c.valueType, "
+            + "c.description, c.groupName, c.encrypted, c.enabled, c.version, c.updatedAt) FROM Config c "
+            + "WHERE c.environment.id = :environmentId AND c.id > :afterId ORDER BY c.id")
+    List<ConfigSummary> findSummariesByEnvironmentId(@Param("environmentId") Long environmentId,
+            @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * 查询环境下指定分组的配置摘要（按主键升序，键集分页）
+     *
+     * @param environmentId 环境ID
+     * @param groupName     分组名称
+     * @param afterId       上一页最后一条记录的主键，第一页为 0
+     * @param limit         最多返回的条数
+     * @return 配置摘要列表
+     */
+    @Query("SELECT new com.easyconfig.server.dto.ConfigSummary(c.id, c.environment.id, c.configKey, c.valueType, "
+            + "c.description, c.groupName, c.encrypted, c.enabled, c.version, c.updatedAt) FROM Config c "
+            + "WHERE c.environment.id = :environmentId AND c.groupName = :groupName AND c.id > :afterId "
+            + "ORDER BY c.id")
+    List<ConfigSummary> findSummariesByEnvironmentIdAndGroupName(@Param("environmentId") Long environmentId,
+            @Param("groupName") String groupName, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * 按主键批量查询配置值
+     *
+     * @param ids 配置ID集合
+     * @return 配置ID和配置值（只包含存在的配置）
+     */
+    @Query("SELECT c.id AS id, c.configValue AS configValue FROM Config c WHERE c.id IN :ids")
+    List<ConfigValueView> findValuesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 一次聚合查询统计环境下的配置总数、启用数、禁用数和加密数
+     *
+     * @param environmentId 环境ID
+     * @return 数量统计
+     */
+    @Query("SELECT new com.easyconfig.server.dto.ConfigCounts(COUNT(c), "
+            + "SUM(CASE WHEN c.enabled = TRUE THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN c.enabled = FALSE THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN c.encrypted = TRUE THEN 1L ELSE 0L END)) "
+            + "FROM Config c WHERE c.environment.id = :environmentId")
+    ConfigCounts countSummaryByEnvironmentId(@Param("environmentId") Long environmentId);
+
+    /**
+     * 配置值投影
+     */
+    interface ConfigValueView {
+
+        Long getId();
+
+        String getConfigValue();
+    }
 }
@@ -0,0 +1,56 @@
+package com.easyconfig.server.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.ConfigVersion;
+
+@Repository
+public interface ConfigVersionRepository extends JpaRepository<ConfigVersion, Long> {
+
+    /**
+     * 查询配置的全部历史版本（最新的在前）
+     *
+     * @param configId 配置ID
+     * @return 历史版本列表
+     */
+    List<ConfigVersion> findByConfigIdOrderByIdDesc(Long configId);
+
+    /**
+     * 查询每个配置最新的一条历史版本
+     *
+     * @param configIds 配置ID集合
+     * @return 历史版本列表（没有历史的配置不返回）
+     */
+    @Query("SELECT v FROM ConfigVersion v WHERE v.id IN ("
+            + "SELECT MAX(h.id) FROM ConfigVersion h WHERE h.configId IN :configIds GROUP BY h.configId)")
+    List<ConfigVersion> findLatestByConfigIdIn(@Param("configIds") Collection<Long> configIds);
+
+    /**
+     * 按修订号区间查询环境的历史版本（按写入顺序）
+     *
+     * @param environmentId 环境ID
+     * @param fromRevision  起始修订号（不含）
+     * @param toRevision    结束修订号（含）
+     * @return 历史版本列表
+     */
+    List<ConfigVersion> findByEnvironmentIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByIdAsc(
+            Long environmentId, Long fromRevision, Long toRevision);
+
+    /**
+     * 查询环境在指定时间点（含）之前的最大修订号
+     *
+     * @param environmentId 环境ID
+     * @param time          时间点
+     * @return 修订号，没有历史时为 null
+     */
+    @Query("SELECT MAX(v.revision) FROM ConfigVersion v WHERE v.environmentId = :environmentId AND v.createdAt <= :time")
+    Long findMaxRevisionByEnvironmentIdAndCreatedAtOrBefore(@Param("environmentId") Long environmentId,
+            @Param("time") LocalDateTime time);
+}
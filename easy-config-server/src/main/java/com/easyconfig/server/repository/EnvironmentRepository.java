@@ -1,10 +1,16 @@
 package com.easyconfig.server.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.easyconfig.server.entity.Environment;
+
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -14,8 +20,6 @@ public interface EnvironmentRepository extends JpaRepository<Environment, Long>
 
     Optional<Environment> findByName(String name);
 
-    Optional<Environment> findById(long id);
-
     @Query("SELECT e FROM Environment e WHERE e.description LIKE %:keyword%")
     List<Environment> findByDescription(String keyword);
 
@@ -26,4 +30,33 @@ public interface EnvironmentRepository extends JpaRepository<Environment, Long>
     List<Environment> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     List<Environment> findByUpdatedAtBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * 原子递增环境修订号
+     *
+     * @param id 环境ID
+     * @return 受影响的行数
+     */
+    @Modifying
+    @Query("UPDATE Environment e SET e.revision = e.revision + 1 WHERE e.id = :id")
+    int incrementRevision(@Param("id") Long id);
+
+    /**
+     * 只查询环境修订号
+     *
+     * @param id 环境ID
+     * @return 修订号（如果环境存在）
+     */
+    @Query("SELECT e.revision FROM Environment e WHERE e.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    /**
+     * 加锁查询环境（SELECT ... FOR UPDATE），与配置变更递增修订号互斥
+     *
+     * @param id 环境ID
+     * @return 环境（如果存在）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Environment e WHERE e.id = :id")
+    Optional<Environment> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,32 @@
+package com.easyconfig.server.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.EnvironmentSnapshot;
+
+@Repository
+public interface EnvironmentSnapshotRepository extends JpaRepository<EnvironmentSnapshot, Long> {
+
+    /**
+     * 查询不晚于指定修订号的最近快照
+     *
+     * @param environmentId 环境ID
+     * @param revision      修订号
+     * @return 快照
+     */
+    Optional<EnvironmentSnapshot> findTopByEnvironmentIdAndRevisionLessThanEqualOrderByRevisionDesc(
+            Long environmentId, Long revision);
+
+    /**
+     * 查询环境最新的快照
+     *
+     * @param environmentId 环境ID
+     * @return 快照
+     */
+    Optional<EnvironmentSnapshot> findTopByEnvironmentIdOrderByRevisionDesc(Long environmentId);
+
+    boolean existsByEnvironmentId(Long environmentId);
+}
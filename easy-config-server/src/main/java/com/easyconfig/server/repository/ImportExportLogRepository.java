@@ -0,0 +1,14 @@
+package com.easyconfig.server.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.easyconfig.server.entity.ImportExportLog;
+
+@Repository
+public interface ImportExportLogRepository extends JpaRepository<ImportExportLog, Long> {
+
+    List<ImportExportLog> findByEnvironmentIdOrderByCreatedAtDesc(Long environmentId);
+}
@@ -0,0 +1,484 @@
+package com.easyconfig.server.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 配置搜索索引（内存 trigram 倒排索引）
+ * <p>
+ * 对 config_key、description、group_name 的小写形式建立倒排索引，替代 {@code LIKE '%x%'} 全表扫描：
+ * - 每个配置对应一个递增的文档编号，倒排表是按文档编号升序的 int 数组，查询时对各 trigram 的倒排表求交集，
+ *   再逐个校验候选文档
+ * - 每个单词（以非字母数字字符分隔）开头额外索引 1~2 个字符的前缀，长度不足 3 的查询按单词前缀匹配
+ * - 第一次搜索时从数据库流式加载全部配置的元数据（不读取配置值）；之后在配置变更提交后按
+ *   {@link ConfigChangeEvent} 增量更新：旧文档只打墓碑标记，新内容追加为新文档，墓碑超过一半时整体压缩
+ * <p>
+ * 结果按匹配位置评分：配置键完全相等 > 配置键前缀 > 配置键单词前缀 > 配置键子串 > 分组 > 描述，
+ * 同分时配置键较短的在前
+ */
+@Slf4j
+@Component
+public class ConfigSearchIndex {
+
+    /**
+     * 单词前缀标记，不会出现在正常文本中
+     */
+    private static final char BOUNDARY = '\uFFFF';
+
+    /**
+     * 墓碑数量达到该值且超过文档数一半时压缩索引
+     */
+    static final int COMPACT_MIN_TOMBSTONES = 1024;
+
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingInt((ScoredDocument scored) -> scored.score)
+            .thenComparing(scored -> scored.configKey.length(), Comparator.reverseOrder())
+            .thenComparing(scored -> scored.configKey, Comparator.reverseOrder())
+            .thenComparing(scored -> scored.document, Comparator.reverseOrder());
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean loaded;
+
+    private long[] configIds = new long[1024];
+
+    private long[] environmentIds = new long[1024];
+
+    private String[] keys = new String[1024];
+
+    private String[] descriptions = new String[1024];
+
+    private String[] groups = new String[1024];
+
+    private int documentCount;
+
+    private final BitSet tombstones = new BitSet();
+
+    private int tombstoneCount;
+
+    private final Map<Long, Integer> documentsByConfigId = new HashMap<>();
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    /**
+     * 搜索配置
+     *
+     * @param query         关键字（不区分大小写；长度不足 3 时只匹配单词开头）
+     * @param environmentId 环境ID，为 null 时搜索所有环境
+     * @param limit         最多返回的条数
+     * @return 按相关度排序的结果
+     */
+    public List<ConfigSearchHit> search(String query, Long environmentId, int limit) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            IntList candidates = candidates(normalized);
+            boolean prefixOnly = normalized.length() < 3;
+            PriorityQueue<ScoredDocument> top = new PriorityQueue<>(limit + 1, RANKING);
+            for (int i = 0; i < candidates.size; i++) {
+                int document = candidates.values[i];
+                if (tombstones.get(document)
+                        || (environmentId != null && environmentIds[document] != environmentId)) {
+                    continue;
+                }
+                int score = score(document, normalized, prefixOnly);
+                if (score == 0) {
+                    continue;
+                }
+                top.add(new ScoredDocument(document, score, keys[document]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<ConfigSearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ScoredDocument scored = top.poll();
+                int document = scored.document;
+                hits.add(new ConfigSearchHit(configIds[document], environmentIds[document], keys[document],
+                        groups[document], descriptions[document], scored.score));
+            }
+            // 最小堆弹出顺序为由低到高
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 配置变更提交后增量更新索引
+     * <p>
+     * 删除只在文档仍属于该环境、配置键仍相同时生效：修改环境或配置键时，同一配置的删除和更新可能以任意顺序到达
+     *
+     * @param event 配置变更事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            // 尚未加载时忽略，第一次搜索会从数据库读取已提交的最新状态
+            if (!loaded) {
+                return;
+            }
+            long environmentId = event.getEnvironmentId();
+            for (ConfigChange change : event.getChanges()) {
+                if (change.getConfigId() == null) {
+                    continue;
+                }
+                Integer current = documentsByConfigId.get(change.getConfigId());
+                if (change.getOperation() == ConfigOperation.DELETE) {
+                    if (current != null && environmentIds[current] == environmentId
+                            && keys[current].equals(change.getConfigKey())) {
+                        remove(change.getConfigId(), current);
+                    }
+                    continue;
+                }
+                if (current != null && environmentIds[current] == environmentId
+                        && keys[current].equals(change.getConfigKey())
+                        && Objects.equals(groups[current], change.getGroupName())
+                        && Objects.equals(descriptions[current], change.getDescription())) {
+                    continue;
+                }
+                if (current != null) {
+                    remove(change.getConfigId(), current);
+                }
+                add(change.getConfigId(), environmentId, change.getConfigKey(), change.getDescription(),
+                        change.getGroupName());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 环境删除提交后移除该环境的全部文档（配置由数据库级联删除，没有逐条的变更事件）
+     *
+     * @param event 环境删除事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnvironmentDeleted(EnvironmentDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            long environmentId = event.getEnvironmentId();
+            for (int document = 0; document < documentCount; document++) {
+                if (!tombstones.get(document) && environmentIds[document] == environmentId) {
+                    remove(configIds[document], document);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 当前索引中的有效文档数（未加载时为 0）
+     *
+     * @return 文档数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount - tombstoneCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            configJdbcRepository.streamConfigMetadata(this::add);
+            loaded = true;
+            log.info("Config search index loaded: {} configs, {} grams in {} ms", documentCount, postings.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IntList candidates(String query) {
+        Set<Long> grams = new HashSet<>();
+        if (query.length() >= 3) {
+            for (int i = 0; i + 3 <= query.length(); i++) {
+                grams.add(gram(query.charAt(i), query.charAt(i + 1), query.charAt(i + 2)));
+            }
+        } else {
+            grams.add(prefixGram(query));
+        }
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return IntList.EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        IntList result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.size > 0; i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result;
+    }
+
+    private int score(int document, String query, boolean prefixOnly) {
+        String key = keys[document].toLowerCase(Locale.ROOT);
+        if (key.equals(query)) {
+            return 100;
+        }
+        if (key.startsWith(query)) {
+            return 80;
+        }
+        if (wordPrefix(key, query)) {
+            return 60;
+        }
+        if (!prefixOnly && key.contains(query)) {
+            return 40;
+        }
+        if (groups[document] != null) {
+            String group = groups[document].toLowerCase(Locale.ROOT);
+            if (group.equals(query)) {
+                return 35;
+            }
+            if (wordPrefix(group, query)) {
+                return 30;
+            }
+            if (!prefixOnly && group.contains(query)) {
+                return 25;
+            }
+        }
+        if (descriptions[document] != null) {
+            String description = descriptions[document].toLowerCase(Locale.ROOT);
+            if (wordPrefix(description, query)) {
+                return 20;
+            }
+            if (!prefixOnly && description.contains(query)) {
+                return 10;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean wordPrefix(String text, String query) {
+        for (int i = text.indexOf(query); i >= 0; i = text.indexOf(query, i + 1)) {
+            if (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(long configId, long environmentId, String configKey, String description, String groupName) {
+        if (documentCount == configIds.length) {
+            int capacity = documentCount * 2;
+            configIds = Arrays.copyOf(configIds, capacity);
+            environmentIds = Arrays.copyOf(environmentIds, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            groups = Arrays.copyOf(groups, capacity);
+        }
+        int document = documentCount++;
+        configIds[document] = configId;
+        environmentIds[document] = environmentId;
+        keys[document] = configKey;
+        descriptions[document] = description;
+        groups[document] = groupName;
+        documentsByConfigId.put(configId, document);
+
+        Set<Long> grams = new HashSet<>();
+        collectGrams(configKey, grams);
+        collectGrams(description, grams);
+        collectGrams(groupName, grams);
+        // 文档编号递增，追加后倒排表仍然有序
+        for (Long gram : grams) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(document);
+        }
+    }
+
+    private void remove(long configId, int document) {
+        tombstones.set(document);
+        tombstoneCount++;
+        documentsByConfigId.remove(configId, document);
+    }
+
+    private void compactIfNeeded() {
+        if (tombstoneCount < COMPACT_MIN_TOMBSTONES || tombstoneCount * 2 <= documentCount) {
+            return;
+        }
+        long[] oldConfigIds = configIds;
+        long[] oldEnvironmentIds = environmentIds;
+        String[] oldKeys = keys;
+        String[] oldDescriptions = descriptions;
+        String[] oldGroups = groups;
+        int oldCount = documentCount;
+        BitSet oldTombstones = (BitSet) tombstones.clone();
+
+        int capacity = Math.max(1024, oldCount - tombstoneCount);
+        configIds = new long[capacity];
+        environmentIds = new long[capacity];
+        keys = new String[capacity];
+        descriptions = new String[capacity];
+        groups = new String[capacity];
+        documentCount = 0;
+        tombstones.clear();
+        tombstoneCount = 0;
+        documentsByConfigId.clear();
+        postings.clear();
+        for (int document = 0; document < oldCount; document++) {
+            if (!oldTombstones.get(document)) {
+                add(oldConfigIds[document], oldEnvironmentIds[document], oldKeys[document],
+                        oldDescriptions[document], oldGroups[document]);
+            }
+        }
+        log.debug("Config search index compacted: {} -> {} documents", oldCount, documentCount);
+    }
+
+    private static void collectGrams(String text, Set<Long> grams) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (i + 3 <= lower.length()) {
+                grams.add(gram(lower.charAt(i), lower.charAt(i + 1), lower.charAt(i + 2)));
+            }
+            if (Character.isLetterOrDigit(lower.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(lower.charAt(i - 1)))) {
+                grams.add(prefixGram(lower.substring(i, i + 1)));
+                if (i + 2 <= lower.length()) {
+                    grams.add(prefixGram(lower.substring(i, i + 2)));
+                }
+            }
+        }
+    }
+
+    private static long prefixGram(String prefix) {
+        return prefix.length() == 1
+                ? gram(BOUNDARY, BOUNDARY, prefix.charAt(0))
+                : gram(BOUNDARY, prefix.charAt(0), prefix.charAt(1));
+    }
+
+    private static long gram(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    /**
+     * 候选文档及其得分
+     */
+    private static final class ScoredDocument {
+
+        private final int document;
+
+        private final int score;
+
+        private final String configKey;
+
+        private ScoredDocument(int document, int score, String configKey) {
+            this.document = document;
+            this.score = score;
+            this.configKey = configKey;
+        }
+    }
+
+    /**
+     * 有序的 int 倒排表
+     */
+    private static final class IntList {
+
+        private static final IntList EMPTY = new IntList(new int[0], 0);
+
+        private int[] values;
+
+        private int size;
+
+        private IntList() {
+            this(new int[4], 0);
+        }
+
+        private IntList(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * 与另一个有序表求交集（返回新表，不修改两个输入）
+         */
+        private IntList intersect(IntList other) {
+            int[] result = new int[Math.min(size, other.size)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                int a = values[i];
+                int b = other.values[j];
+                if (a == b) {
+                    result[count++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return new IntList(result, count);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.easyconfig.server.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.easyconfig.server.cache.ConfigKeyTrie;
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.ConfigChangesResponse;
+import com.easyconfig.server.dto.ConfigDelta;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigChangeRecord;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.repository.ConfigChangeRecordRepository;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 配置变更流水服务
+ * <p>
+ * 在配置变更的同一事务内按修订号记录变化的配置键，提供“某修订号之后的变更”增量同步：
+ * - 未删除且启用的配置返回当前值
+ * - 已删除或禁用的配置返回删除标记
+ * - 流水无法覆盖客户端修订号时返回全量配置并标记 reset
+ * - 可以只同步某个命名空间（配置键前缀，按 "." 分段匹配），返回的修订号仍是环境修订号
+ */
+@Service
+public class ConfigChangeFeedService {
+
+    @Autowired
+    private ConfigChangeRecordRepository configChangeRecordRepository;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private ConfigSnapshotCache configSnapshotCache;
+
+    /**
+     * 记录配置变更流水
+     * <p>
+     * 事件在配置变更事务内同步发布，流水与配置变更一起提交或回滚
+     *
+     * @param event 配置变更事件
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onConfigChange(ConfigChangeEvent event) {
+        List<ConfigChangeRecord> records = new ArrayList<>(event.getChanges().size());
+        for (ConfigChange change : event.getChanges()) {
+            records.add(ConfigChangeRecord.builder()
+                    .environmentId(event.getEnvironmentId())
+                    .revision(event.getRevision())
+                    .configKey(change.getConfigKey())
+                    .operation(change.getOperation())
+                    .build());
+        }
+        configJdbcRepository.batchInsertChangeRecords(records);
+    }
+
+    /**
+     * 获取指定修订号之后的配置变更
+     * <p>
+     * 先读取修订号再读取流水和快照：返回的内容只可能比修订号新，客户端下次同步会重复收到少量变更，但不会漏掉
+     *
+     * @param environmentId 环境ID
+     * @param since         客户端已同步到的修订号
+     * @param namespace     命名空间，为空时返回整个环境的变更
+     * @return 增量同步结果
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional(readOnly = true)
+    public ConfigChangesResponse getChangesSince(Long environmentId, long since, String namespace) {
+        String normalized = ConfigKeyTrie.normalize(namespace);
+        environmentService.getEnvironmentById(environmentId);
+        long revision = revisionService.getRevision(environmentId);
+        if (since == revision) {
+            return new ConfigChangesResponse(environmentId, revision, false, List.of());
+        }
+
+        ConfigSnapshot snapshot = configSnapshotCache.getSnapshot(environmentId);
+        if (!isCovered(environmentId, since, revision)) {
+            List<ConfigDelta> changes = new ArrayList<>(snapshot.size());
+            for (Config config : normalized.isEmpty() ? snapshot.values() : snapshot.subtree(normalized)) {
+                if (Boolean.TRUE.equals(config.getEnabled())) {
+                    changes.add(upsert(config));
+                }
+            }
+            return new ConfigChangesResponse(environmentId, revision, true, changes);
+        }
+
+        List<String> changedKeys = configChangeRecordRepository.findDistinctConfigKeysSince(environmentId, since);
+        List<ConfigDelta> changes = new ArrayList<>(changedKeys.size());
+        for (String configKey : changedKeys) {
+            if (!ConfigKeyTrie.contains(normalized, configKey)) {
+                continue;
+            }
+            Config config = snapshot.get(configKey);
+            if (config != null && Boolean.TRUE.equals(config.getEnabled())) {
+                changes.add(upsert(config));
+            } else {
+                changes.add(ConfigDelta.builder().key(configKey).deleted(true).build());
+            }
+        }
+        return new ConfigChangesResponse(environmentId, revision, false, changes);
+    }
+
+    /**
+     * 判断变更流水能否覆盖 (since, revision] 区间
+     * <p>
+     * 客户端修订号比服务端新（服务端数据被重置）、或早于最早保留的流水（启用流水之前的变更）时无法覆盖
+     */
+    private boolean isCovered(Long environmentId, long since, long revision) {
+        if (since < 0 || since > revision) {
+            return false;
+        }
+        Long earliest = configChangeRecordRepository.findMinRevisionByEnvironmentId(environmentId);
+        return earliest != null && since >= earliest - 1;
+    }
+
+    private static ConfigDelta upsert(Config config) {
+        return ConfigDelta.builder()
+                .key(config.getConfigKey())
+                .value(config.getConfigValue())
+                .version(config.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.easyconfig.server.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.entity.ImportExportLog;
+import com.easyconfig.server.exchange.ConfigExportWriter;
+import com.easyconfig.server.exchange.ConfigFileFormat;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import com.easyconfig.server.repository.ImportExportLogRepository;
+
+/**
+ * 配置导出服务
+ * <p>
+ * 通过只进游标逐行读取环境下的启用配置并直接写入输出流，内存占用与环境大小无关；
+ * 导出结果（成功或失败）记录到 import_export_log
+ */
+@Service
+public class ConfigExportService {
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private ImportExportLogRepository importExportLogRepository;
+
+    /**
+     * 导出文件名（环境名称 + 格式扩展名）
+     *
+     * @param environment 环境
+     * @param format      文件格式
+     * @return 文件名
+     */
+    public String getExportFileName(Environment environment, ConfigFileFormat format) {
+        return environment.getName() + "." + format.getExtension();
+    }
+
+    /**
+     * 导出环境下的全部启用配置
+     * <p>
+     * 不在事务内执行：导出通常在异步响应线程中进行，游标只持有一个只读连接
+     *
+     * @param environment 环境
+     * @param format      文件格式
+     * @param out         输出流（不会被关闭）
+     * @return 导出的配置数量
+     * @throws IOException 写入输出流失败（例如客户端断开）
+     */
+    public int exportConfigs(Environment environment, ConfigFileFormat format, OutputStream out) throws IOException {
+        int[] count = {0};
+        try {
+            ConfigExportWriter writer = format.newWriter(out);
+            writer.start();
+            configJdbcRepository.streamEnabledConfigs(environment.getId(), (configKey, configValue) -> {
+                writer.write(configKey, configValue);
+                count[0]++;
+            });
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            saveLog(environment, format, count[0], ImportExportLog.STATUS_FAILED, e.getCause().getMessage());
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            saveLog(environment, format, count[0], ImportExportLog.STATUS_FAILED, e.getMessage());
+            throw e;
+        }
+        saveLog(environment, format, count[0], ImportExportLog.STATUS_SUCCESS, null);
+        return count[0];
+    }
+
+    private void saveLog(Environment environment, ConfigFileFormat format, int recordCount, String status,
+            String errorMessage) {
+        importExportLogRepository.save(ImportExportLog.builder()
+                .operationType(ImportExportLog.OPERATION_EXPORT)
+                .fileName(getExportFileName(environment, format))
+                .fileFormat(format.name())
+                .environmentId(environment.getId())
+                .recordCount(recordCount)
+                .status(status)
+                .errorMessage(errorMessage)
+                .build());
+    }
+}
@@ -0,0 +1,159 @@
+package com.easyconfig.server.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.dto.ImportResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ImportExportLog;
+import com.easyconfig.server.exchange.ConfigFileFormat;
+import com.easyconfig.server.exchange.ConfigImportReader;
+import com.easyconfig.server.repository.ImportExportLogRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 配置导入服务
+ * <p>
+ * 边解析边写入：读取器增量解析文件并展开配置键，每累计一个分块就调用一次
+ * {@link ConfigService#batchUpsertConfigs}，每个分块是独立的事务（本方法本身不开启事务），
+ * 内存占用只与分块大小有关。单个分块失败不影响其他分块，导入结果按
+ * SUCCESS / FAILED / PARTIAL 记录到 import_export_log
+ */
+@Service
+public class ConfigImportService {
+
+    /**
+     * 配置键最大长度（与 config.config_key 字段一致）
+     */
+    private static final int MAX_KEY_LENGTH = 200;
+
+    /**
+     * 结果和日志中保留的错误信息条数上限
+     */
+    private static final int MAX_ERRORS = 100;
+
+    @Autowired
+    private ConfigService configService;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private ImportExportLogRepository importExportLogRepository;
+
+    @Value("${easy-config.import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * 导入配置文件
+     * <p>
+     * 已存在的配置只更新配置值，其余属性保持不变；文件中值为 null 的配置键不会覆盖已有的值。
+     * 同一配置键在文件中出现多次时，同一分块内以最后一次为准，跨分块时后面的分块覆盖前面的分块
+     *
+     * @param environmentId 环境ID
+     * @param format        文件格式
+     * @param fileName      上传的文件名
+     * @param in            文件内容（不会被关闭）
+     * @return 导入结果
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    public ImportResult importConfigs(Long environmentId, ConfigFileFormat format, String fileName, InputStream in) {
+        environmentService.getEnvironmentById(environmentId);
+
+        ImportResult result = ImportResult.builder()
+                .environmentId(environmentId)
+                .errors(new ArrayList<>())
+                .build();
+        boolean aborted = false;
+        try {
+            ConfigImportReader reader = format.newReader(in);
+            Map<String, Config> chunk = new LinkedHashMap<>();
+            Map.Entry<String, String> entry;
+            while ((entry = reader.next()) != null) {
+                result.setTotal(result.getTotal() + 1);
+                String configKey = entry.getKey();
+                if (configKey == null || configKey.isBlank() || configKey.length() > MAX_KEY_LENGTH) {
+                    result.setFailed(result.getFailed() + 1);
+                    addError(result, "Invalid config key '" + configKey + "' at record " + result.getTotal());
+                    continue;
+                }
+                chunk.put(configKey, Config.builder()
+                        .configKey(configKey)
+                        .configValue(entry.getValue())
+                        .valueType(null)
+                        .encrypted(null)
+                        .enabled(null)
+                        .build());
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(environmentId, chunk, result);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(environmentId, chunk, result);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 文件在中途损坏时，已写入的分块保留，剩余内容不再导入
+            aborted = true;
+            addError(result, "Failed to read file after " + result.getTotal() + " records: " + e.getMessage());
+        }
+
+        result.setStatus(resolveStatus(result, aborted));
+        saveLog(fileName, format, result);
+        return result;
+    }
+
+    private void writeChunk(Long environmentId, Map<String, Config> chunk, ImportResult result) {
+        result.setChunks(result.getChunks() + 1);
+        try {
+            BatchUpsertResult written = configService.batchUpsertConfigs(environmentId, new ArrayList<>(chunk.values()));
+            result.setRevision(written.getRevision());
+            result.setCreated(result.getCreated() + written.getCreated());
+            result.setUpdated(result.getUpdated() + written.getUpdated());
+            result.setUnchanged(result.getUnchanged() + written.getUnchanged());
+        } catch (RuntimeException e) {
+            result.setFailed(result.getFailed() + chunk.size());
+            result.setFailedChunks(result.getFailedChunks() + 1);
+            List<String> configKeys = new ArrayList<>(chunk.keySet());
+            addError(result, "Chunk " + result.getChunks() + " (" + configKeys.get(0) + " .. "
+                    + configKeys.get(configKeys.size() - 1) + ", " + chunk.size() + " configs) failed: "
+                    + e.getMessage());
+        }
+    }
+
+    private static String resolveStatus(ImportResult result, boolean aborted) {
+        if (!aborted && result.getFailed() == 0) {
+            return ImportExportLog.STATUS_SUCCESS;
+        }
+        int imported = result.getCreated() + result.getUpdated() + result.getUnchanged();
+        return imported > 0 ? ImportExportLog.STATUS_PARTIAL : ImportExportLog.STATUS_FAILED;
+    }
+
+    private static void addError(ImportResult result, String message) {
+        if (result.getErrors().size() < MAX_ERRORS) {
+            result.getErrors().add(message);
+        }
+    }
+
+    private void saveLog(String fileName, ConfigFileFormat format, ImportResult result) {
+        importExportLogRepository.save(ImportExportLog.builder()
+                .operationType(ImportExportLog.OPERATION_IMPORT)
+                .fileName(fileName != null ? fileName : "upload." + format.getExtension())
+                .fileFormat(format.name())
+                .environmentId(result.getEnvironmentId())
+                .recordCount(result.getCreated() + result.getUpdated() + result.getUnchanged())
+                .status(result.getStatus())
+                .errorMessage(result.getErrors().isEmpty() ? null : String.join("\n", result.getErrors()))
+                .build());
+    }
+}
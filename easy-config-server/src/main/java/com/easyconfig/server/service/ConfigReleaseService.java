@@ -0,0 +1,287 @@
+package com.easyconfig.server.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.easyconfig.server.dto.ReleaseResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigRelease;
+import com.easyconfig.server.entity.ConfigReleaseItem;
+import com.easyconfig.server.repository.ConfigReleaseItemRepository;
+import com.easyconfig.server.repository.ConfigReleaseRepository;
+import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.repository.EnvironmentRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 环境发布服务
+ * <p>
+ * 多个配置键需要一起变更时，先创建草稿发布，再整体发布：
+ * - 全部变更通过 {@link ConfigService#applyChangeset}（回滚时为 {@link ConfigService#restoreChangeset}）在同一事务内应用，
+ *   只递增一次环境修订号、发布一个变更事件，客户端只会看到发布前或发布后的完整状态，并且只收到一次推送
+ * - 发布时记录每个配置键的原值，回滚时生成一个反向发布并同样整体应用，一步恢复到发布前的状态
+ * - 发布和回滚都在环境行锁下进行，同一环境的发布串行执行，记录的原值不会被并发发布覆盖
+ * - 发布、回滚、删除先锁定发布行再检查状态（加锁顺序：发布行、环境行），重复提交同一发布时后到的请求
+ *   读取到已提交的状态并被拒绝，不会再次应用而覆盖记录的原值
+ * <p>
+ * 只能回滚环境最近一次未被回滚的发布（按修订号倒序逐个回滚）；发布之后对相同配置键的直接修改会被回滚覆盖
+ */
+@Service
+@Transactional
+public class ConfigReleaseService {
+
+    @Autowired
+    private ConfigReleaseRepository configReleaseRepository;
+
+    @Autowired
+    private ConfigReleaseItemRepository configReleaseItemRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private ConfigService configService;
+
+    /**
+     * 创建草稿发布
+     *
+     * @param environmentId 环境ID
+     * @param name          发布名称
+     * @param description   发布说明
+     * @param items         配置变更
+     * @return 发布详情
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果名称为空、变更为空，或配置键为空、过长、重复
+     */
+    public ReleaseResponse createRelease(Long environmentId, String name, String description,
+            List<ConfigReleaseItem> items) {
+        if (environmentId == null) {
+            throw new IllegalArgumentException("Environment ID is required");
+        }
+        environmentService.getEnvironmentById(environmentId);
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Release name is required");
+        }
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Release items are required");
+        }
+        Set<String> configKeys = new HashSet<>();
+        for (ConfigReleaseItem item : items) {
+            String configKey = item.getConfigKey();
+            if (configKey == null || configKey.isBlank()) {
+                throw new IllegalArgumentException("Config key is required");
+            }
+            if (configKey.length() > 200) {
+                throw new IllegalArgumentException("Config key '" + configKey + "' is longer than 200 characters");
+            }
+            if (item.getAction() == null) {
+                throw new IllegalArgumentException("Action is required for config key '" + configKey + "'");
+            }
+            if (!configKeys.add(configKey)) {
+                throw new IllegalArgumentException("Duplicate config key '" + configKey + "' in release");
+            }
+        }
+
+        ConfigRelease release = configReleaseRepository.save(ConfigRelease.builder()
+                .environmentId(environmentId)
+                .name(name)
+                .description(description)
+                .status(ConfigRelease.Status.DRAFT)
+                .createdAt(LocalDateTime.now())
+                .build());
+        items.forEach(item -> item.setReleaseId(release.getId()));
+        return ReleaseResponse.of(release, configReleaseItemRepository.saveAll(items));
+    }
+
+    /**
+     * 发布草稿：整体应用全部配置变更
+     *
+     * @param id 发布ID
+     * @return 发布详情（包含各配置键的原值）
+     * @throws EntityNotFoundException  如果发布或环境不存在
+     * @throws IllegalArgumentException 如果发布不是草稿
+     */
+    public ReleaseResponse publishRelease(Long id) {
+        ConfigRelease release = findReleaseForUpdate(id);
+        if (release.getStatus() != ConfigRelease.Status.DRAFT) {
+            throw new IllegalArgumentException("Release with id '" + id + "' is not a draft");
+        }
+        lockEnvironment(release.getEnvironmentId());
+        List<ConfigReleaseItem> items = configReleaseItemRepository.findByReleaseIdOrderByIdAsc(id);
+        apply(release, items);
+        return ReleaseResponse.of(release, items);
+    }
+
+    /**
+     * 回滚发布：把发布涉及的配置键整体恢复到发布前的状态
+     * <p>
+     * 回滚本身记录为一个新的发布（rollbackOf 指向被回滚的发布），原发布标记为 ROLLED_BACK
+     *
+     * @param id 发布ID
+     * @return 回滚发布的详情
+     * @throws EntityNotFoundException  如果发布或环境不存在
+     * @throws IllegalArgumentException 如果发布未应用、本身是回滚发布，或不是环境最近一次发布
+     */
+    public ReleaseResponse rollbackRelease(Long id) {
+        ConfigRelease release = findReleaseForUpdate(id);
+        if (release.getStatus() != ConfigRelease.Status.PUBLISHED) {
+            throw new IllegalArgumentException("Release with id '" + id + "' is not published");
+        }
+        if (release.getRollbackOf() != null) {
+            throw new IllegalArgumentException(
+                    "Release with id '" + id + "' is a rollback and cannot be rolled back, publish a new release instead");
+        }
+        lockEnvironment(release.getEnvironmentId());
+        configReleaseRepository.findTopByEnvironmentIdAndStatusAndRollbackOfIsNullOrderByRevisionDescIdDesc(
+                        release.getEnvironmentId(), ConfigRelease.Status.PUBLISHED)
+                .filter(latest -> !latest.getId().equals(id))
+                .ifPresent(latest -> {
+                    throw new IllegalArgumentException("Only the latest release can be rolled back, release with id '"
+                            + latest.getId() + "' was published after release with id '" + id + "'");
+                });
+
+        ConfigRelease rollback = configReleaseRepository.save(ConfigRelease.builder()
+                .environmentId(release.getEnvironmentId())
+                .name("Rollback of #" + id)
+                .description(release.getName())
+                .status(ConfigRelease.Status.DRAFT)
+                .rollbackOf(id)
+                .createdAt(LocalDateTime.now())
+                .build());
+        List<ConfigReleaseItem> inverse = new ArrayList<>();
+        for (ConfigReleaseItem item : configReleaseItemRepository.findByReleaseIdOrderByIdAsc(id)) {
+            ConfigReleaseItem.ConfigReleaseItemBuilder restore = ConfigReleaseItem.builder()
+                    .releaseId(rollback.getId())
+                    .configKey(item.getConfigKey());
+            if (Boolean.TRUE.equals(item.getPreviousExists())) {
+                restore.action(ConfigReleaseItem.Action.UPSERT)
+                        .configValue(item.getPreviousValue())
+                        .valueType(item.getPreviousValueType())
+                        .enabled(item.getPreviousEnabled());
+            } else {
+                restore.action(ConfigReleaseItem.Action.DELETE);
+            }
+            inverse.add(restore.build());
+        }
+        apply(rollback, inverse);
+        release.setStatus(ConfigRelease.Status.ROLLED_BACK);
+        configReleaseRepository.save(release);
+        return ReleaseResponse.of(rollback, inverse);
+    }
+
+    /**
+     * 删除草稿发布
+     *
+     * @param id 发布ID
+     * @throws EntityNotFoundException  如果发布不存在
+     * @throws IllegalArgumentException 如果发布不是草稿
+     */
+    public void deleteRelease(Long id) {
+        ConfigRelease release = findReleaseForUpdate(id);
+        if (release.getStatus() != ConfigRelease.Status.DRAFT) {
+            throw new IllegalArgumentException("Release with id '" + id + "' is not a draft");
+        }
+        configReleaseItemRepository.deleteAll(configReleaseItemRepository.findByReleaseIdOrderByIdAsc(id));
+        configReleaseRepository.delete(release);
+    }
+
+    /**
+     * 获取发布详情
+     *
+     * @param id 发布ID
+     * @return 发布详情
+     * @throws EntityNotFoundException 如果发布不存在
+     */
+    @Transactional(readOnly = true)
+    public ReleaseResponse getRelease(Long id) {
+        return ReleaseResponse.of(findRelease(id), configReleaseItemRepository.findByReleaseIdOrderByIdAsc(id));
+    }
+
+    /**
+     * 查询环境下的全部发布（最新创建的在前，不包含配置变更）
+     *
+     * @param environmentId 环境ID
+     * @return 发布列表
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigRelease> getReleasesByEnvironment(Long environmentId) {
+        return configReleaseRepository.findByEnvironmentIdOrderByIdDesc(environmentId);
+    }
+
+    /**
+     * 记录各配置键的原值后整体应用变更，并把发布标记为已应用
+     */
+    private void apply(ConfigRelease release, List<ConfigReleaseItem> items) {
+        Map<String, Config> current = new HashMap<>();
+        List<String> configKeys = items.stream().map(ConfigReleaseItem::getConfigKey).toList();
+        for (Config config : configRepository.findByEnvironmentIdAndConfigKeyIn(release.getEnvironmentId(),
+                configKeys)) {
+            current.put(config.getConfigKey(), config);
+        }
+
+        List<Config> upserts = new ArrayList<>();
+        List<String> deleteKeys = new ArrayList<>();
+        for (ConfigReleaseItem item : items) {
+            Config previous = current.get(item.getConfigKey());
+            item.setPreviousExists(previous != null);
+            if (previous != null) {
+                item.setPreviousValue(previous.getConfigValue());
+                item.setPreviousValueType(previous.getValueType());
+                item.setPreviousEnabled(previous.getEnabled());
+            }
+            if (item.getAction() == ConfigReleaseItem.Action.DELETE) {
+                deleteKeys.add(item.getConfigKey());
+                continue;
+            }
+            // 显式设置所有字段，避免 Builder 默认值覆盖已有配置
+            upserts.add(Config.builder()
+                    .configKey(item.getConfigKey())
+                    .configValue(item.getConfigValue())
+                    .valueType(item.getValueType())
+                    .encrypted(null)
+                    .enabled(item.getEnabled())
+                    .build());
+        }
+
+        // 回滚按原样恢复配置值：原值为 null 时也要写回 null，而不是保留发布写入的值
+        long revision = release.getRollbackOf() != null
+                ? configService.restoreChangeset(release.getEnvironmentId(), upserts, deleteKeys)
+                : configService.applyChangeset(release.getEnvironmentId(), upserts, deleteKeys);
+        release.setStatus(ConfigRelease.Status.PUBLISHED);
+        release.setRevision(revision);
+        release.setPublishedAt(LocalDateTime.now());
+        configReleaseRepository.save(release);
+        configReleaseItemRepository.saveAll(items);
+    }
+
+    private ConfigRelease findRelease(Long id) {
+        return configReleaseRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Release with id '" + id + "' not found"));
+    }
+
+    private ConfigRelease findReleaseForUpdate(Long id) {
+        return configReleaseRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Release with id '" + id + "' not found"));
+    }
+
+    private void lockEnvironment(Long environmentId) {
+        environmentRepository.findByIdForUpdate(environmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + environmentId + "' not found"));
+    }
+}
@@ -1,17 +1,60 @@
 package com.easyconfig.server.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.hibernate.exception.ConstraintViolationException;
+
+import com.easyconfig.server.audit.AuditStats;
+import com.easyconfig.server.audit.ConfigAuditWriter;
+import com.easyconfig.server.cache.CacheStats;
+import com.easyconfig.server.cache.ConfigKeyTrie;
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.dto.ConfigCounts;
+import com.easyconfig.server.dto.ConfigNamespace;
+import com.easyconfig.server.dto.ConfigResponse;
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.dto.ConfigSnapshotResponse;
+import com.easyconfig.server.dto.ConfigSummary;
+import com.easyconfig.server.dto.CursorPage;
 import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigChangeLog;
 import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.exception.ConfigVersionConflictException;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
 import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.search.ConfigSearchIndex;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -19,24 +62,78 @@ import jakarta.persistence.EntityNotFoundException;
  * <p>
  * 提供配置的完整 CRUD 操作，包括：
  * - 配置创建、更新、删除（软删除）
- * - 配置查询（按 ID、环境、分组、类型等）
+ * - 配置批量写入
+ * - 配置查询（按 ID、环境、分组、类型等），列表查询另有按主键的键集分页版本（续页令牌见 {@link CursorPage}）
  * - 配置搜索（键名、描述）
  * - 配置启用/禁用
  * - 配置统计
+ * <p>
+ * 每次变更都会在同一事务内递增环境修订号，并发布 {@link ConfigChangeEvent}，供缓存、推送等组件在事务提交后感知；
+ * 变更后的配置同时写入版本历史（{@link ConfigVersionService}）和审计日志（{@link ConfigAuditWriter}）
+ * <p>
+ * 每个方法的耗时按 class、method、exception 标签记录在 easyconfig.config.service 计时器中
  */
 @Service
 @Transactional
+@Timed("easyconfig.config.service")
 public class ConfigService {
 
+    /**
+     * 批量查询时单个 IN 条件的最大参数个数
+     */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
     @Autowired
     private ConfigRepository configRepository;
 
     @Autowired
     private EnvironmentService environmentService;
 
+    @Autowired
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private ConfigVersionService configVersionService;
+
+    @Autowired
+    private ConfigAuditWriter configAuditWriter;
+
+    @Autowired
+    private ConfigSearchIndex configSearchIndex;
+
+    /**
+     * 同一环境下配置键唯一的约束名（小写）
+     */
+    private static final String CONFIG_KEY_CONSTRAINT = "uk_config_env_key";
+
+    /**
+     * 分页查询默认每页条数
+     */
+    @Value("${easy-config.page.default-size:100}")
+    private int defaultPageSize = 100;
+
+    /**
+     * 分页查询每页条数上限，超过时按上限返回
+     */
+    @Value("${easy-config.page.max-size:1000}")
+    private int maxPageSize = 1000;
+
     /**
      * 创建配置
      *
+     * <p>
+     * 不预先查询配置键是否存在，直接插入并依赖唯一约束 uk_config_env_key 判断重复：
+     * 少一次查询，并发创建同一配置键时也只有一个能成功
+     *
      * @param config 配置实体
      * @return 创建后的配置实体
      * @throws IllegalArgumentException 如果环境ID无效或配置键已存在
@@ -49,15 +146,6 @@ public class ConfigService {
 
         Environment environment = environmentService.getEnvironmentById(config.getEnvironment().getId());
 
-        // 检查同一环境下配置键是否已存在
-        Optional<Config> existingConfig = configRepository.findByEnvironmentIdAndConfigKey(
-                environment.getId(), config.getConfigKey());
-        if (existingConfig.isPresent()) {
-            throw new IllegalArgumentException(
-                    "Config with key '" + config.getConfigKey() + "' already exists in environment '"
-                            + environment.getName() + "'");
-        }
-
         // 设置默认值
         if (config.getValueType() == null) {
             config.setValueType("STRING");
@@ -74,7 +162,17 @@ public class ConfigService {
 
         config.setEnvironment(environment);
 
-        return configRepository.save(config);
+        Config saved;
+        try {
+            // 主键自增，persist 时立即执行 INSERT，唯一约束冲突在这里抛出
+            saved = configRepository.save(config);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateKeyOrRethrow(e, config.getConfigKey(), environment.getName());
+        }
+        long revision = publishChange(environment.getId(), ConfigChange.of(saved, ConfigOperation.CREATE));
+        configVersionService.recordVersions(revision, ConfigOperation.CREATE, List.of(saved));
+        configAuditWriter.record(List.of(ConfigChangeLog.of(saved, ConfigOperation.CREATE, null)));
+        return saved;
     }
 
     /**
@@ -87,25 +185,47 @@ public class ConfigService {
      * @throws IllegalArgumentException 如果新键名与其他配置冲突
      */
     public Config updateConfig(Long id, Config config) {
+        return updateConfig(id, config, null);
+    }
+
+    /**
+     * 按期望版本号更新配置（比较并设置）
+     * <p>
+     * 版本号不一致时拒绝更新；读取之后被并发修改时，由 {@code @Version} 在写入时检测，
+     * 两种情况都抛出 {@link ConfigVersionConflictException}，不需要锁定配置行
+     *
+     * @param id              配置ID
+     * @param config          更新的配置实体
+     * @param expectedVersion 期望的当前版本号，为 null 时不比较（仍由 {@code @Version} 防止并发覆盖）
+     * @return 更新后的配置实体
+     * @throws EntityNotFoundException 如果配置不存在
+     * @throws IllegalArgumentException 如果新键名与其他配置冲突
+     * @throws ConfigVersionConflictException 如果配置版本号与期望不一致
+     */
+    public Config updateConfig(Long id, Config config, Long expectedVersion) {
+        // 修改环境或键名时不预先查询冲突，写入后由唯一约束判断
         Config existingConfig = getConfigById(id);
+        Long loadedVersion = existingConfig.getVersion();
+        if (expectedVersion != null && !expectedVersion.equals(loadedVersion)) {
+            throw new ConfigVersionConflictException(id, expectedVersion, toResponse(existingConfig));
+        }
+        Environment previousEnvironment = existingConfig.getEnvironment();
+        Long previousEnvironmentId = previousEnvironment.getId();
+        String previousKey = existingConfig.getConfigKey();
+        String previousValue = existingConfig.getConfigValue();
 
         // 验证环境是否存在
+        Environment targetEnvironment = null;
         if (config.getEnvironment() != null && config.getEnvironment().getId() != null) {
-            Environment environment = environmentService.getEnvironmentById(config.getEnvironment().getId());
-            existingConfig.setEnvironment(environment);
+            targetEnvironment = environmentService.getEnvironmentById(config.getEnvironment().getId());
+            existingConfig.setEnvironment(targetEnvironment);
         }
 
-        // 如果修改了配置键，检查新键名是否与同一环境下的其他配置冲突
-        if (config.getConfigKey() != null && !config.getConfigKey().equals(existingConfig.getConfigKey())) {
-            Optional<Config> configWithSameKey = configRepository.findByEnvironmentIdAndConfigKey(
-                    existingConfig.getEnvironment().getId(), config.getConfigKey());
-            if (configWithSameKey.isPresent() && !configWithSameKey.get().getId().equals(id)) {
-                throw new IllegalArgumentException(
-                        "Config with key '" + config.getConfigKey() + "' already exists in environment '"
-                                + existingConfig.getEnvironment().getName() + "'");
-            }
+        if (config.getConfigKey() != null) {
             existingConfig.setConfigKey(config.getConfigKey());
         }
+        boolean relocated = !existingConfig.getConfigKey().equals(previousKey)
+                || !existingConfig.getEnvironment().getId().equals(previousEnvironmentId);
 
         // 更新字段
         if (config.getConfigValue() != null) {
@@ -127,10 +247,228 @@ public class ConfigService {
             existingConfig.setEnabled(config.getEnabled());
         }
 
-        // 更新版本号
-        existingConfig.setVersion(existingConfig.getVersion() + 1);
+        // 更新版本号（与 Hibernate 按加载时版本号递增的结果一致，发布的变更中即为新版本号）
+        existingConfig.setVersion(loadedVersion + 1);
 
-        return configRepository.save(existingConfig);
+        Config saved = configRepository.save(existingConfig);
+        // 冲突报错需要环境名称：约束冲突后会话不能再查询，先取（通常命中环境缓存）
+        String environmentName = !relocated ? null : targetEnvironment != null ? targetEnvironment.getName()
+                : environmentService.getEnvironmentById(previousEnvironmentId).getName();
+        try {
+            // 立即刷新，唯一约束和版本号检查在这里触发；随后递增修订号时本来也会刷新，不增加数据库往返
+            configRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!relocated) {
+                throw e;
+            }
+            throw duplicateKeyOrRethrow(e, saved.getConfigKey(), environmentName);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConfigVersionConflictException(id, loadedVersion, null);
+        }
+
+        // 环境或键名发生变化时，原位置的配置视为被删除
+        ConfigChange updated = ConfigChange.of(saved, ConfigOperation.UPDATE);
+        ConfigChange removed = ConfigChange.builder()
+                .configId(saved.getId())
+                .configKey(previousKey)
+                .operation(ConfigOperation.DELETE)
+                .groupName(saved.getGroupName())
+                .build();
+        Long environmentId = saved.getEnvironment().getId();
+        long revision;
+        if (!environmentId.equals(previousEnvironmentId)) {
+            long previousRevision = publishChange(previousEnvironmentId, removed);
+            // 对原环境而言配置已被删除，历史中也记录一次删除，按环境回放历史时才能得到正确的配置集合
+            configVersionService.recordVersions(previousRevision, ConfigOperation.DELETE, List.of(saved.toBuilder()
+                    .environment(previousEnvironment)
+                    .configKey(previousKey)
+                    .build()));
+            revision = publishChange(environmentId, updated);
+        } else if (!saved.getConfigKey().equals(previousKey)) {
+            revision = publishChange(environmentId, removed, updated);
+        } else {
+            revision = publishChange(environmentId, updated);
+        }
+        configVersionService.recordVersions(revision, ConfigOperation.UPDATE, List.of(saved));
+        configAuditWriter.record(List.of(ConfigChangeLog.of(saved, ConfigOperation.UPDATE, previousValue)));
+        return saved;
+    }
+
+    /**
+     * 批量写入配置（存在则更新，不存在则创建）
+     * <p>
+     * 整批在同一事务内完成：
+     * - 在内存中校验配置键非空且不重复
+     * - 按 IN 查询一次性找出已存在的配置
+     * - 通过 JDBC 批处理插入和更新，内容未变化的配置不写入、不递增版本号
+     * - 环境修订号只递增一次，发布一个包含全部变更的事件
+     *
+     * @param environmentId 环境ID
+     * @param configs       待写入的配置（已存在的配置只更新非空字段）
+     * @return 写入结果
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果配置列表为空、配置键为空或重复
+     */
+    public BatchUpsertResult batchUpsertConfigs(Long environmentId, List<Config> configs) {
+        if (configs == null || configs.isEmpty()) {
+            throw new IllegalArgumentException("Configs are required");
+        }
+        Environment environment = environmentService.getEnvironmentById(environmentId);
+        AppliedChangeset applied = applyChanges(environment, indexByKey(configs), Set.of(), false);
+        return new BatchUpsertResult(environmentId, applied.revision, applied.created, applied.updated,
+                applied.unchanged);
+    }
+
+    /**
+     * 原子地应用一组配置变更（写入和删除）
+     * <p>
+     * 与 {@link #batchUpsertConfigs(Long, List)} 相同的批量写入路径，另外在同一批次中删除指定的配置键；
+     * 整组变更只递增一次环境修订号、发布一个事件，客户端不会看到只应用了一部分的变更
+     *
+     * @param environmentId 环境ID
+     * @param upserts       待写入的配置（已存在的配置只更新非空字段）
+     * @param deleteKeys    待删除的配置键（不存在的配置键忽略）
+     * @return 应用后的环境修订号（没有任何变化时为当前修订号）
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果配置键为空、重复，或同时出现在写入和删除中
+     */
+    public long applyChangeset(Long environmentId, List<Config> upserts, Collection<String> deleteKeys) {
+        return applyChangeset(environmentId, upserts, deleteKeys, false);
+    }
+
+    /**
+     * 原子地把一组配置恢复到给定状态（用于回滚）
+     * <p>
+     * 与 {@link #applyChangeset(Long, List, Collection)} 相同，区别是已存在配置的配置值按给定值写入，
+     * 给定值为 null 时同样写入 null，而不是保留当前值
+     *
+     * @param environmentId 环境ID
+     * @param restores      待恢复的配置（配置值按原样写入，其他字段只更新非空字段）
+     * @param deleteKeys    待删除的配置键（不存在的配置键忽略）
+     * @return 应用后的环境修订号（没有任何变化时为当前修订号）
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果配置键为空、重复，或同时出现在写入和删除中
+     */
+    public long restoreChangeset(Long environmentId, List<Config> restores, Collection<String> deleteKeys) {
+        return applyChangeset(environmentId, restores, deleteKeys, true);
+    }
+
+    private long applyChangeset(Long environmentId, List<Config> upserts, Collection<String> deleteKeys,
+            boolean exactValues) {
+        Environment environment = environmentService.getEnvironmentById(environmentId);
+        Map<String, Config> requested = indexByKey(upserts);
+        Set<String> deletes = new LinkedHashSet<>(deleteKeys);
+        for (String configKey : deletes) {
+            if (requested.containsKey(configKey)) {
+                throw new IllegalArgumentException(
+                        "Config key '" + configKey + "' cannot be both written and deleted");
+            }
+        }
+        return applyChanges(environment, requested, deletes, exactValues).revision;
+    }
+
+    private Map<String, Config> indexByKey(List<Config> configs) {
+        Map<String, Config> requested = new LinkedHashMap<>();
+        for (Config config : configs) {
+            String configKey = config.getConfigKey();
+            if (configKey == null || configKey.isBlank()) {
+                throw new IllegalArgumentException("Config key is required");
+            }
+            if (requested.putIfAbsent(configKey, config) != null) {
+                throw new IllegalArgumentException("Duplicate config key '" + configKey + "' in batch");
+            }
+        }
+        return requested;
+    }
+
+    private AppliedChangeset applyChanges(Environment environment, Map<String, Config> requested,
+            Set<String> deleteKeys, boolean exactValues) {
+        Long environmentId = environment.getId();
+        Map<String, Config> existing = new HashMap<>();
+        List<String> configKeys = new ArrayList<>(requested.keySet());
+        configKeys.addAll(deleteKeys);
+        for (int from = 0; from < configKeys.size(); from += IN_CLAUSE_SIZE) {
+            List<String> chunk = configKeys.subList(from, Math.min(from + IN_CLAUSE_SIZE, configKeys.size()));
+            for (Config config : configRepository.findByEnvironmentIdAndConfigKeyIn(environmentId, chunk)) {
+                existing.put(config.getConfigKey(), config);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Config> inserts = new ArrayList<>();
+        List<Config> updates = new ArrayList<>();
+        List<ConfigChangeLog> auditLogs = new ArrayList<>();
+        int unchanged = 0;
+        for (Config config : requested.values()) {
+            Config current = existing.get(config.getConfigKey());
+            if (current == null) {
+                inserts.add(Config.builder()
+                        .environment(environment)
+                        .configKey(config.getConfigKey())
+                        .configValue(config.getConfigValue())
+                        .valueType(config.getValueType() != null ? config.getValueType() : "STRING")
+                        .description(config.getDescription())
+                        .groupName(config.getGroupName())
+                        .encrypted(config.getEncrypted() != null ? config.getEncrypted() : false)
+                        .enabled(config.getEnabled() != null ? config.getEnabled() : true)
+                        .version(1L)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+                continue;
+            }
+            // 在副本上合并，避免修改持久化上下文中的实体导致 Hibernate 再次写回
+            Config merged = mergeNonNull(current.toBuilder().build(), config);
+            if (exactValues) {
+                merged.setConfigValue(config.getConfigValue());
+            }
+            if (sameContent(current, merged)) {
+                unchanged++;
+                continue;
+            }
+            merged.setVersion(current.getVersion() + 1);
+            merged.setUpdatedAt(now);
+            updates.add(merged);
+            auditLogs.add(ConfigChangeLog.of(merged, ConfigOperation.UPDATE, current.getConfigValue()));
+        }
+
+        List<Config> deletes = new ArrayList<>();
+        for (String configKey : deleteKeys) {
+            Config current = existing.get(configKey);
+            if (current != null) {
+                deletes.add(current);
+                auditLogs.add(ConfigChangeLog.of(current, ConfigOperation.DELETE, current.getConfigValue()));
+            }
+        }
+
+        try {
+            configJdbcRepository.batchInsert(inserts);
+        } catch (DataIntegrityViolationException e) {
+            // 读取之后被并发写入了同名配置
+            throw duplicateKeyOrRethrow(e, inserts, environment.getName());
+        }
+        List<Config> stale = configJdbcRepository.batchUpdate(updates);
+        if (!stale.isEmpty()) {
+            // 读取之后被单条更新并发修改，整批回滚
+            Config conflict = stale.get(0);
+            throw new ConfigVersionConflictException(conflict.getId(), conflict.getVersion() - 1, null);
+        }
+        configJdbcRepository.batchDelete(deletes);
+
+        if (inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty()) {
+            return new AppliedChangeset(revisionService.getRevision(environmentId), 0, 0, unchanged);
+        }
+        List<ConfigChange> changes = new ArrayList<>(inserts.size() + updates.size() + deletes.size());
+        inserts.forEach(config -> changes.add(ConfigChange.of(config, ConfigOperation.CREATE)));
+        updates.forEach(config -> changes.add(ConfigChange.of(config, ConfigOperation.UPDATE)));
+        deletes.forEach(config -> changes.add(ConfigChange.of(config, ConfigOperation.DELETE)));
+        long revision = publishChange(environmentId, changes.toArray(new ConfigChange[0]));
+        configVersionService.recordVersions(revision, ConfigOperation.CREATE, inserts);
+        configVersionService.recordVersions(revision, ConfigOperation.UPDATE, updates);
+        configVersionService.recordVersions(revision, ConfigOperation.DELETE, deletes);
+        inserts.forEach(config -> auditLogs.add(ConfigChangeLog.of(config, ConfigOperation.CREATE, null)));
+        configAuditWriter.record(auditLogs);
+        return new AppliedChangeset(revision, inserts.size(), updates.size(), unchanged);
     }
 
     /**
@@ -140,10 +478,11 @@ public class ConfigService {
      * @throws EntityNotFoundException 如果配置不存在
      */
     public void deleteConfig(Long id) {
-        if (!configRepository.existsById(id)) {
-            throw new EntityNotFoundException("Config with id '" + id + "' not found");
-        }
-        configRepository.deleteById(id);
+        Config config = getConfigById(id);
+        configRepository.delete(config);
+        long revision = publishChange(config.getEnvironment().getId(), ConfigChange.of(config, ConfigOperation.DELETE));
+        configVersionService.recordVersions(revision, ConfigOperation.DELETE, List.of(config));
+        configAuditWriter.record(List.of(ConfigChangeLog.of(config, ConfigOperation.DELETE, config.getConfigValue())));
     }
 
     /**
@@ -156,7 +495,12 @@ public class ConfigService {
     public Config enableConfig(Long id) {
         Config config = getConfigById(id);
         config.setEnabled(true);
-        return configRepository.save(config);
+        config.setVersion(config.getVersion() + 1);
+        Config saved = configRepository.save(config);
+        long revision = publishChange(saved.getEnvironment().getId(), ConfigChange.of(saved, ConfigOperation.ENABLE));
+        configVersionService.recordVersions(revision, ConfigOperation.ENABLE, List.of(saved));
+        configAuditWriter.record(List.of(ConfigChangeLog.of(saved, ConfigOperation.ENABLE, saved.getConfigValue())));
+        return saved;
     }
 
     /**
@@ -169,7 +513,12 @@ public class ConfigService {
     public Config disableConfig(Long id) {
         Config config = getConfigById(id);
         config.setEnabled(false);
-        return configRepository.save(config);
+        config.setVersion(config.getVersion() + 1);
+        Config saved = configRepository.save(config);
+        long revision = publishChange(saved.getEnvironment().getId(), ConfigChange.of(saved, ConfigOperation.DISABLE));
+        configVersionService.recordVersions(revision, ConfigOperation.DISABLE, List.of(saved));
+        configAuditWriter.record(List.of(ConfigChangeLog.of(saved, ConfigOperation.DISABLE, saved.getConfigValue())));
+        return saved;
     }
 
     /**
@@ -186,14 +535,17 @@ public class ConfigService {
 
     /**
      * 根据环境ID和配置键获取配置
+     * <p>
+     * 从环境快照缓存中读取，返回的对象为只读快照副本
      *
      * @param environmentId 环境ID
      * @param configKey     配置键
      * @return 配置实体
      * @throws EntityNotFoundException 如果配置不存在
      */
+    @Transactional(readOnly = true)
     public Config getConfigByKey(Long environmentId, String configKey) {
-        return configRepository.findByEnvironmentIdAndConfigKey(environmentId, configKey)
+        return configSnapshotCache.get(environmentId, configKey)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Config with key '" + configKey + "' not found in environment '" + environmentId + "'"));
     }
@@ -204,7 +556,20 @@ public class ConfigService {
      * @return 配置列表
      */
     public List<Config> getAllConfigs() {
-        return configRepository.findAll();
+        return configRepository.findAllWithEnvironment();
+    }
+
+    /**
+     * 获取所有配置（键集分页，按 ID 升序）
+     *
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getAllConfigs(String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findAllByOrderByIdAsc(position, pageLimit));
     }
 
     /**
@@ -217,6 +582,20 @@ public class ConfigService {
         return configRepository.findByEnvironmentId(environmentId);
     }
 
+    /**
+     * 获取指定环境的所有配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironment(Long environmentId, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdOrderByIdAsc(environmentId, position, pageLimit));
+    }
+
     /**
      * 获取指定环境的所有启用配置
      *
@@ -227,6 +606,29 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndEnabledTrue(environmentId);
     }
 
+    /**
+     * 获取指定环境的所有启用配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getEnabledConfigsByEnvironment(Long environmentId, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndEnabledTrueOrderByIdAsc(environmentId, position, pageLimit));
+    }
+
+    /**
+     * 获取所有启用的配置
+     *
+     * @return 配置列表
+     */
+    public List<Config> getEnabledConfigs() {
+        return configRepository.findWithEnvironmentByEnabledTrue();
+    }
+
     /**
      * 获取所有加密配置
      *
@@ -236,6 +638,19 @@ public class ConfigService {
         return configRepository.findByEncryptedTrue();
     }
 
+    /**
+     * 获取所有加密配置（键集分页，按 ID 升序）
+     *
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getEncryptedConfigs(String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEncryptedTrueOrderByIdAsc(position, pageLimit));
+    }
+
     /**
      * 获取指定环境的加密配置
      *
@@ -246,6 +661,20 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndEncryptedTrue(environmentId);
     }
 
+    /**
+     * 获取指定环境的加密配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getEncryptedConfigsByEnvironment(Long environmentId, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndEncryptedTrueOrderByIdAsc(environmentId, position, pageLimit));
+    }
+
     /**
      * 根据配置键模糊查询配置
      *
@@ -256,6 +685,56 @@ public class ConfigService {
         return configRepository.findByConfigKeyContaining(configKey);
     }
 
+    /**
+     * 根据配置键模糊查询配置（键集分页，按 ID 升序）
+     *
+     * @param configKey 配置键（支持模糊匹配）
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> searchConfigsByKey(String configKey, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByConfigKeyContainingOrderByIdAsc(configKey, position, pageLimit));
+    }
+
+    /**
+     * 根据环境ID和配置键模糊查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param configKey     配置键（支持模糊匹配）
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> searchConfigsByEnvironmentAndKey(Long environmentId, String configKey, String cursor,
+            Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndConfigKeyContainingOrderByIdAsc(environmentId, configKey,
+                        position, pageLimit));
+    }
+
+    /**
+     * 按配置键、描述、分组全文搜索配置（基于内存 trigram 索引，按相关度排序）
+     * <p>
+     * 长度不足 3 的关键字只匹配单词开头；结果不包含配置值，需要时通过 {@link #getConfigValues} 获取
+     *
+     * @param query         关键字（不区分大小写）
+     * @param environmentId 环境ID，为 null 时搜索所有环境
+     * @param limit         最多返回的条数，为空时使用默认值
+     * @return 搜索结果
+     * @throws IllegalArgumentException 如果关键字为空或条数不是正数
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigSearchHit> searchConfigs(String query, Long environmentId, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        return configSearchIndex.search(query, environmentId, pageSize(limit));
+    }
+
     /**
      * 根据描述模糊查询配置
      *
@@ -266,6 +745,20 @@ public class ConfigService {
         return configRepository.findByDescriptionContaining(keyword);
     }
 
+    /**
+     * 根据描述模糊查询配置（键集分页，按 ID 升序）
+     *
+     * @param keyword 关键词
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> searchConfigsByDescription(String keyword, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByDescriptionContainingOrderByIdAsc(keyword, position, pageLimit));
+    }
+
     /**
      * 根据环境ID和描述模糊查询配置
      *
@@ -277,6 +770,23 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndDescriptionContaining(environmentId, keyword);
     }
 
+    /**
+     * 根据环境ID和描述模糊查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param keyword      关键词
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> searchConfigsByEnvironmentAndDescription(Long environmentId, String keyword,
+            String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndDescriptionContainingOrderByIdAsc(environmentId, keyword,
+                        position, pageLimit));
+    }
+
     /**
      * 根据分组名称查询配置
      *
@@ -284,7 +794,21 @@ public class ConfigService {
      * @return 配置列表
      */
     public List<Config> getConfigsByGroup(String groupName) {
-        return configRepository.findByGroupName(groupName);
+        return configRepository.findWithEnvironmentByGroupName(groupName);
+    }
+
+    /**
+     * 根据分组名称查询配置（键集分页，按 ID 升序）
+     *
+     * @param groupName 分组名称
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByGroup(String groupName, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByGroupNameOrderByIdAsc(groupName, position, pageLimit));
     }
 
     /**
@@ -298,6 +822,23 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndGroupName(environmentId, groupName);
     }
 
+    /**
+     * 根据环境ID和分组名称查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param groupName     分组名称
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndGroup(Long environmentId, String groupName, String cursor,
+            Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndGroupNameOrderByIdAsc(environmentId, groupName, position,
+                        pageLimit));
+    }
+
     /**
      * 根据值类型查询配置
      *
@@ -305,7 +846,21 @@ public class ConfigService {
      * @return 配置列表
      */
     public List<Config> getConfigsByType(String valueType) {
-        return configRepository.findByValueType(valueType);
+        return configRepository.findWithEnvironmentByValueType(valueType);
+    }
+
+    /**
+     * 根据值类型查询配置（键集分页，按 ID 升序）
+     *
+     * @param valueType 值类型（STRING/NUMBER/BOOLEAN/JSON）
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByType(String valueType, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByValueTypeOrderByIdAsc(valueType, position, pageLimit));
     }
 
     /**
@@ -319,6 +874,128 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndValueType(environmentId, valueType);
     }
 
+    /**
+     * 根据环境ID和值类型查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param valueType     值类型
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndType(Long environmentId, String valueType, String cursor,
+            Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndValueTypeOrderByIdAsc(environmentId, valueType, position,
+                        pageLimit));
+    }
+
+    /**
+     * 获取环境下的配置摘要（键集分页，不读取配置值）
+     *
+     * @param environmentId 环境ID
+     * @param cursor        续页令牌，为空时返回第一页
+     * @param limit         每页条数，为空时使用默认值
+     * @return 一页配置摘要
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ConfigSummary> getConfigSummariesByEnvironment(Long environmentId, String cursor,
+            Integer limit) {
+        return summaryPage(cursor, limit, (afterId, pageLimit) ->
+                configRepository.findSummariesByEnvironmentId(environmentId, afterId, pageLimit));
+    }
+
+    /**
+     * 获取环境下指定分组的配置摘要（键集分页，不读取配置值）
+     *
+     * @param environmentId 环境ID
+     * @param groupName     分组名称
+     * @param cursor        续页令牌，为空时返回第一页
+     * @param limit         每页条数，为空时使用默认值
+     * @return 一页配置摘要
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ConfigSummary> getConfigSummariesByEnvironmentAndGroup(Long environmentId, String groupName,
+            String cursor, Integer limit) {
+        return summaryPage(cursor, limit, (afterId, pageLimit) ->
+                configRepository.findSummariesByEnvironmentIdAndGroupName(environmentId, groupName, afterId,
+                        pageLimit));
+    }
+
+    /**
+     * 按 ID 批量获取配置值（配合配置摘要按需加载）
+     *
+     * @param ids 配置ID
+     * @return 配置ID到配置值的映射，按请求顺序排列，不存在的配置不包含在内
+     * @throws IllegalArgumentException 如果 ID 数量超过每页条数上限
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getConfigValues(List<Long> ids) {
+        if (ids.size() > maxPageSize) {
+            throw new IllegalArgumentException("At most " + maxPageSize + " ids are allowed");
+        }
+        Map<Long, String> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            for (ConfigRepository.ConfigValueView view : configRepository.findValuesByIdIn(chunk)) {
+                loaded.put(view.getId(), view.getConfigValue());
+            }
+        }
+        Map<Long, String> values = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (loaded.containsKey(id)) {
+                values.put(id, loaded.get(id));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 组装配置详情，环境从环境缓存中读取
+     *
+     * @param config 配置
+     * @return 配置详情
+     */
+    @Transactional(readOnly = true)
+    public ConfigResponse toResponse(Config config) {
+        return ConfigResponse.of(config, environmentService.getEnvironmentById(config.getEnvironment().getId()));
+    }
+
+    /**
+     * 批量组装配置详情
+     * <p>
+     * 只读取配置上环境关联的 ID（不会触发懒加载），环境按 ID 一次性从环境缓存中获取，
+     * 缓存未命中的环境合并为一条查询，查询数与配置条数无关
+     *
+     * @param configs 配置列表
+     * @return 配置详情列表，顺序与 configs 一致
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigResponse> toResponses(List<Config> configs) {
+        Set<Long> environmentIds = new LinkedHashSet<>();
+        for (Config config : configs) {
+            environmentIds.add(config.getEnvironment().getId());
+        }
+        Map<Long, Environment> environments = environmentService.getEnvironmentsByIds(environmentIds);
+        return configs.stream()
+                .map(config -> ConfigResponse.of(config, environments.get(config.getEnvironment().getId())))
+                .toList();
+    }
+
+    /**
+     * 统计环境下的配置总数、启用数、禁用数和加密数（一次聚合查询）
+     *
+     * @param environmentId 环境ID
+     * @return 数量统计
+     */
+    @Transactional(readOnly = true)
+    public ConfigCounts getConfigCounts(Long environmentId) {
+        return configRepository.countSummaryByEnvironmentId(environmentId);
+    }
+
     /**
      * 获取所有分组名称（去重）
      *
@@ -379,6 +1056,22 @@ public class ConfigService {
         return configRepository.findByCreatedAtBetween(start, end);
     }
 
+    /**
+     * 根据创建时间范围查询配置（键集分页，按 ID 升序）
+     *
+     * @param start 开始时间
+     * @param end   结束时间
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByCreatedBetween(LocalDateTime start, LocalDateTime end, String cursor,
+            Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByCreatedAtBetweenOrderByIdAsc(start, end, position, pageLimit));
+    }
+
     /**
      * 根据环境ID和创建时间范围查询配置
      *
@@ -392,6 +1085,24 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndCreatedAtBetween(environmentId, start, end);
     }
 
+    /**
+     * 根据环境ID和创建时间范围查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param start         开始时间
+     * @param end           结束时间
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndCreatedBetween(Long environmentId, LocalDateTime start,
+            LocalDateTime end, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndCreatedAtBetweenOrderByIdAsc(environmentId, start, end,
+                        position, pageLimit));
+    }
+
     /**
      * 根据更新时间范围查询配置
      *
@@ -403,6 +1114,22 @@ public class ConfigService {
         return configRepository.findByUpdatedAtBetween(start, end);
     }
 
+    /**
+     * 根据更新时间范围查询配置（键集分页，按 ID 升序）
+     *
+     * @param start 开始时间
+     * @param end   结束时间
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByUpdatedBetween(LocalDateTime start, LocalDateTime end, String cursor,
+            Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByUpdatedAtBetweenOrderByIdAsc(start, end, position, pageLimit));
+    }
+
     /**
      * 根据环境ID和更新时间范围查询配置
      *
@@ -416,6 +1143,24 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndUpdatedAtBetween(environmentId, start, end);
     }
 
+    /**
+     * 根据环境ID和更新时间范围查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param start         开始时间
+     * @param end           结束时间
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndUpdatedBetween(Long environmentId, LocalDateTime start,
+            LocalDateTime end, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndUpdatedAtBetweenOrderByIdAsc(environmentId, start, end,
+                        position, pageLimit));
+    }
+
     /**
      * 根据环境ID、启用状态和分组查询配置
      *
@@ -429,6 +1174,24 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndEnabledAndGroupName(environmentId, enabled, groupName);
     }
 
+    /**
+     * 根据环境ID、启用状态和分组查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param enabled       启用状态
+     * @param groupName     分组名称
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndEnabledAndGroup(Long environmentId, Boolean enabled,
+            String groupName, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndEnabledAndGroupNameOrderByIdAsc(environmentId, enabled,
+                        groupName, position, pageLimit));
+    }
+
     /**
      * 根据环境ID、启用状态和加密状态查询配置
      *
@@ -442,6 +1205,24 @@ public class ConfigService {
         return configRepository.findByEnvironmentIdAndEnabledAndEncrypted(environmentId, enabled, encrypted);
     }
 
+    /**
+     * 根据环境ID、启用状态和加密状态查询配置（键集分页，按 ID 升序）
+     *
+     * @param environmentId 环境ID
+     * @param enabled       启用状态
+     * @param encrypted     加密状态
+     * @param cursor 续页令牌，为空时返回第一页
+     * @param limit  每页条数，为空时使用默认值
+     * @return 一页配置
+     * @throws IllegalArgumentException 如果续页令牌无效或每页条数不是正数
+     */
+    public CursorPage<Config> getConfigsByEnvironmentAndEnabledAndEncrypted(Long environmentId, Boolean enabled,
+            Boolean encrypted, String cursor, Integer limit) {
+        return scroll(cursor, limit, (position, pageLimit) ->
+                configRepository.findByEnvironmentIdAndEnabledAndEncryptedOrderByIdAsc(environmentId, enabled,
+                        encrypted, position, pageLimit));
+    }
+
     /**
      * 根据环境ID和启用状态查询配置（按创建时间倒序）
      *
@@ -483,4 +1264,204 @@ public class ConfigService {
     public boolean existsById(Long id) {
         return configRepository.existsById(id);
     }
+
+    /**
+     * 获取环境下全部启用配置的快照（供 SDK 启动加载和刷新使用）
+     * <p>
+     * 先读取修订号再读取快照：快照只可能比修订号新，客户端最多多刷新一次，不会漏掉变更
+     *
+     * @param environmentName 环境名称
+     * @param namespace       命名空间（如 payment.gateway），为空时返回整个环境
+     * @return 配置快照
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional(readOnly = true)
+    public ConfigSnapshotResponse getEnabledConfigSnapshot(String environmentName, String namespace) {
+        Environment environment = environmentService.getEnvironmentByName(environmentName);
+        long revision = revisionService.getRevision(environment.getId());
+        ConfigSnapshot snapshot = configSnapshotCache.getSnapshot(environment.getId());
+
+        Map<String, String> configs = new HashMap<>();
+        for (Config config : ConfigKeyTrie.normalize(namespace).isEmpty() ? snapshot.values()
+                : snapshot.subtree(namespace)) {
+            if (Boolean.TRUE.equals(config.getEnabled())) {
+                configs.put(config.getConfigKey(), config.getConfigValue());
+            }
+        }
+        return new ConfigSnapshotResponse(environment.getId(), environment.getName(), revision, configs);
+    }
+
+    /**
+     * 获取命名空间下的全部配置（包括禁用的配置，基于快照缓存的前缀树）
+     *
+     * @param environmentId 环境ID
+     * @param namespace     命名空间，例如 db.pool 或 db.pool.*
+     * @return 按分段排序的配置列表
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional(readOnly = true)
+    public List<Config> getConfigsByNamespace(Long environmentId, String namespace) {
+        environmentService.getEnvironmentById(environmentId);
+        return configSnapshotCache.getSnapshot(environmentId).subtree(namespace);
+    }
+
+    /**
+     * 列出命名空间的下一级节点，用于按层级浏览配置键
+     *
+     * @param environmentId 环境ID
+     * @param namespace     命名空间，为空时列出顶层节点
+     * @return 下一级节点
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigNamespace> getConfigNamespaces(Long environmentId, String namespace) {
+        environmentService.getEnvironmentById(environmentId);
+        return configSnapshotCache.getSnapshot(environmentId).namespaces(namespace);
+    }
+
+    /**
+     * 获取配置快照缓存的统计信息
+     *
+     * @return 缓存统计
+     */
+    public CacheStats getSnapshotCacheStats() {
+        return configSnapshotCache.getStats();
+    }
+
+    /**
+     * 获取审计日志写入统计
+     *
+     * @return 写入统计
+     */
+    public AuditStats getAuditStats() {
+        return configAuditWriter.getStats();
+    }
+
+    private CursorPage<Config> scroll(String cursor, Integer limit,
+            BiFunction<ScrollPosition, Limit, Window<Config>> query) {
+        Window<Config> window = query.apply(KeysetCursor.decode(cursor), Limit.of(pageSize(limit)));
+        List<Config> items = window.getContent();
+        String nextCursor = window.hasNext() && !items.isEmpty()
+                ? KeysetCursor.encode(items.get(items.size() - 1).getId())
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * 唯一约束 uk_config_env_key 冲突时转换为与原先预检查相同的异常，其他完整性错误原样抛出
+     */
+    private static RuntimeException duplicateKeyOrRethrow(DataIntegrityViolationException e, String configKey,
+            String environmentName) {
+        if (!isConstraintViolation(e, CONFIG_KEY_CONSTRAINT)) {
+            return e;
+        }
+        return new IllegalArgumentException(
+                "Config with key '" + configKey + "' already exists in environment '" + environmentName + "'");
+    }
+
+    private static RuntimeException duplicateKeyOrRethrow(DataIntegrityViolationException e, List<Config> inserts,
+            String environmentName) {
+        // 批量插入无法直接得知冲突的是哪一行，从数据库的错误信息中查找
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        String configKey = inserts.stream()
+                .map(Config::getConfigKey)
+                .filter(key -> message != null && message.contains(key))
+                .max(Comparator.comparingInt(String::length))
+                .orElse(null);
+        if (configKey != null) {
+            return duplicateKeyOrRethrow(e, configKey, environmentName);
+        }
+        if (!isConstraintViolation(e, CONFIG_KEY_CONSTRAINT)) {
+            return e;
+        }
+        return new IllegalArgumentException(
+                "One of the new config keys already exists in environment '" + environmentName + "'");
+    }
+
+    private static boolean isConstraintViolation(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+    }
+
+    private CursorPage<ConfigSummary> summaryPage(String cursor, Integer limit,
+            BiFunction<Long, Limit, List<ConfigSummary>> query) {
+        int pageSize = pageSize(limit);
+        // 多取一条判断是否还有下一页
+        List<ConfigSummary> items = query.apply(KeysetCursor.lastId(cursor), Limit.of(pageSize + 1));
+        if (items.size() <= pageSize) {
+            return new CursorPage<>(items, null);
+        }
+        items = items.subList(0, pageSize);
+        return new CursorPage<>(items, KeysetCursor.encode(items.get(pageSize - 1).getId()));
+    }
+
+    private long publishChange(Long environmentId, ConfigChange... changes) {
+        long revision = revisionService.nextRevision(environmentId);
+        eventPublisher.publishEvent(new ConfigChangeEvent(environmentId, revision, List.of(changes)));
+        return revision;
+    }
+
+    private static Config mergeNonNull(Config target, Config source) {
+        if (source.getConfigValue() != null) {
+            target.setConfigValue(source.getConfigValue());
+        }
+        if (source.getValueType() != null) {
+            target.setValueType(source.getValueType());
+        }
+        if (source.getDescription() != null) {
+            target.setDescription(source.getDescription());
+        }
+        if (source.getGroupName() != null) {
+            target.setGroupName(source.getGroupName());
+        }
+        if (source.getEncrypted() != null) {
+            target.setEncrypted(source.getEncrypted());
+        }
+        if (source.getEnabled() != null) {
+            target.setEnabled(source.getEnabled());
+        }
+        return target;
+    }
+
+    /**
+     * 一次批量变更的结果
+     */
+    private static final class AppliedChangeset {
+
+        private final long revision;
+
+        private final int created;
+
+        private final int updated;
+
+        private final int unchanged;
+
+        private AppliedChangeset(long revision, int created, int updated, int unchanged) {
+            this.revision = revision;
+            this.created = created;
+            this.updated = updated;
+            this.unchanged = unchanged;
+        }
+    }
+
+    private static boolean sameContent(Config a, Config b) {
+        return Objects.equals(a.getConfigValue(), b.getConfigValue())
+                && Objects.equals(a.getValueType(), b.getValueType())
+                && Objects.equals(a.getDescription(), b.getDescription())
+                && Objects.equals(a.getGroupName(), b.getGroupName())
+                && Objects.equals(a.getEncrypted(), b.getEncrypted())
+                && Objects.equals(a.getEnabled(), b.getEnabled());
+    }
 }
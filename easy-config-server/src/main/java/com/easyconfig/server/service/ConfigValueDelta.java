@@ -0,0 +1,56 @@
+package com.easyconfig.server.service;
+
+/**
+ * 配置值差异编码
+ * <p>
+ * 差异格式为 {@code 公共前缀长度:公共后缀长度:中间部分}，适合 JSON 等大文本的局部修改：
+ * 只保存与基准值不同的中间片段
+ */
+final class ConfigValueDelta {
+
+    private ConfigValueDelta() {
+    }
+
+    /**
+     * 计算目标值相对基准值的差异
+     *
+     * @param base   基准值
+     * @param target 目标值
+     * @return 差异编码
+     */
+    static String encode(String base, String target) {
+        int max = Math.min(base.length(), target.length());
+        int prefix = 0;
+        while (prefix < max && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        return prefix + ":" + suffix + ":" + target.substring(prefix, target.length() - suffix);
+    }
+
+    /**
+     * 在基准值上应用差异，还原目标值
+     *
+     * @param base  基准值
+     * @param delta 差异编码
+     * @return 目标值
+     * @throws IllegalArgumentException 如果差异编码与基准值不匹配
+     */
+    static String apply(String base, String delta) {
+        int first = delta.indexOf(':');
+        int second = delta.indexOf(':', first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Malformed config value delta");
+        }
+        int prefix = Integer.parseInt(delta, 0, first, 10);
+        int suffix = Integer.parseInt(delta, first + 1, second, 10);
+        if (prefix + suffix > base.length()) {
+            throw new IllegalArgumentException("Config value delta does not match its base version");
+        }
+        return base.substring(0, prefix) + delta.substring(second + 1) + base.substring(base.length() - suffix);
+    }
+}
@@ -0,0 +1,208 @@
+package com.easyconfig.server.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.easyconfig.server.dto.ConfigVersionResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigVersion;
+import com.easyconfig.server.entity.ConfigVersion.StorageType;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import com.easyconfig.server.repository.ConfigVersionRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 配置版本历史服务
+ * <p>
+ * 在配置变更的同一事务内记录历史版本：
+ * - 短配置值始终保存完整值
+ * - 较长的配置值保存相对最近一个完整快照的差异，差异不足以节省一半空间时重新保存完整快照
+ * - 每个快照之后最多连续保存 snapshot-interval - 1 条差异
+ */
+@Service
+public class ConfigVersionService {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    @Autowired
+    private ConfigVersionRepository configVersionRepository;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Value("${easy-config.history.snapshot-interval:10}")
+    private int snapshotInterval = 10;
+
+    @Value("${easy-config.history.delta-threshold:1024}")
+    private int deltaThreshold = 1024;
+
+    /**
+     * 记录配置变更后的历史版本
+     *
+     * @param revision  变更后的环境修订号
+     * @param operation 操作类型
+     * @param configs   变更后的配置（需已设置ID和环境）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordVersions(long revision, ConfigOperation operation, List<Config> configs) {
+        if (configs.isEmpty()) {
+            return;
+        }
+        Map<Long, ConfigVersion> latest = new HashMap<>();
+        Map<Long, String> snapshotValues = new HashMap<>();
+        if (operation != ConfigOperation.CREATE) {
+            loadLatestVersions(configs, latest, snapshotValues);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ConfigVersion> versions = new ArrayList<>(configs.size());
+        for (Config config : configs) {
+            ConfigVersion version = ConfigVersion.builder()
+                    .configId(config.getId())
+                    .environmentId(config.getEnvironment().getId())
+                    .revision(revision)
+                    .version(config.getVersion())
+                    .configKey(config.getConfigKey())
+                    .configValue(config.getConfigValue())
+                    .enabled(config.getEnabled())
+                    .operation(operation)
+                    .createdAt(now)
+                    .build();
+            encodeDelta(version, latest.get(config.getId()), snapshotValues);
+            versions.add(version);
+        }
+        configJdbcRepository.batchInsertVersions(versions);
+    }
+
+    /**
+     * 查询配置的全部历史版本（最新的在前）
+     *
+     * @param configId 配置ID
+     * @return 历史版本列表
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigVersionResponse> getVersions(Long configId) {
+        List<ConfigVersion> versions = configVersionRepository.findByConfigIdOrderByIdDesc(configId);
+        // 同一配置的快照都在结果中，还原时不需要额外查询
+        Map<Long, String> snapshotValues = new HashMap<>();
+        for (ConfigVersion version : versions) {
+            if (version.getStorageType() == StorageType.FULL) {
+                snapshotValues.put(version.getId(), version.getConfigValue());
+            }
+        }
+        List<ConfigVersionResponse> result = new ArrayList<>(versions.size());
+        for (ConfigVersion version : versions) {
+            String value = version.getStorageType() == StorageType.FULL ? version.getConfigValue()
+                    : ConfigValueDelta.apply(snapshotValues.get(version.getBaseVersionId()), version.getConfigValue());
+            result.add(toResponse(version, value));
+        }
+        return result;
+    }
+
+    /**
+     * 根据 ID 获取历史版本
+     *
+     * @param versionId 历史版本ID
+     * @return 历史版本
+     * @throws EntityNotFoundException 如果历史版本不存在
+     */
+    @Transactional(readOnly = true)
+    public ConfigVersionResponse getVersion(Long versionId) {
+        ConfigVersion version = configVersionRepository.findById(versionId)
+                .orElseThrow(() -> new EntityNotFoundException("Config version not found with id: " + versionId));
+        return toResponse(version, restoreValue(version));
+    }
+
+    /**
+     * 还原历史版本的完整配置值（DELTA 记录额外读取一次所属快照）
+     *
+     * @param version 历史版本
+     * @return 完整配置值
+     */
+    @Transactional(readOnly = true)
+    public String restoreValue(ConfigVersion version) {
+        if (version.getStorageType() == StorageType.FULL) {
+            return version.getConfigValue();
+        }
+        ConfigVersion snapshot = configVersionRepository.findById(version.getBaseVersionId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Config version not found with id: " + version.getBaseVersionId()));
+        return ConfigValueDelta.apply(snapshot.getConfigValue(), version.getConfigValue());
+    }
+
+    private void loadLatestVersions(List<Config> configs, Map<Long, ConfigVersion> latest,
+            Map<Long, String> snapshotValues) {
+        List<Long> configIds = configs.stream().map(Config::getId).toList();
+        Set<Long> snapshotIds = new HashSet<>();
+        for (int from = 0; from < configIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = configIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, configIds.size()));
+            for (ConfigVersion version : configVersionRepository.findLatestByConfigIdIn(chunk)) {
+                latest.put(version.getConfigId(), version);
+                if (version.getStorageType() == StorageType.FULL) {
+                    snapshotValues.put(version.getId(), version.getConfigValue());
+                } else if (version.getChainIndex() + 1 < snapshotInterval) {
+                    snapshotIds.add(version.getBaseVersionId());
+                }
+            }
+        }
+        List<Long> ids = new ArrayList<>(snapshotIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            for (ConfigVersion snapshot : configVersionRepository.findAllById(
+                    ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())))) {
+                snapshotValues.put(snapshot.getId(), snapshot.getConfigValue());
+            }
+        }
+    }
+
+    /**
+     * 条件满足时把完整值改写为相对快照的差异，否则保持 FULL
+     */
+    private void encodeDelta(ConfigVersion version, ConfigVersion previous, Map<Long, String> snapshotValues) {
+        String value = version.getConfigValue();
+        if (previous == null || value == null || value.length() < deltaThreshold) {
+            return;
+        }
+        boolean previousFull = previous.getStorageType() == StorageType.FULL;
+        Long snapshotId = previousFull ? previous.getId() : previous.getBaseVersionId();
+        int chainIndex = previousFull ? 1 : previous.getChainIndex() + 1;
+        String snapshotValue = snapshotValues.get(snapshotId);
+        if (chainIndex >= snapshotInterval || snapshotValue == null) {
+            return;
+        }
+        String delta = ConfigValueDelta.encode(snapshotValue, value);
+        if (delta.length() * 2 > value.length()) {
+            return;
+        }
+        version.setConfigValue(delta);
+        version.setStorageType(StorageType.DELTA);
+        version.setBaseVersionId(snapshotId);
+        version.setChainIndex(chainIndex);
+    }
+
+    private static ConfigVersionResponse toResponse(ConfigVersion version, String value) {
+        return ConfigVersionResponse.builder()
+                .id(version.getId())
+                .configId(version.getConfigId())
+                .environmentId(version.getEnvironmentId())
+                .revision(version.getRevision())
+                .version(version.getVersion())
+                .configKey(version.getConfigKey())
+                .configValue(value)
+                .operation(version.getOperation())
+                .createdAt(version.getCreatedAt())
+                .build();
+    }
+}
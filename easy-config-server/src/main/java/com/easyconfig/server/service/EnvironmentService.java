@@ -1,16 +1,31 @@
 package com.easyconfig.server.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.easyconfig.server.cache.CacheStats;
 import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.EnvironmentChangedEvent;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
 import com.easyconfig.server.repository.EnvironmentRepository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -21,14 +36,45 @@ import jakarta.persistence.EntityNotFoundException;
  * - 环境查询（按 ID、名称、描述）
  * - 环境搜索（名称或描述模糊匹配）
  * - 环境排序
+ * <p>
+ * 按 ID、名称获取环境的结果缓存在内存中（几乎每次配置写入都会按 ID 查询环境，而环境极少变化）：
+ * - 缓存的是脱离持久化上下文的副本，由所有调用方共享，调用方不应修改
+ * - 创建、更新、删除环境的事务提交（或回滚）后整体清空缓存，并通过代数丢弃清空前开始加载的旧数据
+ * - 缓存副本中的修订号不会随配置变更更新，修订号应通过 {@link RevisionService} 获取
+ * <p>
+ * 类上声明了事务，提交后监听方法需声明为 NOT_SUPPORTED；每个方法的耗时记录在 easyconfig.environment.service 计时器中
  */
 @Service
 @Transactional
+@Timed("easyconfig.environment.service")
 public class EnvironmentService {
 
     @Autowired
     private EnvironmentRepository environmentRepository;
 
+    @Autowired
+    private EnvironmentSnapshotService environmentSnapshotService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, Environment> environmentsById = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Long> environmentIdsByName = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存代数，每次清空时递增；同时作为安装与清空互斥的锁
+     */
+    private final Object cacheLock = new Object();
+
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
     /**
      * 创建环境
      *
@@ -48,7 +94,11 @@ public class EnvironmentService {
             environment.setSortOrder(0);
         }
 
-        return environmentRepository.save(environment);
+        Environment saved = environmentRepository.save(environment);
+        // 新环境的历史从空快照开始完整可回放
+        environmentSnapshotService.createBaseline(saved.getId());
+        eventPublisher.publishEvent(new EnvironmentChangedEvent(saved.getId()));
+        return saved;
     }
 
     /**
@@ -61,7 +111,9 @@ public class EnvironmentService {
      * @throws IllegalArgumentException 如果新名称与其他环境冲突
      */
     public Environment updateEnvironment(Long id, Environment environment) {
-        Environment existingEnv = getEnvironmentById(id);
+        // 直接读取受管实体修改，不经过缓存
+        Environment existingEnv = environmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + id + "' not found"));
 
         // 如果修改了名称，检查新名称是否与其他环境冲突
         if (!existingEnv.getName().equals(environment.getName())) {
@@ -78,7 +130,9 @@ public class EnvironmentService {
             existingEnv.setSortOrder(environment.getSortOrder());
         }
 
-        return environmentRepository.save(existingEnv);
+        Environment saved = environmentRepository.save(existingEnv);
+        eventPublisher.publishEvent(new EnvironmentChangedEvent(id));
+        return saved;
     }
 
     /**
@@ -92,30 +146,122 @@ public class EnvironmentService {
             throw new EntityNotFoundException("Environment with id '" + id + "' not found");
         }
         environmentRepository.deleteById(id);
+        eventPublisher.publishEvent(new EnvironmentDeletedEvent(id));
     }
 
     /**
-     * 根据 ID 获取环境
+     * 根据 ID 获取环境（读缓存，未命中时查询数据库）
      *
      * @param id 环境ID
-     * @return 环境实体
+     * @return 环境（共享的只读副本）
      * @throws EntityNotFoundException 如果环境不存在
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Environment getEnvironmentById(Long id) {
-        return environmentRepository.findById(id)
+        Environment cached = environmentsById.get(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long expected = currentGeneration();
+        Environment environment = environmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + id + "' not found"));
+        return install(environment, expected);
     }
 
     /**
-     * 根据名称获取环境
+     * 根据名称获取环境（读缓存，未命中时查询数据库）
      *
      * @param name 环境名称
-     * @return 环境实体
+     * @return 环境（共享的只读副本）
      * @throws EntityNotFoundException 如果环境不存在
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Environment getEnvironmentByName(String name) {
-        return environmentRepository.findByName(name)
+        Long id = environmentIdsByName.get(name);
+        Environment cached = id != null ? environmentsById.get(id) : null;
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long expected = currentGeneration();
+        Environment environment = environmentRepository.findByName(name)
                 .orElseThrow(() -> new EntityNotFoundException("Environment with name '" + name + "' not found"));
+        return install(environment, expected);
+    }
+
+    /**
+     * 根据一组 ID 获取环境（读缓存，未命中的环境合并为一条查询）
+     *
+     * @param ids 环境ID
+     * @return 环境ID到环境（共享的只读副本）的映射，不存在的环境不包含在内
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, Environment> getEnvironmentsByIds(Collection<Long> ids) {
+        Map<Long, Environment> environments = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            Environment cached = environmentsById.get(id);
+            if (cached != null) {
+                hits.increment();
+                environments.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return environments;
+        }
+        misses.add(missing.size());
+        long expected = currentGeneration();
+        for (Environment environment : environmentRepository.findAllById(missing)) {
+            environments.put(environment.getId(), install(environment, expected));
+        }
+        return environments;
+    }
+
+    /**
+     * 获取环境缓存的统计信息
+     *
+     * @return 命中、未命中、加载次数及已缓存的环境数
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CacheStats getCacheStats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), environmentsById.size());
+    }
+
+    /**
+     * 环境创建或更新的事务提交后清空缓存
+     *
+     * @param event 环境变更事件
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnvironmentChanged(EnvironmentChangedEvent event) {
+        invalidateCache();
+    }
+
+    /**
+     * 环境删除的事务提交后清空缓存
+     *
+     * @param event 环境删除事件
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnvironmentDeleted(EnvironmentDeletedEvent event) {
+        invalidateCache();
+    }
+
+    /**
+     * 事务回滚后同样清空，避免事务内读取到的未提交数据残留在缓存中
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK,
+            classes = {EnvironmentChangedEvent.class, EnvironmentDeletedEvent.class})
+    public void onEnvironmentChangeRollback() {
+        invalidateCache();
     }
 
     /**
@@ -206,4 +352,33 @@ public class EnvironmentService {
     public boolean existsById(Long id) {
         return environmentRepository.existsById(id);
     }
+
+    private long currentGeneration() {
+        synchronized (cacheLock) {
+            return generation;
+        }
+    }
+
+    /**
+     * 安装加载到的环境；加载期间发生过清空时只返回给当前调用方，不放入缓存
+     */
+    private Environment install(Environment environment, long expected) {
+        Environment copy = environment.toBuilder().build();
+        loads.increment();
+        synchronized (cacheLock) {
+            if (generation == expected) {
+                environmentsById.put(copy.getId(), copy);
+                environmentIdsByName.put(copy.getName(), copy.getId());
+            }
+        }
+        return copy;
+    }
+
+    private void invalidateCache() {
+        synchronized (cacheLock) {
+            generation++;
+            environmentsById.clear();
+            environmentIdsByName.clear();
+        }
+    }
 }
@@ -0,0 +1,339 @@
+package com.easyconfig.server.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.easyconfig.server.dto.ConfigAsOfResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigVersion;
+import com.easyconfig.server.entity.ConfigVersion.StorageType;
+import com.easyconfig.server.entity.EnvironmentSnapshot;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.repository.ConfigVersionRepository;
+import com.easyconfig.server.repository.EnvironmentRepository;
+import com.easyconfig.server.repository.EnvironmentSnapshotRepository;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 环境快照服务
+ * <p>
+ * 按修订号或时间点读取整个环境：加载不晚于目标修订号的最近快照，再按顺序回放之后的 config_version 历史。
+ * - 新建环境时写入空的基线快照，之后的历史完整可回放
+ * - 已有环境第一次读取时在环境行锁下从 config 表生成基线快照，更早的修订号无法读取
+ * - 配置变更提交后，距离上一个快照超过 environment-snapshot-interval 个修订号时由后台线程物化新快照，
+ *   回放长度因此有上限
+ */
+@Slf4j
+@Service
+public class EnvironmentSnapshotService {
+
+    private static final TypeReference<List<ConfigState>> CONTENT_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private EnvironmentSnapshotRepository environmentSnapshotRepository;
+
+    @Autowired
+    private ConfigVersionRepository configVersionRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${easy-config.history.environment-snapshot-interval:100}")
+    private long snapshotInterval = 100;
+
+    /**
+     * 各环境最新快照的修订号，避免每次变更都查询快照表
+     */
+    private final ConcurrentHashMap<Long, Long> snapshotRevisions = new ConcurrentHashMap<>();
+
+    private ExecutorService materializeExecutor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        materializeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "environment-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        materializeExecutor.shutdownNow();
+    }
+
+    /**
+     * 读取环境在指定修订号时的全部启用配置
+     *
+     * @param environmentId 环境ID
+     * @param revision      修订号
+     * @return 配置集合
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果修订号超出当前修订号，或早于最早的快照
+     */
+    @Transactional
+    public ConfigAsOfResponse getConfigsAsOfRevision(Long environmentId, long revision) {
+        long current = environmentRepository.findRevisionById(environmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + environmentId + "' not found"));
+        if (revision < 0 || revision > current) {
+            throw new IllegalArgumentException(
+                    "Revision " + revision + " is out of range, current revision is " + current);
+        }
+        if (!environmentSnapshotRepository.existsByEnvironmentId(environmentId)) {
+            createBaseline(environmentId);
+        }
+        EnvironmentSnapshot snapshot = environmentSnapshotRepository
+                .findTopByEnvironmentIdAndRevisionLessThanEqualOrderByRevisionDesc(environmentId, revision)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "History before revision " + revision + " is not available for environment " + environmentId));
+
+        Map<Long, ConfigState> state = readContent(snapshot);
+        int replayed = replay(environmentId, snapshot.getRevision(), revision, state);
+
+        Map<String, String> configs = new TreeMap<>();
+        for (ConfigState config : state.values()) {
+            if (Boolean.TRUE.equals(config.getEnabled())) {
+                configs.put(config.getConfigKey(), config.getConfigValue());
+            }
+        }
+        return new ConfigAsOfResponse(environmentId, revision, snapshot.getRevision(), replayed, configs);
+    }
+
+    /**
+     * 读取环境在指定时间点的全部启用配置（该时间点之前最后一次变更后的状态）
+     *
+     * @param environmentId 环境ID
+     * @param time          时间点
+     * @return 配置集合
+     * @throws EntityNotFoundException  如果环境不存在
+     * @throws IllegalArgumentException 如果时间点早于最早的快照
+     */
+    @Transactional
+    public ConfigAsOfResponse getConfigsAsOfTime(Long environmentId, LocalDateTime time) {
+        Long revision = configVersionRepository.findMaxRevisionByEnvironmentIdAndCreatedAtOrBefore(environmentId,
+                time);
+        return getConfigsAsOfRevision(environmentId, revision == null ? 0 : revision);
+    }
+
+    /**
+     * 在环境行锁下从 config 表生成基线快照
+     * <p>
+     * 加锁期间配置变更无法递增修订号，读取到的配置与修订号一致。
+     * 加锁后再检查一次是否已有快照：并发的首次读取和后台物化都会在锁上排队，只有第一个生成基线，
+     * 其余的直接返回已有的最新快照
+     *
+     * @param environmentId 环境ID
+     * @return 基线快照（已有快照时为最新快照）
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional
+    public EnvironmentSnapshot createBaseline(Long environmentId) {
+        environmentRepository.findByIdForUpdate(environmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + environmentId + "' not found"));
+        Optional<EnvironmentSnapshot> existing =
+                environmentSnapshotRepository.findTopByEnvironmentIdOrderByRevisionDesc(environmentId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        long revision = environmentRepository.findRevisionById(environmentId).orElse(0L);
+        Map<Long, ConfigState> state = new LinkedHashMap<>();
+        for (Config config : configRepository.findByEnvironmentId(environmentId)) {
+            state.put(config.getId(), new ConfigState(config.getId(), config.getConfigKey(),
+                    config.getConfigValue(), config.getEnabled()));
+        }
+        return saveSnapshot(environmentId, revision, state, true);
+    }
+
+    /**
+     * 配置变更提交后，必要时在后台物化新快照
+     *
+     * @param event 配置变更事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        Long snapshotRevision = snapshotRevisions.get(event.getEnvironmentId());
+        if (snapshotRevision != null && event.getRevision() - snapshotRevision < snapshotInterval) {
+            return;
+        }
+        materializeExecutor.execute(() -> materialize(event.getEnvironmentId()));
+    }
+
+    /**
+     * 从最新快照回放到当前已提交的修订号，生成新快照
+     *
+     * @param environmentId 环境ID
+     */
+    void materialize(Long environmentId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                EnvironmentSnapshot latest = environmentSnapshotRepository
+                        .findTopByEnvironmentIdOrderByRevisionDesc(environmentId)
+                        .orElse(null);
+                if (latest == null) {
+                    snapshotRevisions.put(environmentId, createBaseline(environmentId).getRevision());
+                    return;
+                }
+                // 已提交的修订号对应的历史一定已提交（修订号与历史在同一事务内写入）
+                long current = environmentRepository.findRevisionById(environmentId).orElse(latest.getRevision());
+                if (current - latest.getRevision() < snapshotInterval) {
+                    snapshotRevisions.put(environmentId, latest.getRevision());
+                    return;
+                }
+                Map<Long, ConfigState> state = readContent(latest);
+                replay(environmentId, latest.getRevision(), current, state);
+                saveSnapshot(environmentId, current, state, false);
+                snapshotRevisions.put(environmentId, current);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to materialize snapshot of environment {}", environmentId, e);
+        }
+    }
+
+    /**
+     * 按顺序把 (fromRevision, toRevision] 之间的历史应用到配置集合上
+     *
+     * @return 回放的历史版本数
+     */
+    private int replay(Long environmentId, long fromRevision, long toRevision, Map<Long, ConfigState> state) {
+        if (toRevision <= fromRevision) {
+            return 0;
+        }
+        List<ConfigVersion> versions = configVersionRepository
+                .findByEnvironmentIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByIdAsc(
+                        environmentId, fromRevision, toRevision);
+
+        // 差异记录参照的完整快照可能早于回放区间，一次查询补齐
+        Map<Long, String> fullValues = new HashMap<>();
+        for (ConfigVersion version : versions) {
+            if (version.getStorageType() == StorageType.FULL) {
+                fullValues.put(version.getId(), version.getConfigValue());
+            }
+        }
+        Set<Long> missing = new HashSet<>();
+        for (ConfigVersion version : versions) {
+            if (version.getStorageType() == StorageType.DELTA && !fullValues.containsKey(version.getBaseVersionId())) {
+                missing.add(version.getBaseVersionId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            configVersionRepository.findAllById(missing)
+                    .forEach(base -> fullValues.put(base.getId(), base.getConfigValue()));
+        }
+
+        for (ConfigVersion version : versions) {
+            if (version.getOperation() == ConfigOperation.DELETE) {
+                state.remove(version.getConfigId());
+                continue;
+            }
+            String value = version.getStorageType() == StorageType.FULL ? version.getConfigValue()
+                    : ConfigValueDelta.apply(fullValues.get(version.getBaseVersionId()), version.getConfigValue());
+            state.put(version.getConfigId(), new ConfigState(version.getConfigId(), version.getConfigKey(), value,
+                    resolveEnabled(version, state.get(version.getConfigId()))));
+        }
+        return versions.size();
+    }
+
+    private static Boolean resolveEnabled(ConfigVersion version, ConfigState previous) {
+        if (version.getEnabled() != null) {
+            return version.getEnabled();
+        }
+        // 早期的历史记录没有 enabled 字段
+        if (version.getOperation() == ConfigOperation.ENABLE || version.getOperation() == ConfigOperation.DISABLE) {
+            return version.getOperation() == ConfigOperation.ENABLE;
+        }
+        return previous == null || Boolean.TRUE.equals(previous.getEnabled());
+    }
+
+    private Map<Long, ConfigState> readContent(EnvironmentSnapshot snapshot) {
+        try {
+            Map<Long, ConfigState> state = new LinkedHashMap<>();
+            for (ConfigState config : objectMapper.readValue(snapshot.getContent(), CONTENT_TYPE)) {
+                state.put(config.getConfigId(), config);
+            }
+            return state;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted environment snapshot " + snapshot.getId(), e);
+        }
+    }
+
+    private EnvironmentSnapshot saveSnapshot(Long environmentId, long revision, Map<Long, ConfigState> state,
+            boolean baseline) {
+        try {
+            return environmentSnapshotRepository.save(EnvironmentSnapshot.builder()
+                    .environmentId(environmentId)
+                    .revision(revision)
+                    .configCount(state.size())
+                    .baseline(baseline)
+                    .content(objectMapper.writeValueAsString(state.values()))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize snapshot of environment " + environmentId, e);
+        }
+    }
+
+    /**
+     * 快照中的单个配置，序列化为数组以减小快照体积
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"configId", "configKey", "configValue", "enabled"})
+    static class ConfigState {
+
+        private Long configId;
+
+        private String configKey;
+
+        private String configValue;
+
+        private Boolean enabled;
+    }
+}
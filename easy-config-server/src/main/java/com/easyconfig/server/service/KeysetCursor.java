@@ -0,0 +1,68 @@
+package com.easyconfig.server.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * 键集分页续页令牌
+ * <p>
+ * 令牌是上一页最后一条记录主键的 Base64 编码，对客户端不透明；
+ * 分页查询统一按主键升序，续页时只需 WHERE id > ?，结果顺序稳定
+ */
+final class KeysetCursor {
+
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 生成续页令牌
+     *
+     * @param lastId 当前页最后一条记录的主键
+     * @return 令牌
+     */
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析续页令牌
+     *
+     * @param cursor 令牌，为空时表示第一页
+     * @return 滚动位置
+     * @throws IllegalArgumentException 如果令牌无效
+     */
+    static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(Map.of("id", lastId(cursor)));
+    }
+
+    /**
+     * 解析续页令牌中的主键，供手写的 {@code id > :afterId} 查询使用
+     *
+     * @param cursor 令牌，为空时表示第一页
+     * @return 上一页最后一条记录的主键，第一页为 0
+     * @throws IllegalArgumentException 如果令牌无效
+     */
+    static long lastId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(PREFIX)) {
+                return Long.parseLong(decoded.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Base64 或数字格式错误，统一按无效令牌处理
+        }
+        throw new IllegalArgumentException("Invalid cursor '" + cursor + "'");
+    }
+}
@@ -0,0 +1,357 @@
+package com.easyconfig.server.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.easyconfig.server.cache.ConfigKeyTrie;
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.ConfigDelta;
+import com.easyconfig.server.dto.PushMessage;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 配置推送服务
+ * <p>
+ * - 客户端按环境订阅，可选只订阅环境内的某个分组或某个命名空间（配置键前缀，按 "." 分段匹配）
+ * - 配置变更事务提交后进入按环境合并的待推送队列，合并窗口内同一配置键只保留最后一次变更
+ * - 窗口结束时每种订阅（分组、命名空间）只序列化一次消息，再交给发送线程池逐个会话异步发送，
+ *   慢客户端由 {@link ConcurrentWebSocketSessionDecorator} 缓冲，超出限制时断开，不影响其他客户端
+ * - 装饰器的限制只在下一次发送时检查，无法打断正在阻塞的写入，因此同时把底层容器的阻塞发送超时设为
+ *   send-time-limit：卡住的客户端最多占用一个发送线程 send-time-limit 毫秒，之后发送失败并被断开，
+ *   几个卡住的客户端不会长时间占满发送线程池
+ * <p>
+ * 指标：easyconfig.push.fanout（单次推送构建消息并分发的耗时）、easyconfig.push.delivery（从变更提交到
+ * 消息交给会话的延迟，包含合并窗口）、easyconfig.push.failures（发送失败被断开的会话数）
+ */
+@Slf4j
+@Service
+public class PushService {
+
+    /**
+     * Tomcat 阻塞发送超时（毫秒，默认 20 秒），放在原生会话的 userProperties 中；其他容器忽略该属性
+     */
+    private static final String BLOCKING_SEND_TIMEOUT_PROPERTY = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    @Autowired
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${easy-config.push.coalesce-window:100}")
+    private long coalesceWindow = 100;
+
+    @Value("${easy-config.push.send-threads:4}")
+    private int sendThreads = 4;
+
+    @Value("${easy-config.push.send-time-limit:5000}")
+    private int sendTimeLimit = 5000;
+
+    @Value("${easy-config.push.buffer-size-limit:524288}")
+    private int bufferSizeLimit = 512 * 1024;
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Subscriber> sessions = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    private Executor sendExecutor;
+
+    private Timer fanoutTimer;
+
+    private Timer deliveryTimer;
+
+    private Counter sendFailures;
+
+    @PostConstruct
+    public void start() {
+        fanoutTimer = Timer.builder("easyconfig.push.fanout")
+                .description("Time to build and dispatch the coalesced push messages of an environment")
+                .register(meterRegistry);
+        deliveryTimer = Timer.builder("easyconfig.push.delivery")
+                .description("Delay from the first coalesced commit to handing the message to a session")
+                .register(meterRegistry);
+        sendFailures = Counter.builder("easyconfig.push.failures")
+                .description("Push sessions closed because a send failed or exceeded its limits")
+                .register(meterRegistry);
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-push-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "config-push-send");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdownNow();
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 订阅环境（或环境内某个分组）的配置变更
+     *
+     * @param session       WebSocket 会话
+     * @param environmentId 环境ID
+     * @param groupName     分组名称，为空表示不按分组过滤
+     * @param namespace     命名空间，为空表示不按命名空间过滤
+     */
+    public void subscribe(WebSocketSession session, Long environmentId, String groupName, String namespace) {
+        limitBlockingSend(session);
+        Subscriber subscriber = new Subscriber(environmentId, groupName, ConfigKeyTrie.normalize(namespace),
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferSizeLimit));
+        sessions.put(session.getId(), subscriber);
+        subscribers.compute(environmentId, (id, set) -> {
+            Set<Subscriber> environmentSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            environmentSubscribers.add(subscriber);
+            return environmentSubscribers;
+        });
+    }
+
+    /**
+     * 取消会话的订阅
+     *
+     * @param session WebSocket 会话
+     */
+    public void unsubscribe(WebSocketSession session) {
+        Subscriber subscriber = sessions.remove(session.getId());
+        if (subscriber == null) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.environmentId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 当前订阅的会话数
+     *
+     * @return 会话数
+     */
+    public int getSubscriberCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 配置变更事务提交后加入待推送队列，同一环境在合并窗口内只推送一次
+     *
+     * @param event 配置变更事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        Long environmentId = event.getEnvironmentId();
+        if (!subscribers.containsKey(environmentId)) {
+            return;
+        }
+        boolean[] created = new boolean[1];
+        // 合并在 compute 内完成，与 flush 中的移除互斥，保证变更不会丢失
+        pending.compute(environmentId, (id, batch) -> {
+            if (batch == null) {
+                batch = new PendingChanges();
+                created[0] = true;
+            }
+            batch.add(event);
+            return batch;
+        });
+        if (created[0]) {
+            flushScheduler.schedule(() -> flush(environmentId), coalesceWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 推送指定环境已合并的变更
+     *
+     * @param environmentId 环境ID
+     */
+    void flush(Long environmentId) {
+        PendingChanges batch = pending.remove(environmentId);
+        Set<Subscriber> environmentSubscribers = subscribers.get(environmentId);
+        if (batch == null || environmentSubscribers == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Map<List<String>, TextMessage> messages = buildMessages(environmentId, batch);
+            for (Subscriber subscriber : environmentSubscribers) {
+                TextMessage message = messages.get(subscriber.subscription);
+                if (message != null) {
+                    sendExecutor.execute(() -> send(subscriber, message, batch.createdNanos));
+                }
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Failed to push config changes of environment {}", environmentId, e);
+        } finally {
+            fanoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 按订阅（分组、命名空间）构建消息，相同的订阅只序列化一次；没有相关变更的订阅对应 null
+     */
+    private Map<List<String>, TextMessage> buildMessages(Long environmentId, PendingChanges batch)
+            throws JsonProcessingException {
+        ConfigSnapshot snapshot = configSnapshotCache.getSnapshot(environmentId);
+        List<ConfigDelta> all = new ArrayList<>();
+        List<String> groupNames = new ArrayList<>();
+        for (ConfigChange change : batch.changes.values()) {
+            // 以推送时的快照为准，合并窗口内的多次变更只推送最终值
+            Config config = snapshot.get(change.getConfigKey());
+            ConfigDelta delta;
+            String groupName;
+            if (config != null && Boolean.TRUE.equals(config.getEnabled())) {
+                delta = ConfigDelta.builder()
+                        .key(config.getConfigKey())
+                        .value(config.getConfigValue())
+                        .version(config.getVersion())
+                        .build();
+                groupName = config.getGroupName();
+            } else {
+                delta = ConfigDelta.builder().key(change.getConfigKey()).deleted(true).build();
+                groupName = change.getGroupName();
+            }
+            all.add(delta);
+            groupNames.add(groupName);
+        }
+
+        Map<List<String>, TextMessage> messages = new HashMap<>();
+        for (Subscriber subscriber : subscribers.getOrDefault(environmentId, Set.of())) {
+            if (messages.containsKey(subscriber.subscription)) {
+                continue;
+            }
+            List<ConfigDelta> deltas = new ArrayList<>();
+            for (int i = 0; i < all.size(); i++) {
+                if ((subscriber.groupName == null || subscriber.groupName.equals(groupNames.get(i)))
+                        && ConfigKeyTrie.contains(subscriber.namespace, all.get(i).getKey())) {
+                    deltas.add(all.get(i));
+                }
+            }
+            messages.put(subscriber.subscription,
+                    deltas.isEmpty() ? null : toMessage(environmentId, batch.revision, deltas));
+        }
+        return messages;
+    }
+
+    private TextMessage toMessage(Long environmentId, long revision, List<ConfigDelta> changes)
+            throws JsonProcessingException {
+        return new TextMessage(objectMapper.writeValueAsString(new PushMessage(environmentId, revision, changes)));
+    }
+
+    private void limitBlockingSend(WebSocketSession session) {
+        Session nativeSession = session instanceof NativeWebSocketSession nativeWebSocketSession
+                ? nativeWebSocketSession.getNativeSession(Session.class) : null;
+        if (nativeSession != null) {
+            nativeSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT_PROPERTY, (long) sendTimeLimit);
+        }
+    }
+
+    private void send(Subscriber subscriber, TextMessage message, long createdNanos) {
+        try {
+            subscriber.session.sendMessage(message);
+            deliveryTimer.record(System.nanoTime() - createdNanos, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            sendFailures.increment();
+            log.debug("Closing slow or broken push session {}", subscriber.session.getId(), e);
+            unsubscribe(subscriber.session);
+            try {
+                subscriber.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+                // 会话已不可用
+            }
+        }
+    }
+
+    /**
+     * 合并窗口内某个环境的待推送变更，只在 {@link #pending} 的 compute 中修改
+     */
+    private static final class PendingChanges {
+
+        private final Map<String, ConfigChange> changes = new LinkedHashMap<>();
+
+        /**
+         * 第一次变更加入时的时间，推送延迟从这里开始计算
+         */
+        private final long createdNanos = System.nanoTime();
+
+        private long revision;
+
+        private void add(ConfigChangeEvent event) {
+            for (ConfigChange change : event.getChanges()) {
+                changes.put(change.getConfigKey(), change);
+            }
+            revision = Math.max(revision, event.getRevision());
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Long environmentId;
+
+        private final String groupName;
+
+        private final String namespace;
+
+        /**
+         * 订阅条件（分组、命名空间），条件相同的订阅共用同一条消息
+         */
+        private final List<String> subscription;
+
+        private final WebSocketSession session;
+
+        private Subscriber(Long environmentId, String groupName, String namespace, WebSocketSession session) {
+            this.environmentId = environmentId;
+            this.groupName = groupName;
+            this.namespace = namespace;
+            this.subscription = Arrays.asList(groupName, namespace);
+            this.session = session;
+        }
+    }
+}
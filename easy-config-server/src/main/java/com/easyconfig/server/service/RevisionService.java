@@ -0,0 +1,96 @@
+package com.easyconfig.server.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
+import com.easyconfig.server.repository.EnvironmentRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 环境修订号服务
+ * <p>
+ * 修订号持久化在 environment.revision 字段中，同时在内存中维护一份已提交的最新值：
+ * - 配置变更时在同一事务内原子递增
+ * - 事务提交后通过 {@link ConfigChangeEvent} 更新内存值
+ * - 查询修订号只读内存，未命中时才访问数据库
+ */
+@Service
+public class RevisionService {
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    private final ConcurrentHashMap<Long, Long> revisions = new ConcurrentHashMap<>();
+
+    /**
+     * 递增并返回环境修订号，必须在配置变更事务内调用
+     *
+     * @param environmentId 环境ID
+     * @return 递增后的修订号
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextRevision(Long environmentId) {
+        if (environmentRepository.incrementRevision(environmentId) == 0) {
+            throw new EntityNotFoundException("Environment with id '" + environmentId + "' not found");
+        }
+        return loadRevision(environmentId);
+    }
+
+    /**
+     * 获取环境当前已提交的修订号
+     *
+     * @param environmentId 环境ID
+     * @return 修订号
+     * @throws EntityNotFoundException 如果环境不存在
+     */
+    public long getRevision(Long environmentId) {
+        Long revision = revisions.get(environmentId);
+        if (revision != null) {
+            return revision;
+        }
+        return revisions.merge(environmentId, loadRevision(environmentId), Math::max);
+    }
+
+    /**
+     * 配置变更事务提交后更新内存中的修订号
+     * <p>
+     * 紧随快照缓存失效之后、先于其他提交后监听器执行：
+     * - 快照缓存必须先失效，否则读到新修订号的请求可能拿到旧的配置值
+     * - 长轮询在遍历等待者之后注册的请求按修订号判断是否有变更，
+     *   此时内存中必须已经是新的修订号，否则请求会一直挂起到超时而错过这次变更
+     *
+     * @param event 配置变更事件
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        revisions.merge(event.getEnvironmentId(), event.getRevision(), Math::max);
+    }
+
+    /**
+     * 环境删除提交后移除内存中的修订号，之后查询该环境返回不存在
+     *
+     * @param event 环境删除事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnvironmentDeleted(EnvironmentDeletedEvent event) {
+        revisions.remove(event.getEnvironmentId());
+    }
+
+    private long loadRevision(Long environmentId) {
+        return environmentRepository.findRevisionById(environmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Environment with id '" + environmentId + "' not found"));
+    }
+}
@@ -0,0 +1,215 @@
+package com.easyconfig.server.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.easyconfig.server.cache.ConfigKeyTrie;
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.WatchRequest;
+import com.easyconfig.server.dto.WatchResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 配置长轮询监听服务
+ * <p>
+ * 监听请求以 {@link DeferredResult} 的形式挂起，不占用 Tomcat 工作线程：
+ * - 注册时先加入等待队列再检查当前状态，避免在两步之间错过变更
+ * - 配置变更事务提交后唤醒该环境下相关的监听请求
+ * - 超时未变化时返回 304
+ * <p>
+ * 按修订号监听时可以指定命名空间，只有命名空间内的变更才会唤醒；注册时修订号已经落后则立即返回
+ * （此时无法判断落后的部分是否涉及该命名空间），客户端据此更新修订号后再次监听
+ */
+@Service
+public class WatchService {
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @Value("${easy-config.watch.default-timeout:30000}")
+    private long defaultTimeout = 30000;
+
+    @Value("${easy-config.watch.max-timeout:120000}")
+    private long maxTimeout = 120000;
+
+    private final ConcurrentHashMap<Long, Set<Watcher>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * 挂起一个监听请求
+     *
+     * @param request 监听请求
+     * @return 异步结果，变更时返回 200 和变更内容，超时返回 304
+     * @throws IllegalArgumentException 如果缺少环境ID或超时时间不是正数
+     * @throws EntityNotFoundException  如果环境不存在
+     */
+    public DeferredResult<ResponseEntity<WatchResult>> watch(WatchRequest request) {
+        if (request.getEnvironmentId() == null) {
+            throw new IllegalArgumentException("Environment ID is required");
+        }
+        // 0 或负数会被容器当作永不超时
+        if (request.getTimeout() != null && request.getTimeout() <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        long timeout = request.getTimeout() == null ? defaultTimeout : Math.min(request.getTimeout(), maxTimeout);
+        DeferredResult<ResponseEntity<WatchResult>> result = new DeferredResult<>(timeout,
+                () -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        Watcher watcher = new Watcher(request.getEnvironmentId(), request.getRevision(), request.getKeys(),
+                ConfigKeyTrie.normalize(request.getNamespace()), result);
+
+        // 加入与移除都在 compute 内完成，避免加入到刚被移除的空集合中
+        watchers.compute(watcher.environmentId, (id, set) -> {
+            Set<Watcher> environmentWatchers = set != null ? set : ConcurrentHashMap.newKeySet();
+            environmentWatchers.add(watcher);
+            return environmentWatchers;
+        });
+        result.onCompletion(() -> remove(watcher));
+        result.onTimeout(() -> remove(watcher));
+        result.onError(error -> remove(watcher));
+
+        // 抛出异常时 DeferredResult 不会交给 MVC，上面的回调都不会触发，需要在这里移除
+        try {
+            checkCurrentState(watcher);
+        } catch (RuntimeException e) {
+            remove(watcher);
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * 当前挂起的监听请求数
+     *
+     * @return 监听请求数
+     */
+    public int getWatcherCount() {
+        return watchers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 配置变更事务提交后唤醒相关的监听请求
+     *
+     * @param event 配置变更事件
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfigChange(ConfigChangeEvent event) {
+        Set<Watcher> environmentWatchers = watchers.get(event.getEnvironmentId());
+        if (environmentWatchers == null) {
+            return;
+        }
+        for (Watcher watcher : environmentWatchers) {
+            List<String> changedKeys = watcher.changedKeys(event);
+            if (changedKeys != null) {
+                complete(watcher, event.getRevision(), changedKeys);
+            }
+        }
+    }
+
+    private void checkCurrentState(Watcher watcher) {
+        long revision = revisionService.getRevision(watcher.environmentId);
+        if (watcher.keys == null) {
+            if (watcher.revision == null || watcher.revision != revision) {
+                complete(watcher, revision, List.of());
+            }
+            return;
+        }
+        ConfigSnapshot snapshot = configSnapshotCache.getSnapshot(watcher.environmentId);
+        List<String> changedKeys = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : watcher.keys.entrySet()) {
+            Config config = snapshot.get(entry.getKey());
+            Long visibleVersion = config == null || !Boolean.TRUE.equals(config.getEnabled()) ? null : config.getVersion();
+            if (!Objects.equals(entry.getValue(), visibleVersion)) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        if (!changedKeys.isEmpty()) {
+            complete(watcher, revision, changedKeys);
+        }
+    }
+
+    private void complete(Watcher watcher, long revision, List<String> changedKeys) {
+        remove(watcher);
+        watcher.result.setResult(ResponseEntity.ok(new WatchResult(watcher.environmentId, revision, changedKeys)));
+    }
+
+    private void remove(Watcher watcher) {
+        watchers.computeIfPresent(watcher.environmentId, (id, set) -> {
+            set.remove(watcher);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 挂起的监听请求
+     */
+    private static final class Watcher {
+
+        private final Long environmentId;
+
+        private final Long revision;
+
+        private final Map<String, Long> keys;
+
+        private final String namespace;
+
+        private final DeferredResult<ResponseEntity<WatchResult>> result;
+
+        private Watcher(Long environmentId, Long revision, Map<String, Long> keys, String namespace,
+                DeferredResult<ResponseEntity<WatchResult>> result) {
+            this.environmentId = environmentId;
+            this.revision = revision;
+            this.keys = keys;
+            this.namespace = namespace;
+            this.result = result;
+        }
+
+        /**
+         * 判断事件中与本监听相关的变更
+         *
+         * @return 相关的配置键，不相关时返回 null
+         */
+        private List<String> changedKeys(ConfigChangeEvent event) {
+            if (keys == null) {
+                if (revision != null && event.getRevision() <= revision) {
+                    return null;
+                }
+                List<String> changed = event.getChanges().stream()
+                        .map(ConfigChange::getConfigKey)
+                        .filter(key -> ConfigKeyTrie.contains(namespace, key))
+                        .distinct()
+                        .toList();
+                // 只监听命名空间时，命名空间之外的变更不唤醒
+                return changed.isEmpty() && !namespace.isEmpty() ? null : changed;
+            }
+            List<String> changed = new ArrayList<>();
+            for (ConfigChange change : event.getChanges()) {
+                String key = change.getConfigKey();
+                if (keys.containsKey(key) && !Objects.equals(keys.get(key), change.getVisibleVersion())
+                        && !changed.contains(key)) {
+                    changed.add(key);
+                }
+            }
+            return changed.isEmpty() ? null : changed;
+        }
+    }
+}
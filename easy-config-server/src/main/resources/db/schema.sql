@@ -4,11 +4,15 @@ CREATE TABLE IF NOT EXISTS environment (
     name VARCHAR(50) NOT NULL,
     description VARCHAR(200),
     sort_order INT DEFAULT 0,
+    revision BIGINT DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT uk_env_name UNIQUE (name)
 );
 
+-- 兼容旧版本数据库：补充环境修订号字段
+ALTER TABLE environment ADD COLUMN IF NOT EXISTS revision BIGINT DEFAULT 0;
+
 -- 配置表
 CREATE TABLE IF NOT EXISTS config (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -27,21 +31,35 @@ CREATE TABLE IF NOT EXISTS config (
     CONSTRAINT uk_config_env_key UNIQUE (environment_id, config_key)
 );
 
--- 配置版本表
+-- 配置版本表（较大的配置值以差异形式保存，参见 storage_type / base_version_id；不设外键，配置删除后保留历史）
 CREATE TABLE IF NOT EXISTS config_version (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     config_id BIGINT NOT NULL,
+    environment_id BIGINT,
+    revision BIGINT,
     version BIGINT NOT NULL,
     config_key VARCHAR(200) NOT NULL,
     config_value CLOB,
+    enabled BOOLEAN,
+    storage_type VARCHAR(10) DEFAULT 'FULL',
+    base_version_id BIGINT,
+    chain_index INT DEFAULT 0,
     operation VARCHAR(20) NOT NULL,
     operator VARCHAR(50),
     change_reason VARCHAR(500),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT fk_version_config FOREIGN KEY (config_id) REFERENCES config(id) ON DELETE CASCADE
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
--- 配置变更日志表
+-- 兼容旧版本数据库：补充版本历史字段，移除级联删除历史的外键
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS environment_id BIGINT;
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS revision BIGINT;
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS enabled BOOLEAN;
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS storage_type VARCHAR(10) DEFAULT 'FULL';
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS base_version_id BIGINT;
+ALTER TABLE config_version ADD COLUMN IF NOT EXISTS chain_index INT DEFAULT 0;
+ALTER TABLE config_version DROP CONSTRAINT IF EXISTS fk_version_config;
+
+-- 配置变更日志表（不设外键，配置删除后保留审计日志）
 CREATE TABLE IF NOT EXISTS config_change_log (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     config_id BIGINT NOT NULL,
@@ -52,8 +70,63 @@ CREATE TABLE IF NOT EXISTS config_change_log (
     ip_address VARCHAR(45),
     user_agent VARCHAR(500),
     change_reason VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 兼容旧版本数据库：审计日志异步写入且需在配置删除后保留，移除外键
+ALTER TABLE config_change_log DROP CONSTRAINT IF EXISTS fk_log_config;
+
+-- 配置变更流水表（增量同步使用，只记录变化的配置键，不保存配置值）
+CREATE TABLE IF NOT EXISTS config_change_feed (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    environment_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    config_key VARCHAR(200) NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_change_feed_environment FOREIGN KEY (environment_id) REFERENCES environment(id) ON DELETE CASCADE
+);
+
+-- 环境快照表（按时间点读取环境时作为历史回放的起点）
+CREATE TABLE IF NOT EXISTS environment_snapshot (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    environment_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    config_count INT NOT NULL,
+    baseline BOOLEAN NOT NULL,
+    content CLOB,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_env_snapshot_environment FOREIGN KEY (environment_id) REFERENCES environment(id) ON DELETE CASCADE
+);
+
+-- 发布表（一组整体应用、可一步回滚的配置变更）
+CREATE TABLE IF NOT EXISTS config_release (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    environment_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    revision BIGINT,
+    rollback_of BIGINT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT fk_log_config FOREIGN KEY (config_id) REFERENCES config(id) ON DELETE CASCADE
+    published_at TIMESTAMP,
+    CONSTRAINT fk_release_environment FOREIGN KEY (environment_id) REFERENCES environment(id) ON DELETE CASCADE
+);
+
+-- 发布变更项表（previous_* 为发布前的状态，回滚时使用）
+CREATE TABLE IF NOT EXISTS config_release_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    release_id BIGINT NOT NULL,
+    config_key VARCHAR(200) NOT NULL,
+    action VARCHAR(10) NOT NULL,
+    config_value CLOB,
+    value_type VARCHAR(20),
+    enabled BOOLEAN,
+    previous_exists BOOLEAN,
+    previous_value CLOB,
+    previous_value_type VARCHAR(20),
+    previous_enabled BOOLEAN,
+    CONSTRAINT fk_release_item_release FOREIGN KEY (release_id) REFERENCES config_release(id) ON DELETE CASCADE
 );
 
 -- 导入导出日志表
@@ -76,11 +149,17 @@ CREATE TABLE IF NOT EXISTS import_export_log (
 CREATE INDEX IF NOT EXISTS idx_env_name ON environment(name);
 CREATE INDEX IF NOT EXISTS idx_config_group ON config(group_name);
 CREATE INDEX IF NOT EXISTS idx_config_enabled ON config(enabled);
+CREATE INDEX IF NOT EXISTS idx_config_env_id ON config(environment_id, id);
 CREATE INDEX IF NOT EXISTS idx_version_config ON config_version(config_id);
 CREATE INDEX IF NOT EXISTS idx_version_created ON config_version(created_at);
+CREATE INDEX IF NOT EXISTS idx_version_env_revision ON config_version(environment_id, revision);
 CREATE INDEX IF NOT EXISTS idx_log_config ON config_change_log(config_id);
 CREATE INDEX IF NOT EXISTS idx_log_operation ON config_change_log(operation);
 CREATE INDEX IF NOT EXISTS idx_log_created ON config_change_log(created_at);
+CREATE INDEX IF NOT EXISTS idx_change_feed_env_revision ON config_change_feed(environment_id, revision);
+CREATE INDEX IF NOT EXISTS idx_env_snapshot_revision ON environment_snapshot(environment_id, revision);
+CREATE INDEX IF NOT EXISTS idx_release_env_status ON config_release(environment_id, status);
+CREATE INDEX IF NOT EXISTS idx_release_item_release ON config_release_item(release_id);
 CREATE INDEX IF NOT EXISTS idx_import_env ON import_export_log(environment_id);
 CREATE INDEX IF NOT EXISTS idx_import_type ON import_export_log(operation_type);
 CREATE INDEX IF NOT EXISTS idx_import_created ON import_export_log(created_at);
\ No newline at end of file
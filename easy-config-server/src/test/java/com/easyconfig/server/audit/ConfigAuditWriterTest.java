@@ -0,0 +1,167 @@
+package com.easyconfig.server.audit;
+
+import com.easyconfig.server.entity.ConfigChangeLog;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigAuditWriter 单元测试")
+class ConfigAuditWriterTest {
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ConfigAuditWriter configAuditWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        configAuditWriter.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("SYNC - 调用时立即批量写入")
+    void sync_WritesImmediately() {
+        // Given
+        start(AuditMode.SYNC);
+        List<ConfigChangeLog> logs = List.of(changeLog(1L), changeLog(2L));
+
+        // When
+        configAuditWriter.record(logs);
+
+        // Then
+        verify(configJdbcRepository).batchInsertChangeLogs(logs);
+        AuditStats stats = configAuditWriter.getStats();
+        assertThat(stats.getWritten()).isEqualTo(2);
+        assertThat(stats.getFlushes()).isEqualTo(1);
+        assertThat(stats.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("ASYNC - 事务提交后才入队，由后台线程写入")
+    @SuppressWarnings("unchecked")
+    void async_EnqueuedAfterCommit() throws InterruptedException {
+        // Given
+        start(AuditMode.ASYNC);
+        TransactionSynchronizationManager.initSynchronization();
+        List<ConfigChangeLog> logs = List.of(changeLog(1L), changeLog(2L));
+
+        // When
+        configAuditWriter.record(logs);
+
+        // Then
+        assertThat(configAuditWriter.getStats().getEnqueued()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(configAuditWriter.getStats().getEnqueued()).isEqualTo(2);
+        // 后台线程可能在第二条入队前取走第一条，分两批写入
+        long deadline = System.currentTimeMillis() + 2000;
+        while (configAuditWriter.getStats().getWritten() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        ArgumentCaptor<List<ConfigChangeLog>> written = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository, atLeastOnce()).batchInsertChangeLogs(written.capture());
+        assertThat(written.getAllValues().stream().flatMap(List::stream).toList()).isEqualTo(logs);
+    }
+
+    @Test
+    @DisplayName("ASYNC - 事务回滚时不记录")
+    void async_RollbackDiscarded() {
+        // Given
+        start(AuditMode.ASYNC);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        configAuditWriter.record(List.of(changeLog(1L)));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(configAuditWriter.getStats().getEnqueued()).isZero();
+        verifyNoInteractions(configJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("GROUP_COMMIT - 等待日志写入完成后返回")
+    void groupCommit_WaitsForFlush() throws InterruptedException {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(configJdbcRepository).batchInsertChangeLogs(anyList());
+        start(AuditMode.GROUP_COMMIT);
+
+        // When
+        Thread caller = new Thread(() -> configAuditWriter.record(List.of(changeLog(1L))));
+        caller.start();
+
+        // Then
+        caller.join(200);
+        assertThat(caller.isAlive()).isTrue();
+        writing.countDown();
+        caller.join(2000);
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(configAuditWriter.getStats().getWritten()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ASYNC - 队列已满时丢弃并计数")
+    void async_QueueFullDropped() {
+        // Given
+        ReflectionTestUtils.setField(configAuditWriter, "queueCapacity", 2);
+        ReflectionTestUtils.setField(configAuditWriter, "offerTimeout", 0L);
+        // 以 SYNC 启动不会创建后台线程，切换为 ASYNC 后队列不会被消费
+        start(AuditMode.SYNC);
+        ReflectionTestUtils.setField(configAuditWriter, "mode", AuditMode.ASYNC);
+
+        // When
+        configAuditWriter.record(List.of(changeLog(1L), changeLog(2L), changeLog(3L)));
+
+        // Then
+        AuditStats stats = configAuditWriter.getStats();
+        assertThat(stats.getEnqueued()).isEqualTo(2);
+        assertThat(stats.getDropped()).isEqualTo(1);
+        assertThat(stats.getQueueDepth()).isEqualTo(2);
+    }
+
+    private void start(AuditMode mode) {
+        ReflectionTestUtils.setField(configAuditWriter, "mode", mode);
+        configAuditWriter.start();
+    }
+
+    private ConfigChangeLog changeLog(Long configId) {
+        return ConfigChangeLog.builder()
+                .configId(configId)
+                .operation(ConfigOperation.UPDATE)
+                .newConfigValue("value-" + configId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.easyconfig.server.cache;
+
+import com.easyconfig.server.dto.ConfigNamespace;
+import com.easyconfig.server.entity.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ConfigKeyTrie 单元测试")
+class ConfigKeyTrieTest {
+
+    private ConfigKeyTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = ConfigKeyTrie.of(Stream.of("db.pool", "db.pool.size", "db.pool.max-wait", "db.pooling", "db.url",
+                        "payment.gateway.url", "app")
+                .map(key -> Config.builder().configKey(key).build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("命名空间按段匹配，包含同名配置")
+    void subtree_MatchesWholeSegments() {
+        // When
+        List<Config> result = trie.subtree("db.pool");
+
+        // Then
+        assertThat(result).extracting(Config::getConfigKey)
+                .containsExactly("db.pool", "db.pool.max-wait", "db.pool.size");
+    }
+
+    @Test
+    @DisplayName("db.pool.* 与 db.pool 等价，空命名空间返回全部配置")
+    void subtree_NormalizesNamespace() {
+        // When & Then
+        assertThat(trie.subtree("db.pool.*")).hasSize(3);
+        assertThat(trie.subtree("db.pool.")).hasSize(3);
+        assertThat(trie.subtree(null)).hasSize(7);
+        assertThat(trie.subtree("db.po")).isEmpty();
+        assertThat(trie.subtree("missing.namespace")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("列出下一级节点及其配置数量")
+    void children_ListsNextLevel() {
+        // When
+        List<ConfigNamespace> top = trie.children(null);
+        List<ConfigNamespace> db = trie.children("db");
+
+        // Then
+        assertThat(top).extracting(ConfigNamespace::getPath, ConfigNamespace::getConfigCount)
+                .containsExactly(tuple("app", 1), tuple("db", 5), tuple("payment", 1));
+        assertThat(db).extracting(ConfigNamespace::getName, ConfigNamespace::isConfig,
+                        ConfigNamespace::isHasChildren, ConfigNamespace::getConfigCount)
+                .containsExactly(
+                        tuple("pool", true, true, 3),
+                        tuple("pooling", true, false, 1),
+                        tuple("url", true, false, 1));
+        assertThat(trie.children("db.url")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("判断配置键是否属于命名空间")
+    void contains() {
+        // When & Then
+        assertThat(ConfigKeyTrie.contains("db.pool", "db.pool")).isTrue();
+        assertThat(ConfigKeyTrie.contains("db.pool", "db.pool.size")).isTrue();
+        assertThat(ConfigKeyTrie.contains("db.pool", "db.pooling")).isFalse();
+        assertThat(ConfigKeyTrie.contains("", "anything")).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.easyconfig.server.cache;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigSnapshotCache 单元测试")
+class ConfigSnapshotCacheTest {
+
+    @Mock
+    private ConfigRepository configRepository;
+
+    @InjectMocks
+    private ConfigSnapshotCache configSnapshotCache;
+
+    private Config config1;
+    private Config config2;
+
+    @BeforeEach
+    void setUp() {
+        Environment devEnv = Environment.builder()
+                .id(1L)
+                .name("dev")
+                .build();
+
+        config1 = Config.builder()
+                .id(1L)
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("Easy-Config")
+                .build();
+
+        config2 = Config.builder()
+                .id(2L)
+                .environment(devEnv)
+                .configKey("app.version")
+                .configValue("1.0.0")
+                .build();
+    }
+
+    @Test
+    @DisplayName("首次读取加载快照，后续读取命中缓存")
+    void get_LoadsOnceThenHits() {
+        // Given
+        when(configRepository.findByEnvironmentId(1L)).thenReturn(Arrays.asList(config1, config2));
+
+        // When
+        Optional<Config> first = configSnapshotCache.get(1L, "app.name");
+        Optional<Config> second = configSnapshotCache.get(1L, "app.version");
+        Optional<Config> missing = configSnapshotCache.get(1L, "nonexistent");
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(first.get().getConfigValue()).isEqualTo("Easy-Config");
+        assertThat(second).isPresent();
+        assertThat(missing).isEmpty();
+
+        verify(configRepository, times(1)).findByEnvironmentId(1L);
+
+        CacheStats stats = configSnapshotCache.getStats();
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getRebuilds()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("快照中的配置为副本，不受实体后续修改影响")
+    void get_ReturnsDetachedCopy() {
+        // Given
+        when(configRepository.findByEnvironmentId(1L)).thenReturn(List.of(config1));
+
+        // When
+        configSnapshotCache.get(1L, "app.name");
+        config1.setConfigValue("changed");
+
+        // Then
+        assertThat(configSnapshotCache.get(1L, "app.name").get().getConfigValue()).isEqualTo("Easy-Config");
+    }
+
+    @Test
+    @DisplayName("配置变更后失效快照并在下次读取时重建")
+    void onConfigChange_InvalidatesSnapshot() {
+        // Given
+        when(configRepository.findByEnvironmentId(1L))
+                .thenReturn(List.of(config1))
+                .thenReturn(Arrays.asList(config1, config2));
+        configSnapshotCache.get(1L, "app.name");
+
+        // When
+        configSnapshotCache.onConfigChange(new ConfigChangeEvent(1L, 1L,
+                List.of(ConfigChange.of(config2, ConfigOperation.CREATE))));
+        Optional<Config> result = configSnapshotCache.get(1L, "app.version");
+
+        // Then
+        assertThat(result).isPresent();
+        verify(configRepository, times(2)).findByEnvironmentId(1L);
+        assertThat(configSnapshotCache.getStats().getRebuilds()).isEqualTo(2);
+    }
+}
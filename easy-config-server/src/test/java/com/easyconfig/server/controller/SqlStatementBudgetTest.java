@@ -0,0 +1,173 @@
+package com.easyconfig.server.controller;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.monitor.SqlStatementCountFilter;
+import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.repository.EnvironmentRepository;
+import com.easyconfig.server.service.EnvironmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 接口 SQL 语句数预算：列表类接口的语句数不应随返回行数增长（N+1 回归在这里失败）
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sql-statement-budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@DisplayName("接口 SQL 语句数预算")
+class SqlStatementBudgetTest {
+
+    private static final int CONFIG_COUNT = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    private Environment environment;
+
+    private Config config;
+
+    @BeforeEach
+    void setUp() {
+        // 环境缓存按名称保留已删除的环境，每个测试使用不同的环境名称
+        environment = environmentRepository.save(Environment.builder()
+                .name("budget-" + System.nanoTime())
+                .sortOrder(0)
+                .build());
+        configRepository.saveAll(IntStream.range(0, CONFIG_COUNT)
+                .mapToObj(i -> Config.builder()
+                        .environment(environment)
+                        .configKey("app.key-" + i)
+                        .configValue("value-" + i)
+                        .groupName("basic")
+                        .build())
+                .toList());
+        config = configRepository.findByEnvironmentIdAndConfigKey(environment.getId(), "app.key-0").orElseThrow();
+        // 环境缓存常驻，预算按缓存已命中的稳定状态计算
+        environmentService.getEnvironmentById(environment.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        configRepository.deleteAll();
+        environmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("分页列表 - 不随行数增长")
+    void list() throws Exception {
+        assertThat(statements(get("/config/list").param("environmentId", id()))).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("跨环境分页列表 - 环境名称取自环境缓存，不随环境数增长")
+    void listAcrossEnvironments() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            Environment other = environmentRepository.save(Environment.builder()
+                    .name(environment.getName() + "-" + i)
+                    .build());
+            configRepository.save(Config.builder().environment(other).configKey("app.key-0").configValue("v").build());
+        }
+
+        // When & Then：一条分页查询，加上未命中缓存的环境合并后的一条查询
+        assertThat(statements(get("/config/list"))).isLessThanOrEqualTo(2);
+        assertThat(statements(get("/config/list").param("groupName", "basic"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("摘要列表 - 不随行数增长")
+    void summaries() throws Exception {
+        assertThat(statements(get("/config/summaries").param("environmentId", id()))).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("快照 - 缓存未命中时读取修订号并加载快照，命中后不访问数据库")
+    void snapshot() throws Exception {
+        String name = environment.getName();
+        assertThat(statements(get("/config/snapshot").param("environment", name))).isLessThanOrEqualTo(3);
+        assertThat(statements(get("/config/snapshot").param("environment", name))).isZero();
+    }
+
+    @Test
+    @DisplayName("命名空间子树 - 不随行数增长")
+    void subtree() throws Exception {
+        assertThat(statements(get("/config/subtree").param("environmentId", id()).param("namespace", "app")))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("更新单个配置 - 读取、写入、修订号、变更流水、版本历史")
+    void update() throws Exception {
+        assertThat(statements(put("/config/" + config.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"configValue\":\"changed\"}")))
+                .isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("批量写入 - 不随条数增长")
+    void batchUpsert() throws Exception {
+        StringBuilder configs = new StringBuilder();
+        for (int i = 0; i < CONFIG_COUNT; i++) {
+            configs.append(i == 0 ? "" : ",")
+                    .append("{\"configKey\":\"app.key-").append(i).append("\",\"configValue\":\"v2\"}")
+                    .append(",{\"configKey\":\"new.key-").append(i).append("\",\"configValue\":\"v\"}");
+        }
+        assertThat(statements(post("/config/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"environmentId\":" + id() + ",\"configs\":[" + configs + "]}")))
+                .isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("按路由模板记录语句数指标")
+    void metric() throws Exception {
+        // When
+        statements(get("/config/list").param("environmentId", id()));
+
+        // Then
+        assertThat(meterRegistry.get("easyconfig.sql.statements").tag("uri", "/config/list").summary().count())
+                .isPositive();
+    }
+
+    private String id() {
+        return environment.getId().toString();
+    }
+
+    private int statements(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+        assertThat(header).isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,73 @@
+package com.easyconfig.server.controller;
+
+import com.easyconfig.server.service.PushService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketController 单元测试")
+class WebSocketControllerTest {
+
+    @Mock
+    private PushService pushService;
+
+    @Mock
+    private WebSocketSession session;
+
+    @InjectMocks
+    private WebSocketController webSocketController;
+
+    @Test
+    @DisplayName("建立连接 - 分组和命名空间按 UTF-8 解码后订阅")
+    void afterConnectionEstablished_DecodesParameters() throws Exception {
+        // Given
+        when(session.getUri()).thenReturn(URI.create(
+                "ws://localhost/ws/config?environmentId=1&group=%E6%95%B0%E6%8D%AE%E5%BA%93%20a%25b&namespace=pay.gw"));
+
+        // When
+        webSocketController.afterConnectionEstablished(session);
+
+        // Then
+        verify(pushService).subscribe(session, 1L, "数据库 a%b", "pay.gw");
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("建立连接 - environmentId 无法解析时关闭连接")
+    void afterConnectionEstablished_InvalidEnvironmentId() throws Exception {
+        // Given
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/config?environmentId=99999999999999999999"));
+
+        // When
+        webSocketController.afterConnectionEstablished(session);
+
+        // Then
+        verify(session).close(argThat((CloseStatus status) -> status.getCode() == CloseStatus.BAD_DATA.getCode()));
+        verifyNoInteractions(pushService);
+    }
+
+    @Test
+    @DisplayName("建立连接 - 缺少 environmentId 时关闭连接")
+    void afterConnectionEstablished_MissingEnvironmentId() throws Exception {
+        // Given
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/config?group=database"));
+
+        // When
+        webSocketController.afterConnectionEstablished(session);
+
+        // Then
+        verify(session).close(argThat((CloseStatus status) -> status.getCode() == CloseStatus.BAD_DATA.getCode()));
+        verifyNoInteractions(pushService);
+    }
+}
@@ -0,0 +1,101 @@
+package com.easyconfig.server.exchange;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConfigExportWriter 单元测试")
+class ConfigExportWriterTest {
+
+    private static final Map<String, String> CONFIGS = new LinkedHashMap<>();
+
+    static {
+        CONFIGS.put("app.name", "Easy-Config");
+        CONFIGS.put("app.port", "8080");
+        CONFIGS.put("app.enabled", "true");
+        CONFIGS.put("app.empty", "");
+        CONFIGS.put("app.title", "配置中心: #1 = 好用!");
+        CONFIGS.put("app.multiline", "line1\nline2\t end ");
+        CONFIGS.put("app.key with space", " leading space");
+        CONFIGS.put("app.null", "null");
+    }
+
+    @Test
+    @DisplayName("导出 YAML - 可被解析回相同的字符串值")
+    void yaml_RoundTrip() throws IOException {
+        String yaml = export(ConfigFileFormat.YAML);
+
+        Map<String, Object> parsed = new Yaml().load(yaml);
+        assertThat(parsed).isEqualTo(new LinkedHashMap<>(CONFIGS));
+        assertThat(yaml).contains("app.name: Easy-Config");
+    }
+
+    @Test
+    @DisplayName("导出 Properties - 可被 Properties 解析回相同的值")
+    void properties_RoundTrip() throws IOException {
+        String properties = export(ConfigFileFormat.PROPERTIES);
+
+        Properties parsed = new Properties();
+        parsed.load(new StringReader(properties));
+        assertThat(parsed).isEqualTo(new LinkedHashMap<>(CONFIGS));
+        assertThat(properties).isEqualTo(new String(properties.getBytes(StandardCharsets.US_ASCII),
+                StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("导出 JSON - 可被解析回相同的值")
+    void json_RoundTrip() throws IOException {
+        String json = export(ConfigFileFormat.JSON);
+
+        Map<String, String> parsed = new ObjectMapper().readValue(json, new TypeReference<>() {
+        });
+        assertThat(parsed).containsExactlyEntriesOf(CONFIGS);
+    }
+
+    @Test
+    @DisplayName("导出空环境")
+    void emptyEnvironment() throws IOException {
+        for (ConfigFileFormat format : ConfigFileFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ConfigExportWriter writer = format.newWriter(out);
+            writer.start();
+            writer.finish();
+            assertThat(out.size()).as(format.name()).isLessThan(16);
+        }
+    }
+
+    @Test
+    @DisplayName("解析文件格式")
+    void parseFormat() {
+        assertThat(ConfigFileFormat.of("yml")).isEqualTo(ConfigFileFormat.YAML);
+        assertThat(ConfigFileFormat.of("Properties")).isEqualTo(ConfigFileFormat.PROPERTIES);
+        assertThat(ConfigFileFormat.of("JSON")).isEqualTo(ConfigFileFormat.JSON);
+        assertThatThrownBy(() -> ConfigFileFormat.of("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported config file format");
+    }
+
+    private static String export(ConfigFileFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigExportWriter writer = format.newWriter(out);
+        writer.start();
+        for (Map.Entry<String, String> entry : CONFIGS.entrySet()) {
+            writer.write(entry.getKey(), entry.getValue());
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,142 @@
+package com.easyconfig.server.exchange;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConfigImportReader 单元测试")
+class ConfigImportReaderTest {
+
+    @Test
+    @DisplayName("读取 YAML - 嵌套对象和列表展开为点分配置键")
+    void yaml_Flatten() throws IOException {
+        String yaml = """
+                app:
+                  name: Easy-Config
+                  port: 8080
+                  empty: ''
+                  missing:
+                  servers:
+                    - a.example.com
+                    - host: b.example.com
+                      port: 9090
+                spring.profiles: dev
+                """;
+
+        Map<String, String> configs = read(ConfigFileFormat.YAML, yaml);
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("app.name", "Easy-Config");
+        expected.put("app.port", "8080");
+        expected.put("app.empty", "");
+        expected.put("app.missing", null);
+        expected.put("app.servers[0]", "a.example.com");
+        expected.put("app.servers[1].host", "b.example.com");
+        expected.put("app.servers[1].port", "9090");
+        expected.put("spring.profiles", "dev");
+        assertThat(configs).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    @DisplayName("读取 YAML - 不支持别名")
+    void yaml_AliasRejected() {
+        String yaml = "base: &base value\ncopy: *base\n";
+
+        assertThatThrownBy(() -> read(ConfigFileFormat.YAML, yaml))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("aliases");
+    }
+
+    @Test
+    @DisplayName("读取 JSON - 嵌套对象和数组展开为点分配置键")
+    void json_Flatten() throws IOException {
+        String json = """
+                {"app": {"name": "Easy-Config", "port": 8080, "debug": false, "missing": null,
+                 "tags": ["a", {"b": "c"}]}}
+                """;
+
+        Map<String, String> configs = read(ConfigFileFormat.JSON, json);
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("app.name", "Easy-Config");
+        expected.put("app.port", "8080");
+        expected.put("app.debug", "false");
+        expected.put("app.missing", null);
+        expected.put("app.tags[0]", "a");
+        expected.put("app.tags[1].b", "c");
+        assertThat(configs).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    @DisplayName("读取 JSON - 格式错误")
+    void json_Invalid() {
+        assertThatThrownBy(() -> read(ConfigFileFormat.JSON, "{\"app\": "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid JSON");
+    }
+
+    @Test
+    @DisplayName("读取 Properties - 与 Properties.load 解析结果一致")
+    void properties_MatchesJdk() throws IOException {
+        String text = """
+                # comment
+                ! another comment
+                app.name = Easy-Config
+                app.port:8080
+                app.title  配置中心\\u0021
+                app.list = a, \\
+                           b, \\
+                           c
+                app.key\\ with\\=sep = value\\nnext
+                app.trailing = ends with backslash\\\\
+                app.empty=
+                """;
+
+        Map<String, String> configs = read(ConfigFileFormat.PROPERTIES, text);
+
+        Properties properties = new Properties();
+        properties.load(new java.io.StringReader(text));
+        assertThat(configs).hasSize(properties.size());
+        properties.forEach((key, value) -> assertThat(configs).containsEntry((String) key, (String) value));
+        assertThat(configs).containsEntry("app.list", "a, b, c");
+    }
+
+    @Test
+    @DisplayName("读取 Properties - 可读取导出的文件")
+    void properties_ExportRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigExportWriter writer = ConfigFileFormat.PROPERTIES.newWriter(out);
+        writer.start();
+        writer.write("app.title", "配置中心: #1 = 好用!");
+        writer.write("app.multiline", "line1\nline2\t end ");
+        writer.finish();
+
+        Map<String, String> configs = read(ConfigFileFormat.PROPERTIES, out.toString(StandardCharsets.ISO_8859_1));
+
+        assertThat(configs)
+                .containsEntry("app.title", "配置中心: #1 = 好用!")
+                .containsEntry("app.multiline", "line1\nline2\t end ");
+    }
+
+    private Map<String, String> read(ConfigFileFormat format, String content) throws IOException {
+        Map<String, String> configs = new LinkedHashMap<>();
+        try (ConfigImportReader reader = format.newReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            Map.Entry<String, String> entry;
+            while ((entry = reader.next()) != null) {
+                configs.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return configs;
+    }
+}
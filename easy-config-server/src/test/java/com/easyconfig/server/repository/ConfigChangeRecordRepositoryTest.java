@@ -0,0 +1,60 @@
+package com.easyconfig.server.repository;
+
+import com.easyconfig.server.entity.ConfigChangeRecord;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigOperation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ConfigChangeRecordRepositoryTest {
+
+    @Autowired
+    private ConfigChangeRecordRepository configChangeRecordRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    private Long environmentId;
+
+    @BeforeEach
+    void setUp() {
+        environmentId = environmentRepository.save(Environment.builder().name("feed-dev").build()).getId();
+        configChangeRecordRepository.saveAll(List.of(
+                record(3L, "app.name", ConfigOperation.CREATE),
+                record(4L, "app.port", ConfigOperation.CREATE),
+                record(5L, "app.name", ConfigOperation.UPDATE),
+                record(6L, "app.port", ConfigOperation.DELETE)));
+    }
+
+    @Test
+    void testFindDistinctConfigKeysSince() {
+        assertThat(configChangeRecordRepository.findDistinctConfigKeysSince(environmentId, 3L))
+                .containsExactlyInAnyOrder("app.name", "app.port");
+        assertThat(configChangeRecordRepository.findDistinctConfigKeysSince(environmentId, 5L))
+                .containsExactly("app.port");
+        assertThat(configChangeRecordRepository.findDistinctConfigKeysSince(environmentId, 6L)).isEmpty();
+    }
+
+    @Test
+    void testFindMinRevisionByEnvironmentId() {
+        assertThat(configChangeRecordRepository.findMinRevisionByEnvironmentId(environmentId)).isEqualTo(3L);
+        assertThat(configChangeRecordRepository.findMinRevisionByEnvironmentId(environmentId + 1)).isNull();
+    }
+
+    private ConfigChangeRecord record(Long revision, String configKey, ConfigOperation operation) {
+        return ConfigChangeRecord.builder()
+                .environmentId(environmentId)
+                .revision(revision)
+                .configKey(configKey)
+                .operation(operation)
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.easyconfig.server.repository;
+
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigChangeRecord;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigOperation;
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(ConfigJdbcRepository.class)
+class ConfigJdbcRepositoryTest {
+
+    private static final int LAZY_ROWS = 10_000;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ConfigChangeRecordRepository configChangeRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Environment devEnv;
+
+    @BeforeEach
+    void setUp() {
+        devEnv = environmentRepository.save(Environment.builder().name("jdbc-dev").build());
+    }
+
+    @Test
+    void testBatchInsertAcrossBatches() {
+        // 超过单批大小，验证分批插入和主键回填
+        LocalDateTime now = LocalDateTime.now();
+        List<Config> configs = new ArrayList<>();
+        for (int i = 0; i < ConfigJdbcRepository.BATCH_SIZE + 3; i++) {
+            configs.add(Config.builder()
+                    .environment(devEnv)
+                    .configKey("batch.key-" + i)
+                    .configValue("value-" + i)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        configJdbcRepository.batchInsert(configs);
+
+        assertThat(configs).allSatisfy(config -> assertThat(config.getId()).isNotNull());
+        assertThat(configRepository.countByEnvironmentId(devEnv.getId())).isEqualTo(configs.size());
+        Config last = configRepository.findById(configs.get(configs.size() - 1).getId()).orElseThrow();
+        assertThat(last.getConfigKey()).isEqualTo("batch.key-" + (configs.size() - 1));
+    }
+
+    @Test
+    void testBatchInsert_DuplicateKeyReportsKey() {
+        // 批量写入依赖错误信息中的约束名和配置键来定位冲突
+        configRepository.save(Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("Easy-Config")
+                .build());
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        Config duplicate = Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("other")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        assertThatThrownBy(() -> configJdbcRepository.batchInsert(List.of(duplicate)))
+                .isInstanceOf(DuplicateKeyException.class)
+                .satisfies(e -> assertThat(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+                        .containsIgnoringCase("uk_config_env_key")
+                        .contains("app.name"));
+    }
+
+    @Test
+    void testBatchUpdate() {
+        Config config = configRepository.save(Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("Easy-Config")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Config changed = config.toBuilder()
+                .configValue("Easy-Config 2")
+                .enabled(false)
+                .version(2L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        List<Config> stale = configJdbcRepository.batchUpdate(List.of(changed));
+
+        assertThat(stale).isEmpty();
+        Config result = configRepository.findById(config.getId()).orElseThrow();
+        assertThat(result.getConfigValue()).isEqualTo("Easy-Config 2");
+        assertThat(result.getEnabled()).isFalse();
+        assertThat(result.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void testBatchUpdate_SkipsConcurrentlyModified() {
+        Config config = configRepository.save(Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("Easy-Config")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // 基于已过期的版本号 0 更新
+        Config changed = config.toBuilder()
+                .configValue("Stale")
+                .version(1L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        List<Config> stale = configJdbcRepository.batchUpdate(List.of(changed));
+
+        assertThat(stale).containsExactly(changed);
+        Config result = configRepository.findById(config.getId()).orElseThrow();
+        assertThat(result.getConfigValue()).isEqualTo("Easy-Config");
+        assertThat(result.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testBatchInsertChangeRecords() {
+        configJdbcRepository.batchInsertChangeRecords(List.of(
+                ConfigChangeRecord.builder().environmentId(devEnv.getId()).revision(3L)
+                        .configKey("app.name").operation(ConfigOperation.UPDATE).build(),
+                ConfigChangeRecord.builder().environmentId(devEnv.getId()).revision(3L)
+                        .configKey("app.debug").operation(ConfigOperation.DELETE).build()));
+
+        assertThat(configChangeRecordRepository.findAll())
+                .extracting(ConfigChangeRecord::getConfigKey, ConfigChangeRecord::getOperation)
+                .containsExactlyInAnyOrder(
+                        tuple("app.name", ConfigOperation.UPDATE),
+                        tuple("app.debug", ConfigOperation.DELETE));
+        assertThat(configChangeRecordRepository.findAll()).allSatisfy(record -> {
+            assertThat(record.getId()).isNotNull();
+            assertThat(record.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void testFindByEnvironmentIdAndConfigKeyIn() {
+        configRepository.save(Config.builder().environment(devEnv).configKey("a").build());
+        configRepository.save(Config.builder().environment(devEnv).configKey("b").build());
+
+        List<Config> result = configRepository.findByEnvironmentIdAndConfigKeyIn(devEnv.getId(),
+                List.of("a", "missing"));
+
+        assertThat(result).extracting(Config::getConfigKey).containsExactly("a");
+    }
+
+    @Test
+    void testStreamEnabledConfigs() throws IOException {
+        configRepository.save(Config.builder().environment(devEnv).configKey("b").configValue("2").build());
+        configRepository.save(Config.builder().environment(devEnv).configKey("a").configValue("1").build());
+        configRepository.save(Config.builder().environment(devEnv).configKey("c").configValue("3").enabled(false).build());
+        entityManager.flush();
+
+        List<String> rows = new ArrayList<>();
+        configJdbcRepository.streamEnabledConfigs(devEnv.getId(), (key, value) -> rows.add(key + "=" + value));
+
+        assertThat(rows).containsExactly("a=1", "b=2");
+    }
+
+    @Test
+    void testStreamingReadsRowsLazily() throws IOException {
+        // 与 application.yml 相同开启惰性执行：第一行到达回调之前不应先读入整个结果集
+        LocalDateTime now = LocalDateTime.now();
+        List<Config> configs = new ArrayList<>();
+        for (int i = 0; i < LAZY_ROWS; i++) {
+            configs.add(Config.builder()
+                    .environment(devEnv)
+                    .configKey(String.format("lazy.key-%05d", i))
+                    .configValue("v".repeat(200))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        configJdbcRepository.batchInsert(configs);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        jdbcTemplate.execute("SET LAZY_QUERY_EXECUTION TRUE");
+        try {
+            long[] beforeFirstRow = {-1, -1};
+            int[] rows = {0};
+            long start = threads.getCurrentThreadAllocatedBytes();
+            configJdbcRepository.streamEnabledConfigs(devEnv.getId(), (key, value) -> {
+                if (rows[0]++ == 0) {
+                    beforeFirstRow[0] = threads.getCurrentThreadAllocatedBytes() - start;
+                }
+            });
+            long metadataStart = threads.getCurrentThreadAllocatedBytes();
+            configJdbcRepository.streamConfigMetadata((id, environmentId, key, description, groupName) -> {
+                if (beforeFirstRow[1] < 0) {
+                    beforeFirstRow[1] = threads.getCurrentThreadAllocatedBytes() - metadataStart;
+                }
+            });
+
+            assertThat(rows[0]).isEqualTo(LAZY_ROWS);
+            // 整个结果集约 2 MB，逐行读取时第一行之前只有几十 KB
+            assertThat(beforeFirstRow[0]).isBetween(0L, 256L * 1024);
+            assertThat(beforeFirstRow[1]).isBetween(0L, 256L * 1024);
+        } finally {
+            jdbcTemplate.execute("SET LAZY_QUERY_EXECUTION FALSE");
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package com.easyconfig.server.repository;
 
+import com.easyconfig.server.dto.ConfigCounts;
+import com.easyconfig.server.dto.ConfigSummary;
 import com.easyconfig.server.entity.Config;
 import com.easyconfig.server.entity.Environment;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 class ConfigRepositoryTest {
@@ -23,6 +35,9 @@ class ConfigRepositoryTest {
     @Autowired
     private EnvironmentRepository environmentRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Environment devEnv;
     private Environment testEnv;
     private Config config1;
@@ -121,6 +136,49 @@ class ConfigRepositoryTest {
         assertThat(result.get().getConfigKey()).isEqualTo("app.name");
     }
 
+    @Test
+    void testSave_DuplicateKeyViolatesUniqueConstraint() {
+        Config duplicate = Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("Duplicate")
+                .valueType("STRING")
+                .encrypted(false)
+                .enabled(true)
+                .version(1L)
+                .build();
+
+        assertThatThrownBy(() -> configRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .cause()
+                .isInstanceOfSatisfying(ConstraintViolationException.class, violation ->
+                        assertThat(violation.getConstraintName()).containsIgnoringCase("uk_config_env_key"));
+
+        // 插入失败的实体仍在持久化上下文中，清理后 tearDown 才能继续使用会话
+        entityManager.clear();
+    }
+
+    @Test
+    void testSave_StaleVersionRejected() {
+        entityManager.flush();
+        entityManager.clear();
+        Config first = configRepository.findById(config1.getId()).orElseThrow();
+        entityManager.clear();
+        Config second = configRepository.findById(config1.getId()).orElseThrow();
+        entityManager.clear();
+
+        first.setConfigValue("First");
+        configRepository.saveAndFlush(first);
+        second.setConfigValue("Second");
+
+        assertThatThrownBy(() -> configRepository.saveAndFlush(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        entityManager.clear();
+        Config result = configRepository.findById(config1.getId()).orElseThrow();
+        assertThat(result.getConfigValue()).isEqualTo("First");
+        assertThat(result.getVersion()).isEqualTo(2L);
+    }
+
     @Test
     void testFindByConfigKeyContaining_KeywordMatch() {
         List<Config> result = configRepository.findByConfigKeyContaining("app");
@@ -165,6 +223,24 @@ class ConfigRepositoryTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void testFindWithEnvironment_EnvironmentLoadedInSameQuery() {
+        entityManager.clear();
+
+        List<Config> byGroup = configRepository.findWithEnvironmentByGroupName("basic");
+        List<Config> enabled = configRepository.findWithEnvironmentByEnabledTrue();
+        List<Config> byType = configRepository.findWithEnvironmentByValueType("STRING");
+        List<Config> all = configRepository.findAllWithEnvironment();
+
+        assertThat(byGroup).hasSize(2);
+        assertThat(enabled).hasSize(3);
+        assertThat(byType).hasSize(3);
+        assertThat(all).hasSize(3);
+        assertThat(all).allSatisfy(config -> assertThat(Hibernate.isInitialized(config.getEnvironment())).isTrue());
+        assertThat(all).extracting(config -> config.getEnvironment().getName())
+                .containsExactlyInAnyOrder("dev", "dev", "test");
+    }
+
     @Test
     void testFindAllDistinctGroupNames_Success() {
         List<String> result = configRepository.findAllDistinctGroupNames();
@@ -353,4 +429,94 @@ class ConfigRepositoryTest {
 
         assertThat(result).hasSize(2);
     }
+
+    @Test
+    void testFindByEnvironmentIdOrderByIdAsc_KeysetPages() {
+        Window<Config> first = configRepository.findByEnvironmentIdOrderByIdAsc(devEnv.getId(),
+                ScrollPosition.keyset(), Limit.of(1));
+
+        assertThat(first.getContent()).extracting("configKey").containsExactly("app.name");
+        assertThat(first.hasNext()).isTrue();
+
+        Window<Config> second = configRepository.findByEnvironmentIdOrderByIdAsc(devEnv.getId(),
+                ScrollPosition.forward(Map.of("id", config1.getId())), Limit.of(1));
+
+        assertThat(second.getContent()).extracting("configKey").containsExactly("app.version");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void testFindAllByOrderByIdAsc_KeysetPages() {
+        Window<Config> result = configRepository.findAllByOrderByIdAsc(
+                ScrollPosition.forward(Map.of("id", config1.getId())), Limit.of(10));
+
+        assertThat(result.getContent()).extracting("configKey").containsExactly("app.version", "db.password");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void testFindByDescriptionContainingOrderByIdAsc_KeysetPages() {
+        Window<Config> result = configRepository.findByDescriptionContainingOrderByIdAsc("应用",
+                ScrollPosition.keyset(), Limit.of(10));
+
+        assertThat(result.getContent()).extracting("configKey").containsExactly("app.name", "app.version");
+    }
+
+    @Test
+    void testFindByEnvironmentIdAndConfigKeyContainingOrderByIdAsc_ScopedToEnvironment() {
+        Window<Config> dev = configRepository.findByEnvironmentIdAndConfigKeyContainingOrderByIdAsc(devEnv.getId(),
+                "a", ScrollPosition.keyset(), Limit.of(10));
+        Window<Config> test = configRepository.findByEnvironmentIdAndConfigKeyContainingOrderByIdAsc(testEnv.getId(),
+                "a", ScrollPosition.keyset(), Limit.of(10));
+
+        assertThat(dev.getContent()).extracting("configKey").containsExactly("app.name", "app.version");
+        assertThat(test.getContent()).extracting("configKey").containsExactly("db.password");
+    }
+
+    @Test
+    void testFindSummariesByEnvironmentId_KeysetPages() {
+        List<ConfigSummary> first = configRepository.findSummariesByEnvironmentId(devEnv.getId(), 0L, Limit.of(1));
+
+        assertThat(first).singleElement().satisfies(summary -> {
+            assertThat(summary.getConfigKey()).isEqualTo("app.name");
+            assertThat(summary.getEnvironmentId()).isEqualTo(devEnv.getId());
+            assertThat(summary.getGroupName()).isEqualTo("basic");
+            assertThat(summary.getVersion()).isEqualTo(1L);
+        });
+
+        List<ConfigSummary> rest = configRepository.findSummariesByEnvironmentId(devEnv.getId(),
+                first.get(0).getId(), Limit.of(10));
+
+        assertThat(rest).extracting("configKey").containsExactly("app.version");
+    }
+
+    @Test
+    void testFindValuesByIdIn_Success() {
+        List<ConfigRepository.ConfigValueView> result = configRepository.findValuesByIdIn(
+                List.of(config1.getId(), config3.getId()));
+
+        assertThat(result)
+                .extracting(ConfigRepository.ConfigValueView::getConfigValue)
+                .containsExactlyInAnyOrder("Easy-Config", "secret123");
+    }
+
+    @Test
+    void testCountSummaryByEnvironmentId_Success() {
+        ConfigCounts counts = configRepository.countSummaryByEnvironmentId(testEnv.getId());
+
+        assertThat(counts.getTotal()).isEqualTo(1);
+        assertThat(counts.getEnabled()).isEqualTo(1);
+        assertThat(counts.getDisabled()).isZero();
+        assertThat(counts.getEncrypted()).isEqualTo(1);
+    }
+
+    @Test
+    void testCountSummaryByEnvironmentId_Empty() {
+        configRepository.deleteAll();
+
+        ConfigCounts counts = configRepository.countSummaryByEnvironmentId(devEnv.getId());
+
+        assertThat(counts.getTotal()).isZero();
+        assertThat(counts.getEnabled()).isZero();
+    }
 }
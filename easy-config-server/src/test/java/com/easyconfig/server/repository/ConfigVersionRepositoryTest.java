@@ -0,0 +1,58 @@
+package com.easyconfig.server.repository;
+
+import com.easyconfig.server.entity.ConfigVersion;
+import com.easyconfig.server.entity.ConfigVersion.StorageType;
+import com.easyconfig.server.event.ConfigOperation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ConfigJdbcRepository.class)
+class ConfigVersionRepositoryTest {
+
+    @Autowired
+    private ConfigVersionRepository configVersionRepository;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Test
+    void testBatchInsertAndFindLatest() {
+        configJdbcRepository.batchInsertVersions(List.of(
+                version(1L, 1L, "v1", ConfigOperation.CREATE),
+                version(2L, 1L, "other", ConfigOperation.CREATE),
+                version(1L, 2L, "v2", ConfigOperation.UPDATE),
+                version(1L, 2L, "v2", ConfigOperation.DISABLE)));
+
+        List<ConfigVersion> latest = configVersionRepository.findLatestByConfigIdIn(List.of(1L, 2L, 3L));
+
+        assertThat(latest).hasSize(2);
+        ConfigVersion first = latest.stream().filter(v -> v.getConfigId() == 1L).findFirst().orElseThrow();
+        assertThat(first.getOperation()).isEqualTo(ConfigOperation.DISABLE);
+        assertThat(first.getStorageType()).isEqualTo(StorageType.FULL);
+        assertThat(first.getRevision()).isEqualTo(9L);
+        assertThat(configVersionRepository.findByConfigIdOrderByIdDesc(1L))
+                .extracting(ConfigVersion::getOperation)
+                .containsExactly(ConfigOperation.DISABLE, ConfigOperation.UPDATE, ConfigOperation.CREATE);
+    }
+
+    private ConfigVersion version(Long configId, Long version, String value, ConfigOperation operation) {
+        return ConfigVersion.builder()
+                .configId(configId)
+                .environmentId(1L)
+                .revision(9L)
+                .version(version)
+                .configKey("app.key-" + configId)
+                .configValue(value)
+                .operation(operation)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
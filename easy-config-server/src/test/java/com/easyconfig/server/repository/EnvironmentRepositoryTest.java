@@ -135,4 +135,20 @@ class EnvironmentRepositoryTest {
 
         assertThat(result).hasSize(3);
     }
+
+    @Test
+    void testIncrementRevision_Success() {
+        int updated = environmentRepository.incrementRevision(env1.getId());
+        environmentRepository.incrementRevision(env1.getId());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(environmentRepository.findRevisionById(env1.getId())).contains(2L);
+        assertThat(environmentRepository.findRevisionById(env2.getId())).contains(0L);
+    }
+
+    @Test
+    void testIncrementRevision_NotFound() {
+        assertThat(environmentRepository.incrementRevision(9999L)).isZero();
+        assertThat(environmentRepository.findRevisionById(9999L)).isNotPresent();
+    }
 }
@@ -0,0 +1,202 @@
+package com.easyconfig.server.search;
+
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigSearchIndex 单元测试")
+class ConfigSearchIndexTest {
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @InjectMocks
+    private ConfigSearchIndex configSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            ConfigJdbcRepository.ConfigMetadataHandler handler = invocation.getArgument(0);
+            handler.handle(1L, 1L, "app.name", "应用名称", "app");
+            handler.handle(2L, 1L, "app.version", "application version", "app");
+            handler.handle(3L, 1L, "db.url", "Database URL", "database");
+            handler.handle(4L, 2L, "app.name", "应用名称", "app");
+            handler.handle(5L, 1L, "cache.app-ttl", null, null);
+            return null;
+        }).when(configJdbcRepository).streamConfigMetadata(any());
+    }
+
+    @Test
+    @DisplayName("首次搜索加载索引，之后不再访问数据库")
+    void search_LoadsOnce() {
+        // When
+        configSearchIndex.search("app", null, 10);
+        configSearchIndex.search("db", null, 10);
+
+        // Then
+        verify(configJdbcRepository, times(1)).streamConfigMetadata(any());
+        assertThat(configSearchIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("按相关度排序：完全相等 > 前缀 > 单词前缀 > 分组 > 描述")
+    void search_Ranking() {
+        // When
+        List<ConfigSearchHit> result = configSearchIndex.search("APP.NAME", 1L, 10);
+        List<ConfigSearchHit> prefix = configSearchIndex.search("app", 1L, 10);
+
+        // Then
+        assertThat(result).extracting(ConfigSearchHit::getConfigId).containsExactly(1L);
+        assertThat(result.get(0).getScore()).isEqualTo(100);
+        // app.name / app.version 是前缀，短键在前；cache.app-ttl 是单词前缀
+        assertThat(prefix).extracting(ConfigSearchHit::getConfigId).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("子串匹配配置键和描述，按环境过滤")
+    void search_Substring() {
+        // When
+        List<ConfigSearchHit> key = configSearchIndex.search("ersio", null, 10);
+        List<ConfigSearchHit> description = configSearchIndex.search("应用名", 2L, 10);
+
+        // Then
+        assertThat(key).extracting(ConfigSearchHit::getConfigId).containsExactly(2L);
+        assertThat(description).extracting(ConfigSearchHit::getConfigId).containsExactly(4L);
+        assertThat(description.get(0).getScore()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("短关键字只匹配单词开头")
+    void search_ShortQueryMatchesWordPrefix() {
+        // When
+        List<ConfigSearchHit> result = configSearchIndex.search("ur", null, 10);
+        List<ConfigSearchHit> middle = configSearchIndex.search("rl", null, 10);
+
+        // Then
+        assertThat(result).extracting(ConfigSearchHit::getConfigId).containsExactly(3L);
+        assertThat(middle).isEmpty();
+    }
+
+    @Test
+    @DisplayName("限制返回条数时保留得分最高的结果")
+    void search_Limit() {
+        // When
+        List<ConfigSearchHit> result = configSearchIndex.search("app", null, 2);
+
+        // Then
+        assertThat(result).extracting(ConfigSearchHit::getConfigId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("提交后的变更增量更新索引")
+    void onConfigChange_UpdatesIndex() {
+        // Given
+        configSearchIndex.search("app", null, 10);
+
+        // When
+        configSearchIndex.onConfigChange(new ConfigChangeEvent(1L, 2L, List.of(
+                change(6L, "feature.flag", ConfigOperation.CREATE, "灰度开关"),
+                change(3L, "db.jdbc-url", ConfigOperation.UPDATE, "Database URL"),
+                change(2L, "app.version", ConfigOperation.DELETE, null))));
+
+        // Then
+        assertThat(configSearchIndex.search("flag", null, 10))
+                .extracting(ConfigSearchHit::getConfigId).containsExactly(6L);
+        assertThat(configSearchIndex.search("jdbc", null, 10))
+                .extracting(ConfigSearchHit::getConfigKey).containsExactly("db.jdbc-url");
+        assertThat(configSearchIndex.search("version", null, 10)).isEmpty();
+        assertThat(configSearchIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("配置移动到其他环境时，旧环境的删除事件不影响新文档")
+    void onConfigChange_MoveEnvironment() {
+        // Given
+        configSearchIndex.search("app", null, 10);
+
+        // When 新环境的更新先于旧环境的删除到达
+        configSearchIndex.onConfigChange(new ConfigChangeEvent(2L, 3L, List.of(
+                change(3L, "db.url", ConfigOperation.UPDATE, "Database URL"))));
+        configSearchIndex.onConfigChange(new ConfigChangeEvent(1L, 4L, List.of(
+                change(3L, "db.url", ConfigOperation.DELETE, null))));
+
+        // Then
+        assertThat(configSearchIndex.search("db.url", null, 10))
+                .extracting(ConfigSearchHit::getEnvironmentId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("未加载时忽略变更事件")
+    void onConfigChange_NotLoaded() {
+        // When
+        configSearchIndex.onConfigChange(new ConfigChangeEvent(1L, 2L, List.of(
+                change(6L, "feature.flag", ConfigOperation.CREATE, null))));
+
+        // Then
+        assertThat(configSearchIndex.size()).isZero();
+        verifyNoInteractions(configJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("环境删除后移除该环境的全部配置")
+    void onEnvironmentDeleted_RemovesDocuments() {
+        // Given
+        configSearchIndex.search("app", null, 10);
+
+        // When
+        configSearchIndex.onEnvironmentDeleted(new EnvironmentDeletedEvent(1L));
+
+        // Then
+        assertThat(configSearchIndex.search("app", null, 10))
+                .extracting(ConfigSearchHit::getConfigId).containsExactly(4L);
+        assertThat(configSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("大量更新后压缩索引，结果保持不变")
+    void onConfigChange_Compacts() {
+        // Given
+        configSearchIndex.search("app", null, 10);
+
+        // When
+        for (int i = 0; i < ConfigSearchIndex.COMPACT_MIN_TOMBSTONES * 2; i++) {
+            configSearchIndex.onConfigChange(new ConfigChangeEvent(1L, i, List.of(
+                    change(3L, "db.url." + i, ConfigOperation.UPDATE, "Database URL"))));
+        }
+
+        // Then
+        assertThat(configSearchIndex.size()).isEqualTo(5);
+        assertThat(configSearchIndex.search("db.url", 1L, 10))
+                .extracting(ConfigSearchHit::getConfigKey).containsExactly("db.url.2047");
+        assertThat(configSearchIndex.search("app", null, 10)).hasSize(4);
+    }
+
+    private static ConfigChange change(Long configId, String configKey, ConfigOperation operation,
+            String description) {
+        return ConfigChange.builder()
+                .configId(configId)
+                .configKey(configKey)
+                .operation(operation)
+                .description(description)
+                .enabled(true)
+                .version(1L)
+                .build();
+    }
+}
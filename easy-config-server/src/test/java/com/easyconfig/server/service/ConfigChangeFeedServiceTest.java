@@ -0,0 +1,187 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.ConfigChangesResponse;
+import com.easyconfig.server.dto.ConfigDelta;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigChangeRecord;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigChangeRecordRepository;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigChangeFeedService 单元测试")
+class ConfigChangeFeedServiceTest {
+
+    @Mock
+    private ConfigChangeRecordRepository configChangeRecordRepository;
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Mock
+    private EnvironmentService environmentService;
+
+    @Mock
+    private RevisionService revisionService;
+
+    @Mock
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @InjectMocks
+    private ConfigChangeFeedService configChangeFeedService;
+
+    private ConfigSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        Environment environment = Environment.builder().id(1L).name("dev").build();
+        snapshot = ConfigSnapshot.of(List.of(
+                Config.builder().id(1L).environment(environment).configKey("app.name")
+                        .configValue("Easy-Config").version(3L).enabled(true).build(),
+                Config.builder().id(2L).environment(environment).configKey("app.debug")
+                        .configValue("true").version(2L).enabled(false).build()));
+    }
+
+    @Test
+    @DisplayName("记录变更流水 - 每个配置键一行")
+    @SuppressWarnings("unchecked")
+    void onConfigChange_SavesRecords() {
+        // Given
+        ConfigChangeEvent event = new ConfigChangeEvent(1L, 8L, List.of(
+                ConfigChange.builder().configKey("old.key").operation(ConfigOperation.DELETE).build(),
+                ConfigChange.builder().configKey("new.key").operation(ConfigOperation.UPDATE).build()));
+
+        // When
+        configChangeFeedService.onConfigChange(event);
+
+        // Then
+        ArgumentCaptor<List<ConfigChangeRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository).batchInsertChangeRecords(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ConfigChangeRecord::getEnvironmentId, ConfigChangeRecord::getRevision,
+                        ConfigChangeRecord::getConfigKey, ConfigChangeRecord::getOperation)
+                .containsExactly(
+                        tuple(1L, 8L, "old.key", ConfigOperation.DELETE),
+                        tuple(1L, 8L, "new.key", ConfigOperation.UPDATE));
+    }
+
+    @Test
+    @DisplayName("增量同步 - 返回当前值和删除标记")
+    void getChangesSince_ReturnsUpsertsAndTombstones() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(10L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(snapshot);
+        when(configChangeRecordRepository.findMinRevisionByEnvironmentId(1L)).thenReturn(1L);
+        when(configChangeRecordRepository.findDistinctConfigKeysSince(1L, 7L))
+                .thenReturn(List.of("app.name", "app.debug", "app.removed"));
+
+        // When
+        ConfigChangesResponse response = configChangeFeedService.getChangesSince(1L, 7L, null);
+
+        // Then
+        assertThat(response.getRevision()).isEqualTo(10L);
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getChanges()).containsExactly(
+                ConfigDelta.builder().key("app.name").value("Easy-Config").version(3L).build(),
+                ConfigDelta.builder().key("app.debug").deleted(true).build(),
+                ConfigDelta.builder().key("app.removed").deleted(true).build());
+    }
+
+    @Test
+    @DisplayName("增量同步 - 只返回命名空间下的变更")
+    void getChangesSince_Namespace() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(10L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(snapshot);
+        when(configChangeRecordRepository.findMinRevisionByEnvironmentId(1L)).thenReturn(1L);
+        when(configChangeRecordRepository.findDistinctConfigKeysSince(1L, 7L))
+                .thenReturn(List.of("app.name", "db.url", "app"));
+
+        // When
+        ConfigChangesResponse response = configChangeFeedService.getChangesSince(1L, 7L, "app.*");
+
+        // Then
+        assertThat(response.getRevision()).isEqualTo(10L);
+        assertThat(response.getChanges()).extracting(ConfigDelta::getKey).containsExactly("app.name", "app");
+    }
+
+    @Test
+    @DisplayName("增量同步 - 修订号未变化时不查询流水")
+    void getChangesSince_UpToDate() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(10L);
+
+        // When
+        ConfigChangesResponse response = configChangeFeedService.getChangesSince(1L, 10L, null);
+
+        // Then
+        assertThat(response.getChanges()).isEmpty();
+        verifyNoInteractions(configChangeRecordRepository, configSnapshotCache);
+    }
+
+    @Test
+    @DisplayName("增量同步 - 流水无法覆盖时返回全量并标记重置")
+    void getChangesSince_ResetWhenNotCovered() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(10L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(snapshot);
+        when(configChangeRecordRepository.findMinRevisionByEnvironmentId(1L)).thenReturn(6L);
+
+        // When
+        ConfigChangesResponse response = configChangeFeedService.getChangesSince(1L, 3L, null);
+
+        // Then
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.getChanges()).containsExactly(
+                ConfigDelta.builder().key("app.name").value("Easy-Config").version(3L).build());
+        verify(configChangeRecordRepository, never()).findDistinctConfigKeysSince(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("增量同步 - 客户端修订号比服务端新时返回全量")
+    void getChangesSince_ResetWhenAhead() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(10L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(snapshot);
+
+        // When
+        ConfigChangesResponse response = configChangeFeedService.getChangesSince(1L, 12L, null);
+
+        // Then
+        assertThat(response.isReset()).isTrue();
+    }
+
+    @Test
+    @DisplayName("增量同步 - 环境不存在")
+    void getChangesSince_EnvironmentNotFound() {
+        // Given
+        when(environmentService.getEnvironmentById(999L))
+                .thenThrow(new EntityNotFoundException("Environment with id '999' not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> configChangeFeedService.getChangesSince(999L, 0L, null))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
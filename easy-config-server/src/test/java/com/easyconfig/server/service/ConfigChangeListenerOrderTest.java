@@ -0,0 +1,81 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.ConfigSnapshotResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 配置变更提交后各监听器的执行顺序：快照缓存先失效，之后才发布新的修订号
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:listener-order;DB_CLOSE_DELAY=-1")
+@DisplayName("配置变更监听器顺序测试")
+class ConfigChangeListenerOrderTest {
+
+    @Autowired
+    private ConfigService configService;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @MockitoSpyBean
+    private RevisionService revisionService;
+
+    private Environment environment;
+
+    private Config config;
+
+    @BeforeEach
+    void setUp() {
+        environment = environmentService.createEnvironment(
+                Environment.builder().name("listener-order-" + System.nanoTime()).build());
+        config = configService.createConfig(Config.builder()
+                .environment(environment)
+                .configKey("app.name")
+                .configValue("v1")
+                .build());
+    }
+
+    @Test
+    @DisplayName("更新配置 - 发布新修订号时快照已失效，提交后快照与修订号一致")
+    void updateConfig_SnapshotInvalidatedBeforeRevisionPublished() {
+        // Given
+        ConfigSnapshotResponse before = configService.getEnabledConfigSnapshot(environment.getName(), null);
+        List<String> valuesSeenByRevisionListener = new ArrayList<>();
+        doAnswer(invocation -> {
+            ConfigChangeEvent event = invocation.getArgument(0);
+            if (environment.getId().equals(event.getEnvironmentId())) {
+                valuesSeenByRevisionListener.add(configSnapshotCache.get(environment.getId(), "app.name")
+                        .orElseThrow()
+                        .getConfigValue());
+            }
+            return invocation.callRealMethod();
+        }).when(revisionService).onConfigChange(any());
+
+        // When
+        configService.updateConfig(config.getId(), Config.builder().configValue("v2").build());
+
+        // Then
+        assertThat(valuesSeenByRevisionListener).containsExactly("v2");
+        ConfigSnapshotResponse after = configService.getEnabledConfigSnapshot(environment.getName(), null);
+        assertThat(after.getRevision()).isGreaterThan(before.getRevision());
+        assertThat(after.getConfigs()).containsEntry("app.name", "v2");
+    }
+}
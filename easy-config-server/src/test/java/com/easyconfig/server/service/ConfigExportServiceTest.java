@@ -0,0 +1,102 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.entity.ImportExportLog;
+import com.easyconfig.server.exchange.ConfigFileFormat;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import com.easyconfig.server.repository.ConfigJdbcRepository.ConfigRowHandler;
+import com.easyconfig.server.repository.ImportExportLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigExportService 单元测试")
+class ConfigExportServiceTest {
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Mock
+    private ImportExportLogRepository importExportLogRepository;
+
+    @InjectMocks
+    private ConfigExportService configExportService;
+
+    private final Environment devEnv = Environment.builder().id(1L).name("dev").build();
+
+    @Test
+    @DisplayName("导出配置 - 成功并记录日志")
+    void exportConfigs_Success() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            ConfigRowHandler handler = invocation.getArgument(1);
+            handler.handle("app.name", "Easy-Config");
+            handler.handle("app.port", "8080");
+            return null;
+        }).when(configJdbcRepository).streamEnabledConfigs(eq(1L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        int count = configExportService.exportConfigs(devEnv, ConfigFileFormat.PROPERTIES, out);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("app.name=Easy-Config\napp.port=8080\n");
+
+        ArgumentCaptor<ImportExportLog> log = ArgumentCaptor.forClass(ImportExportLog.class);
+        verify(importExportLogRepository).save(log.capture());
+        assertThat(log.getValue().getOperationType()).isEqualTo(ImportExportLog.OPERATION_EXPORT);
+        assertThat(log.getValue().getFileName()).isEqualTo("dev.properties");
+        assertThat(log.getValue().getFileFormat()).isEqualTo("PROPERTIES");
+        assertThat(log.getValue().getRecordCount()).isEqualTo(2);
+        assertThat(log.getValue().getStatus()).isEqualTo(ImportExportLog.STATUS_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("导出配置 - 客户端断开时记录失败日志")
+    void exportConfigs_ClientAbort() {
+        // Given
+        doAnswer(invocation -> {
+            ConfigRowHandler handler = invocation.getArgument(1);
+            try {
+                handler.handle("app.name", "Easy-Config");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }).when(configJdbcRepository).streamEnabledConfigs(eq(1L), any());
+        OutputStream brokenOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> configExportService.exportConfigs(devEnv, ConfigFileFormat.JSON, brokenOut))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Broken pipe");
+
+        ArgumentCaptor<ImportExportLog> log = ArgumentCaptor.forClass(ImportExportLog.class);
+        verify(importExportLogRepository).save(log.capture());
+        assertThat(log.getValue().getStatus()).isEqualTo(ImportExportLog.STATUS_FAILED);
+        assertThat(log.getValue().getErrorMessage()).contains("Broken pipe");
+    }
+}
@@ -0,0 +1,128 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.dto.ImportResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.entity.ImportExportLog;
+import com.easyconfig.server.exchange.ConfigFileFormat;
+import com.easyconfig.server.repository.ImportExportLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigImportService 单元测试")
+class ConfigImportServiceTest {
+
+    @Mock
+    private ConfigService configService;
+
+    @Mock
+    private EnvironmentService environmentService;
+
+    @Mock
+    private ImportExportLogRepository importExportLogRepository;
+
+    @InjectMocks
+    private ConfigImportService configImportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(configImportService, "chunkSize", 2);
+        when(environmentService.getEnvironmentById(1L)).thenReturn(Environment.builder().id(1L).name("dev").build());
+    }
+
+    @Test
+    @DisplayName("导入配置 - 按分块写入并记录成功日志")
+    @SuppressWarnings("unchecked")
+    void importConfigs_Success() {
+        // Given
+        when(configService.batchUpsertConfigs(eq(1L), anyList()))
+                .thenReturn(new BatchUpsertResult(1L, 5L, 2, 0, 0))
+                .thenReturn(new BatchUpsertResult(1L, 6L, 0, 1, 0));
+
+        // When
+        ImportResult result = importProperties("a=1\nb=2\nc=3\n");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ImportExportLog.STATUS_SUCCESS);
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(result.getRevision()).isEqualTo(6L);
+
+        ArgumentCaptor<List<Config>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(configService, times(2)).batchUpsertConfigs(eq(1L), chunks.capture());
+        assertThat(chunks.getAllValues().get(0)).extracting(Config::getConfigKey).containsExactly("a", "b");
+        assertThat(chunks.getAllValues().get(1)).extracting(Config::getConfigKey).containsExactly("c");
+        assertThat(chunks.getAllValues().get(0).get(0).getEnabled()).isNull();
+
+        ArgumentCaptor<ImportExportLog> log = ArgumentCaptor.forClass(ImportExportLog.class);
+        verify(importExportLogRepository).save(log.capture());
+        assertThat(log.getValue().getOperationType()).isEqualTo(ImportExportLog.OPERATION_IMPORT);
+        assertThat(log.getValue().getRecordCount()).isEqualTo(3);
+        assertThat(log.getValue().getStatus()).isEqualTo(ImportExportLog.STATUS_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("导入配置 - 单个分块失败时其余分块继续写入，状态为 PARTIAL")
+    void importConfigs_PartialFailure() {
+        // Given
+        when(configService.batchUpsertConfigs(eq(1L), anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(new BatchUpsertResult(1L, 5L, 1, 0, 0));
+
+        // When
+        ImportResult result = importProperties("a=1\nb=2\nc=3\n");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ImportExportLog.STATUS_PARTIAL);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getFailedChunks()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString()
+                .contains("Chunk 1", "a .. b", "value too long");
+
+        ArgumentCaptor<ImportExportLog> log = ArgumentCaptor.forClass(ImportExportLog.class);
+        verify(importExportLogRepository).save(log.capture());
+        assertThat(log.getValue().getStatus()).isEqualTo(ImportExportLog.STATUS_PARTIAL);
+        assertThat(log.getValue().getRecordCount()).isEqualTo(1);
+        assertThat(log.getValue().getErrorMessage()).contains("value too long");
+    }
+
+    @Test
+    @DisplayName("导入配置 - 文件无法解析时状态为 FAILED")
+    void importConfigs_ParseFailure() {
+        // When
+        ImportResult result = configImportService.importConfigs(1L, ConfigFileFormat.JSON, "dev.json",
+                new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ImportExportLog.STATUS_FAILED);
+        assertThat(result.getErrors()).singleElement().asString().contains("JSON root must be an object");
+        verify(configService, never()).batchUpsertConfigs(any(), anyList());
+        verify(importExportLogRepository).save(argThat(log -> ImportExportLog.STATUS_FAILED.equals(log.getStatus())));
+    }
+
+    private ImportResult importProperties(String content) {
+        return configImportService.importConfigs(1L, ConfigFileFormat.PROPERTIES, "dev.properties",
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
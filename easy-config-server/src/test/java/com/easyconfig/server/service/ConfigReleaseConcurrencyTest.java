@@ -0,0 +1,148 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.dto.ReleaseResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigRelease;
+import com.easyconfig.server.entity.ConfigReleaseItem;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.repository.ConfigReleaseItemRepository;
+import com.easyconfig.server.repository.ConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 同一发布被并发发布、回滚（例如重复点击）时只生效一次
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:release-concurrency;DB_CLOSE_DELAY=-1")
+@DisplayName("ConfigReleaseService 并发测试")
+class ConfigReleaseConcurrencyTest {
+
+    private static final int THREADS = 4;
+
+    @Autowired
+    private ConfigReleaseService configReleaseService;
+
+    @Autowired
+    private ConfigService configService;
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ConfigReleaseItemRepository configReleaseItemRepository;
+
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = environmentService.createEnvironment(
+                Environment.builder().name("release-" + System.nanoTime()).build());
+        configService.createConfig(Config.builder()
+                .environment(environment)
+                .configKey("app.name")
+                .configValue("v0")
+                .build());
+    }
+
+    @Test
+    @DisplayName("并发发布同一草稿 - 只应用一次，原值保持为发布前的值，回滚后恢复")
+    void publishRelease_ConcurrentDoublePublish() throws Exception {
+        // Given
+        ReleaseResponse release = configReleaseService.createRelease(environment.getId(), "v1", null, List.of(
+                ConfigReleaseItem.builder().configKey("app.name").action(ConfigReleaseItem.Action.UPSERT)
+                        .configValue("v1").build()));
+
+        // When
+        List<Throwable> failures = runConcurrently(() -> configReleaseService.publishRelease(release.getId()));
+
+        // Then
+        assertThat(failures).hasSize(THREADS - 1)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("is not a draft"));
+        assertThat(configReleaseItemRepository.findByReleaseIdOrderByIdAsc(release.getId()))
+                .singleElement()
+                .satisfies(item -> assertThat(item.getPreviousValue()).isEqualTo("v0"));
+
+        configReleaseService.rollbackRelease(release.getId());
+        assertThat(configValue()).isEqualTo("v0");
+    }
+
+    @Test
+    @DisplayName("并发回滚同一发布 - 只生成一个回滚发布")
+    void rollbackRelease_ConcurrentDoubleRollback() throws Exception {
+        // Given
+        ReleaseResponse release = configReleaseService.createRelease(environment.getId(), "v1", null, List.of(
+                ConfigReleaseItem.builder().configKey("app.name").action(ConfigReleaseItem.Action.UPSERT)
+                        .configValue("v1").build()));
+        configReleaseService.publishRelease(release.getId());
+
+        // When
+        List<Throwable> failures = runConcurrently(() -> configReleaseService.rollbackRelease(release.getId()));
+
+        // Then
+        assertThat(failures).hasSize(THREADS - 1)
+                .allSatisfy(failure -> assertThat(failure).isInstanceOf(IllegalArgumentException.class));
+        assertThat(configReleaseService.getReleasesByEnvironment(environment.getId()))
+                .filteredOn(r -> release.getId().equals(r.getRollbackOf()))
+                .singleElement()
+                .satisfies(r -> assertThat(r.getStatus()).isEqualTo(ConfigRelease.Status.PUBLISHED));
+        assertThat(configValue()).isEqualTo("v0");
+    }
+
+    private String configValue() {
+        return configRepository.findByEnvironmentIdAndConfigKey(environment.getId(), "app.name")
+                .orElseThrow()
+                .getConfigValue();
+    }
+
+    /**
+     * 多个线程同时执行同一操作，返回失败的异常（成功的线程不返回）
+     */
+    private List<Throwable> runConcurrently(Callable<?> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.call();
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                } catch (TimeoutException e) {
+                    throw new AssertionError("Concurrent release operation did not finish", e);
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.dto.ReleaseResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigRelease;
+import com.easyconfig.server.entity.ConfigReleaseItem;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.repository.ConfigReleaseItemRepository;
+import com.easyconfig.server.repository.ConfigReleaseRepository;
+import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.repository.EnvironmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigReleaseService 单元测试")
+class ConfigReleaseServiceTest {
+
+    @Mock
+    private ConfigReleaseRepository configReleaseRepository;
+
+    @Mock
+    private ConfigReleaseItemRepository configReleaseItemRepository;
+
+    @Mock
+    private ConfigRepository configRepository;
+
+    @Mock
+    private EnvironmentRepository environmentRepository;
+
+    @Mock
+    private EnvironmentService environmentService;
+
+    @Mock
+    private ConfigService configService;
+
+    @InjectMocks
+    private ConfigReleaseService configReleaseService;
+
+    private Environment devEnv;
+
+    @BeforeEach
+    void setUp() {
+        devEnv = Environment.builder().id(1L).name("dev").build();
+    }
+
+    @Test
+    @DisplayName("创建发布 - 配置键重复")
+    void createRelease_DuplicateKey() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        List<ConfigReleaseItem> items = List.of(
+                upsert("app.name", "a"),
+                upsert("app.name", "b"));
+
+        // When & Then
+        assertThatThrownBy(() -> configReleaseService.createRelease(1L, "v1", null, items))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate config key 'app.name'");
+        verifyNoInteractions(configReleaseRepository);
+    }
+
+    @Test
+    @DisplayName("发布 - 记录原值并整体应用全部变更")
+    @SuppressWarnings("unchecked")
+    void publishRelease_Success() {
+        // Given
+        ConfigRelease release = ConfigRelease.builder().id(10L).environmentId(1L).name("v1").build();
+        List<ConfigReleaseItem> items = List.of(
+                upsert("app.name", "Easy-Config-2"),
+                upsert("app.version", "2.0.0"),
+                ConfigReleaseItem.builder().configKey("app.legacy").action(ConfigReleaseItem.Action.DELETE).build());
+        when(configReleaseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(release));
+        when(environmentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(devEnv));
+        when(configReleaseItemRepository.findByReleaseIdOrderByIdAsc(10L)).thenReturn(items);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(List.of(
+                config("app.name", "Easy-Config", true),
+                config("app.legacy", "old", false)));
+        when(configService.applyChangeset(eq(1L), anyList(), anyList())).thenReturn(7L);
+
+        // When
+        ReleaseResponse result = configReleaseService.publishRelease(10L);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ConfigRelease.Status.PUBLISHED);
+        assertThat(result.getRevision()).isEqualTo(7L);
+        assertThat(result.getPublishedAt()).isNotNull();
+
+        ArgumentCaptor<List<Config>> upserts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> deleteKeys = ArgumentCaptor.forClass(List.class);
+        verify(configService, times(1)).applyChangeset(eq(1L), upserts.capture(), deleteKeys.capture());
+        assertThat(upserts.getValue()).extracting(Config::getConfigKey).containsExactly("app.name", "app.version");
+        // 未指定的字段保持为空，不覆盖已有配置
+        assertThat(upserts.getValue().get(0).getEncrypted()).isNull();
+        assertThat(deleteKeys.getValue()).containsExactly("app.legacy");
+
+        assertThat(items.get(0).getPreviousExists()).isTrue();
+        assertThat(items.get(0).getPreviousValue()).isEqualTo("Easy-Config");
+        assertThat(items.get(1).getPreviousExists()).isFalse();
+        assertThat(items.get(2).getPreviousEnabled()).isFalse();
+        verify(configReleaseItemRepository).saveAll(items);
+    }
+
+    @Test
+    @DisplayName("发布 - 不是草稿")
+    void publishRelease_NotDraft() {
+        // Given
+        ConfigRelease release = ConfigRelease.builder().id(10L).environmentId(1L).name("v1")
+                .status(ConfigRelease.Status.PUBLISHED).build();
+        when(configReleaseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(release));
+
+        // When & Then
+        assertThatThrownBy(() -> configReleaseService.publishRelease(10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a draft");
+        verifyNoInteractions(configService);
+    }
+
+    @Test
+    @DisplayName("回滚 - 生成反向发布并一步恢复原值")
+    @SuppressWarnings("unchecked")
+    void rollbackRelease_Success() {
+        // Given
+        ConfigRelease release = ConfigRelease.builder().id(10L).environmentId(1L).name("v1")
+                .status(ConfigRelease.Status.PUBLISHED).revision(7L).build();
+        ConfigReleaseItem updated = upsert("app.name", "Easy-Config-2");
+        updated.setPreviousExists(true);
+        updated.setPreviousValue("Easy-Config");
+        updated.setPreviousValueType("STRING");
+        updated.setPreviousEnabled(true);
+        ConfigReleaseItem created = upsert("app.version", "2.0.0");
+        created.setPreviousExists(false);
+        when(configReleaseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(release));
+        when(environmentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(devEnv));
+        when(configReleaseRepository.findTopByEnvironmentIdAndStatusAndRollbackOfIsNullOrderByRevisionDescIdDesc(
+                1L, ConfigRelease.Status.PUBLISHED)).thenReturn(Optional.of(release));
+        when(configReleaseRepository.save(any(ConfigRelease.class))).thenAnswer(invocation -> {
+            ConfigRelease saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(11L);
+            }
+            return saved;
+        });
+        when(configReleaseItemRepository.findByReleaseIdOrderByIdAsc(10L)).thenReturn(List.of(updated, created));
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(new ArrayList<>(List.of(
+                config("app.name", "Easy-Config-2", true),
+                config("app.version", "2.0.0", true))));
+        when(configService.restoreChangeset(eq(1L), anyList(), anyList())).thenReturn(8L);
+
+        // When
+        ReleaseResponse result = configReleaseService.rollbackRelease(10L);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(11L);
+        assertThat(result.getRollbackOf()).isEqualTo(10L);
+        assertThat(result.getStatus()).isEqualTo(ConfigRelease.Status.PUBLISHED);
+        assertThat(result.getRevision()).isEqualTo(8L);
+        assertThat(release.getStatus()).isEqualTo(ConfigRelease.Status.ROLLED_BACK);
+
+        ArgumentCaptor<List<Config>> upserts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> deleteKeys = ArgumentCaptor.forClass(List.class);
+        verify(configService, times(1)).restoreChangeset(eq(1L), upserts.capture(), deleteKeys.capture());
+        verify(configService, never()).applyChangeset(anyLong(), anyList(), anyList());
+        assertThat(upserts.getValue()).singleElement().satisfies(config -> {
+            assertThat(config.getConfigKey()).isEqualTo("app.name");
+            assertThat(config.getConfigValue()).isEqualTo("Easy-Config");
+        });
+        assertThat(deleteKeys.getValue()).containsExactly("app.version");
+    }
+
+    @Test
+    @DisplayName("回滚 - 原值为 null 时恢复为 null")
+    @SuppressWarnings("unchecked")
+    void rollbackRelease_PreviousValueNull() {
+        // Given
+        ConfigRelease release = ConfigRelease.builder().id(10L).environmentId(1L).name("v1")
+                .status(ConfigRelease.Status.PUBLISHED).revision(7L).build();
+        ConfigReleaseItem updated = upsert("app.name", "Easy-Config-2");
+        updated.setPreviousExists(true);
+        updated.setPreviousValue(null);
+        updated.setPreviousValueType("STRING");
+        updated.setPreviousEnabled(true);
+        when(configReleaseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(release));
+        when(environmentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(devEnv));
+        when(configReleaseRepository.findTopByEnvironmentIdAndStatusAndRollbackOfIsNullOrderByRevisionDescIdDesc(
+                1L, ConfigRelease.Status.PUBLISHED)).thenReturn(Optional.of(release));
+        when(configReleaseRepository.save(any(ConfigRelease.class))).thenAnswer(invocation -> {
+            ConfigRelease saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(11L);
+            }
+            return saved;
+        });
+        when(configReleaseItemRepository.findByReleaseIdOrderByIdAsc(10L)).thenReturn(List.of(updated));
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any()))
+                .thenReturn(List.of(config("app.name", "Easy-Config-2", true)));
+        when(configService.restoreChangeset(eq(1L), anyList(), anyList())).thenReturn(8L);
+
+        // When
+        configReleaseService.rollbackRelease(10L);
+
+        // Then
+        ArgumentCaptor<List<Config>> restores = ArgumentCaptor.forClass(List.class);
+        verify(configService).restoreChangeset(eq(1L), restores.capture(), anyList());
+        assertThat(restores.getValue()).singleElement().satisfies(config -> {
+            assertThat(config.getConfigKey()).isEqualTo("app.name");
+            assertThat(config.getConfigValue()).isNull();
+        });
+        assertThat(release.getStatus()).isEqualTo(ConfigRelease.Status.ROLLED_BACK);
+    }
+
+    @Test
+    @DisplayName("回滚 - 之后还有其他发布")
+    void rollbackRelease_NotLatest() {
+        // Given
+        ConfigRelease release = ConfigRelease.builder().id(10L).environmentId(1L).name("v1")
+                .status(ConfigRelease.Status.PUBLISHED).revision(7L).build();
+        ConfigRelease later = ConfigRelease.builder().id(12L).environmentId(1L).name("v2")
+                .status(ConfigRelease.Status.PUBLISHED).revision(9L).build();
+        when(configReleaseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(release));
+        when(environmentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(devEnv));
+        when(configReleaseRepository.findTopByEnvironmentIdAndStatusAndRollbackOfIsNullOrderByRevisionDescIdDesc(
+                1L, ConfigRelease.Status.PUBLISHED)).thenReturn(Optional.of(later));
+
+        // When & Then
+        assertThatThrownBy(() -> configReleaseService.rollbackRelease(10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Only the latest release can be rolled back");
+        verifyNoInteractions(configService);
+        assertThat(release.getStatus()).isEqualTo(ConfigRelease.Status.PUBLISHED);
+    }
+
+    private static ConfigReleaseItem upsert(String configKey, String configValue) {
+        return ConfigReleaseItem.builder()
+                .configKey(configKey)
+                .action(ConfigReleaseItem.Action.UPSERT)
+                .configValue(configValue)
+                .build();
+    }
+
+    private Config config(String configKey, String configValue, boolean enabled) {
+        return Config.builder()
+                .environment(devEnv)
+                .configKey(configKey)
+                .configValue(configValue)
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -1,26 +1,54 @@
 package com.easyconfig.server.service;
 
+import com.easyconfig.server.audit.ConfigAuditWriter;
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.BatchUpsertResult;
+import com.easyconfig.server.dto.ConfigResponse;
+import com.easyconfig.server.dto.ConfigSearchHit;
+import com.easyconfig.server.dto.ConfigSnapshotResponse;
+import com.easyconfig.server.dto.ConfigSummary;
+import com.easyconfig.server.dto.CursorPage;
 import com.easyconfig.server.entity.Config;
 import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.exception.ConfigVersionConflictException;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
 import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.search.ConfigSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +61,27 @@ class ConfigServiceTest {
     @Mock
     private EnvironmentService environmentService;
 
+    @Mock
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @Mock
+    private RevisionService revisionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Mock
+    private ConfigVersionService configVersionService;
+
+    @Mock
+    private ConfigAuditWriter configAuditWriter;
+
+    @Mock
+    private ConfigSearchIndex configSearchIndex;
+
     @InjectMocks
     private ConfigService configService;
 
@@ -104,7 +153,6 @@ class ConfigServiceTest {
                 .build();
 
         when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
-        when(configRepository.findByEnvironmentIdAndConfigKey(1L, "app.version")).thenReturn(Optional.empty());
         when(configRepository.save(any(Config.class))).thenAnswer(invocation -> {
             Config saved = invocation.getArgument(0);
             saved.setId(3L);
@@ -126,8 +174,295 @@ class ConfigServiceTest {
         assertThat(result.getVersion()).isEqualTo(1L);
 
         verify(environmentService).getEnvironmentById(1L);
-        verify(configRepository).findByEnvironmentIdAndConfigKey(1L, "app.version");
+        verify(configRepository, never()).findByEnvironmentIdAndConfigKey(anyLong(), any());
         verify(configRepository).save(any(Config.class));
+        verify(configVersionService).recordVersions(anyLong(), eq(ConfigOperation.CREATE), eq(List.of(result)));
+        verify(configAuditWriter).record(argThat(logs -> logs.size() == 1
+                && logs.get(0).getOperation() == ConfigOperation.CREATE
+                && "1.0.0".equals(logs.get(0).getNewConfigValue())));
+    }
+
+    @Test
+    @DisplayName("批量写入配置 - 新增、更新和未变化")
+    @SuppressWarnings("unchecked")
+    void batchUpsertConfigs_Success() {
+        // Given
+        List<Config> configs = List.of(
+                Config.builder().configKey("app.name").configValue("Easy-Config").build(),
+                Config.builder().configKey("db.password").configValue("secret456").build(),
+                Config.builder().configKey("app.version").configValue("1.0.0").build());
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any()))
+                .thenReturn(List.of(config1, config2));
+        when(revisionService.nextRevision(1L)).thenReturn(9L);
+
+        // When
+        BatchUpsertResult result = configService.batchUpsertConfigs(1L, configs);
+
+        // Then
+        assertThat(result.getRevision()).isEqualTo(9L);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+
+        ArgumentCaptor<List<Config>> inserts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Config>> updates = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository).batchInsert(inserts.capture());
+        verify(configJdbcRepository).batchUpdate(updates.capture());
+        assertThat(inserts.getValue()).singleElement().satisfies(config -> {
+            assertThat(config.getConfigKey()).isEqualTo("app.version");
+            assertThat(config.getEnvironment()).isEqualTo(devEnv);
+            assertThat(config.getVersion()).isEqualTo(1L);
+            assertThat(config.getEnabled()).isTrue();
+            assertThat(config.getCreatedAt()).isNotNull();
+        });
+        assertThat(updates.getValue()).singleElement().satisfies(config -> {
+            assertThat(config.getId()).isEqualTo(2L);
+            assertThat(config.getConfigValue()).isEqualTo("secret456");
+            assertThat(config.getVersion()).isEqualTo(2L);
+        });
+        // 持久化上下文中的实体不被修改
+        assertThat(config2.getConfigValue()).isEqualTo("secret123");
+
+        verify(revisionService, times(1)).nextRevision(1L);
+        ArgumentCaptor<ConfigChangeEvent> event = ArgumentCaptor.forClass(ConfigChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges())
+                .extracting(change -> change.getConfigKey() + ":" + change.getOperation())
+                .containsExactly("app.version:CREATE", "db.password:UPDATE");
+    }
+
+    @Test
+    @DisplayName("批量写入配置 - 读取后被并发修改时整批失败")
+    void batchUpsertConfigs_ConcurrentModification() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(List.of(config2));
+        when(configJdbcRepository.batchUpdate(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When & Then
+        assertThatThrownBy(() -> configService.batchUpsertConfigs(1L,
+                List.of(Config.builder().configKey("db.password").configValue("secret456").build())))
+                .isInstanceOfSatisfying(ConfigVersionConflictException.class, e -> {
+                    assertThat(e.getConfigId()).isEqualTo(2L);
+                    assertThat(e.getExpectedVersion()).isEqualTo(1L);
+                });
+
+        verify(revisionService, never()).nextRevision(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("批量写入配置 - 没有变化时不递增修订号")
+    void batchUpsertConfigs_Unchanged() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(List.of(config1));
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+
+        // When
+        BatchUpsertResult result = configService.batchUpsertConfigs(1L,
+                List.of(Config.builder().configKey("app.name").configValue("Easy-Config").build()));
+
+        // Then
+        assertThat(result.getRevision()).isEqualTo(5L);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        verify(revisionService, never()).nextRevision(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("批量写入配置 - 配置键重复")
+    void batchUpsertConfigs_DuplicateKey() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        List<Config> configs = List.of(
+                Config.builder().configKey("app.name").configValue("a").build(),
+                Config.builder().configKey("app.name").configValue("b").build());
+
+        // When & Then
+        assertThatThrownBy(() -> configService.batchUpsertConfigs(1L, configs))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate config key 'app.name'");
+        verifyNoInteractions(configJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("批量写入配置 - 读取后被并发创建了同名配置")
+    void batchUpsertConfigs_ConcurrentCreate() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(List.of());
+        doThrow(new DuplicateKeyException("PreparedStatementCallback", new SQLException(
+                "Unique index or primary key violation: \"PUBLIC.UK_CONFIG_ENV_KEY_INDEX_7 ON PUBLIC.CONFIG"
+                        + "(ENVIRONMENT_ID, CONFIG_KEY) VALUES ( /* 3 */ CAST(1 AS BIGINT), 'app.version' )\"",
+                "23505")))
+                .when(configJdbcRepository).batchInsert(any());
+
+        // When & Then
+        assertThatThrownBy(() -> configService.batchUpsertConfigs(1L, List.of(
+                Config.builder().configKey("app.name").configValue("a").build(),
+                Config.builder().configKey("app.version").configValue("1.0.0").build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Config with key 'app.version' already exists");
+        verify(revisionService, never()).nextRevision(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("应用变更集 - 写入和删除共用一个修订号和一个事件")
+    @SuppressWarnings("unchecked")
+    void applyChangeset_UpsertAndDelete() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any()))
+                .thenReturn(List.of(config1, config2));
+        when(revisionService.nextRevision(1L)).thenReturn(12L);
+
+        // When
+        long revision = configService.applyChangeset(1L,
+                List.of(Config.builder().configKey("app.name").configValue("Easy-Config-2").build()),
+                List.of("db.password", "missing.key"));
+
+        // Then
+        assertThat(revision).isEqualTo(12L);
+        ArgumentCaptor<List<Config>> deletes = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository).batchDelete(deletes.capture());
+        assertThat(deletes.getValue()).containsExactly(config2);
+        verify(revisionService, times(1)).nextRevision(1L);
+        ArgumentCaptor<ConfigChangeEvent> event = ArgumentCaptor.forClass(ConfigChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges())
+                .extracting(change -> change.getConfigKey() + ":" + change.getOperation())
+                .containsExactly("app.name:UPDATE", "db.password:DELETE");
+        verify(configVersionService).recordVersions(12L, ConfigOperation.DELETE, List.of(config2));
+    }
+
+    @Test
+    @DisplayName("恢复变更集 - 配置值为 null 时写入 null")
+    @SuppressWarnings("unchecked")
+    void restoreChangeset_NullValueOverwrites() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.findByEnvironmentIdAndConfigKeyIn(eq(1L), any())).thenReturn(List.of(config1));
+        when(revisionService.nextRevision(1L)).thenReturn(13L);
+
+        // When
+        long revision = configService.restoreChangeset(1L,
+                List.of(Config.builder().configKey("app.name").configValue(null).valueType(null).encrypted(null)
+                        .enabled(null).build()),
+                List.of());
+
+        // Then
+        assertThat(revision).isEqualTo(13L);
+        ArgumentCaptor<List<Config>> updates = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository).batchUpdate(updates.capture());
+        assertThat(updates.getValue()).singleElement().satisfies(config -> {
+            assertThat(config.getConfigValue()).isNull();
+            assertThat(config.getValueType()).isEqualTo(config1.getValueType());
+            assertThat(config.getEnabled()).isEqualTo(config1.getEnabled());
+        });
+    }
+
+    @Test
+    @DisplayName("应用变更集 - 同一配置键不能同时写入和删除")
+    void applyChangeset_KeyInBothUpsertAndDelete() {
+        // Given
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+
+        // When & Then
+        assertThatThrownBy(() -> configService.applyChangeset(1L,
+                List.of(Config.builder().configKey("app.name").configValue("a").build()), List.of("app.name")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be both written and deleted");
+        verifyNoInteractions(configJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("分页查询配置 - 续页令牌指向当前页最后一条记录")
+    void getConfigsByEnvironment_Paged() {
+        // Given
+        when(configRepository.findByEnvironmentIdOrderByIdAsc(1L, ScrollPosition.keyset(), Limit.of(2)))
+                .thenReturn(Window.from(List.of(config1, config2), index -> ScrollPosition.keyset(), true));
+        when(configRepository.findByEnvironmentIdOrderByIdAsc(1L, ScrollPosition.forward(Map.of("id", 2L)),
+                Limit.of(2)))
+                .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        // When
+        CursorPage<Config> first = configService.getConfigsByEnvironment(1L, null, 2);
+        CursorPage<Config> second = configService.getConfigsByEnvironment(1L, first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getItems()).containsExactly(config1, config2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).isEmpty();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("分页查询配置 - 每页条数超过上限时按上限查询")
+    void getAllConfigs_PagedLimitCapped() {
+        // Given
+        when(configRepository.findAllByOrderByIdAsc(ScrollPosition.keyset(), Limit.of(1000)))
+                .thenReturn(Window.from(List.of(config1), index -> ScrollPosition.keyset(), false));
+
+        // When
+        CursorPage<Config> page = configService.getAllConfigs(null, 50_000);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(config1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("分页查询配置 - 续页令牌无效")
+    void getAllConfigs_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> configService.getAllConfigs("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+        verifyNoInteractions(configRepository);
+    }
+
+    @Test
+    @DisplayName("配置摘要分页 - 多取一条判断是否有下一页")
+    void getConfigSummariesByEnvironment_Paged() {
+        // Given
+        ConfigSummary summary1 = summary(config1);
+        ConfigSummary summary2 = summary(config2);
+        when(configRepository.findSummariesByEnvironmentId(1L, 0L, Limit.of(2)))
+                .thenReturn(List.of(summary1, summary2));
+
+        // When
+        CursorPage<ConfigSummary> page = configService.getConfigSummariesByEnvironment(1L, null, 1);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(summary1);
+        assertThat(page.isHasNext()).isTrue();
+
+        when(configRepository.findSummariesByEnvironmentId(1L, 1L, Limit.of(2))).thenReturn(List.of(summary2));
+        CursorPage<ConfigSummary> next = configService.getConfigSummariesByEnvironment(1L, page.getNextCursor(), 1);
+        assertThat(next.getItems()).containsExactly(summary2);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("批量获取配置值 - 按请求顺序返回，忽略不存在的配置")
+    void getConfigValues_Success() {
+        // Given
+        ConfigRepository.ConfigValueView value1 = mock(ConfigRepository.ConfigValueView.class);
+        when(value1.getId()).thenReturn(1L);
+        when(value1.getConfigValue()).thenReturn("Easy-Config");
+        ConfigRepository.ConfigValueView value2 = mock(ConfigRepository.ConfigValueView.class);
+        when(value2.getId()).thenReturn(2L);
+        when(value2.getConfigValue()).thenReturn("secret123");
+        when(configRepository.findValuesByIdIn(List.of(2L, 99L, 1L))).thenReturn(List.of(value1, value2));
+
+        // When
+        Map<Long, String> values = configService.getConfigValues(List.of(2L, 99L, 1L));
+
+        // Then
+        assertThat(values).containsExactly(Map.entry(2L, "secret123"), Map.entry(1L, "Easy-Config"));
     }
 
     @Test
@@ -159,14 +494,33 @@ class ConfigServiceTest {
                 .build();
 
         when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
-        when(configRepository.findByEnvironmentIdAndConfigKey(1L, "app.name")).thenReturn(Optional.of(config1));
+        when(configRepository.save(any(Config.class))).thenThrow(uniqueViolation("UK_CONFIG_ENV_KEY"));
 
         // When & Then
         assertThatThrownBy(() -> configService.createConfig(newConfig))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("already exists");
+                .hasMessage("Config with key 'app.name' already exists in environment 'dev'");
 
-        verify(configRepository, never()).save(any(Config.class));
+        verify(configRepository, never()).findByEnvironmentIdAndConfigKey(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("创建配置 - 其他完整性约束冲突原样抛出")
+    void createConfig_OtherViolationRethrown() {
+        // Given
+        Config newConfig = Config.builder()
+                .environment(devEnv)
+                .configKey("app.name")
+                .configValue("New Value")
+                .build();
+        DataIntegrityViolationException violation = uniqueViolation("FK_CONFIG_ENVIRONMENT");
+
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.save(any(Config.class))).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> configService.createConfig(newConfig)).isSameAs(violation);
     }
 
     @Test
@@ -180,7 +534,6 @@ class ConfigServiceTest {
                 .build();
 
         when(environmentService.getEnvironmentById(2L)).thenReturn(testEnv);
-        when(configRepository.findByEnvironmentIdAndConfigKey(2L, "new.key")).thenReturn(Optional.empty());
         when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -205,7 +558,7 @@ class ConfigServiceTest {
                 .build();
 
         when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
-        when(configRepository.findByEnvironmentIdAndConfigKey(1L, "app.name.updated")).thenReturn(Optional.empty());
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
         when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -219,6 +572,7 @@ class ConfigServiceTest {
 
         verify(configRepository).findById(1L);
         verify(configRepository).save(any(Config.class));
+        verify(configRepository).flush();
     }
 
     @Test
@@ -250,14 +604,101 @@ class ConfigServiceTest {
                 .build();
 
         when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
-        when(configRepository.findByEnvironmentIdAndConfigKey(1L, "db.password")).thenReturn(Optional.of(config2));
+        when(environmentService.getEnvironmentById(1L)).thenReturn(devEnv);
+        when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(uniqueViolation("UK_CONFIG_ENV_KEY")).when(configRepository).flush();
 
         // When & Then
         assertThatThrownBy(() -> configService.updateConfig(1L, updateConfig))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("already exists");
+                .hasMessage("Config with key 'db.password' already exists in environment 'dev'");
+
+        verify(configRepository, never()).findByEnvironmentIdAndConfigKey(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("更新配置 - 键名和环境未变化时不查询环境")
+    void updateConfig_SameKeySkipsEnvironmentLookup() {
+        // Given
+        Config updateConfig = Config.builder()
+                .configValue("Updated Value")
+                .build();
+
+        when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
+        when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        configService.updateConfig(1L, updateConfig);
+
+        // Then
+        verify(configRepository).flush();
+        verify(environmentService, never()).getEnvironmentById(anyLong());
+    }
+
+    @Test
+    @DisplayName("更新配置 - 期望版本号一致")
+    void updateConfig_ExpectedVersionMatches() {
+        // Given
+        Config updateConfig = Config.builder()
+                .configValue("Updated Value")
+                .build();
+
+        when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
+        when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Config result = configService.updateConfig(1L, updateConfig, 1L);
+
+        // Then
+        assertThat(result.getConfigValue()).isEqualTo("Updated Value");
+        assertThat(result.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("更新配置 - 期望版本号已过期")
+    void updateConfig_ExpectedVersionStale() {
+        // Given
+        config1.setVersion(3L);
+        Config updateConfig = Config.builder()
+                .configValue("Updated Value")
+                .build();
+
+        when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
+
+        // When & Then
+        assertThatThrownBy(() -> configService.updateConfig(1L, updateConfig, 2L))
+                .isInstanceOfSatisfying(ConfigVersionConflictException.class, e -> {
+                    assertThat(e.getExpectedVersion()).isEqualTo(2L);
+                    assertThat(e.getCurrent().getVersion()).isEqualTo(3L);
+                    assertThat(e.getCurrent().getConfigValue()).isEqualTo("Easy-Config");
+                });
 
         verify(configRepository, never()).save(any(Config.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("更新配置 - 读取后被并发修改")
+    void updateConfig_ConcurrentModification() {
+        // Given
+        Config updateConfig = Config.builder()
+                .configValue("Updated Value")
+                .build();
+
+        when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
+        when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ObjectOptimisticLockingFailureException(Config.class, 1L)).when(configRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> configService.updateConfig(1L, updateConfig, 1L))
+                .isInstanceOfSatisfying(ConfigVersionConflictException.class, e -> {
+                    assertThat(e.getConfigId()).isEqualTo(1L);
+                    assertThat(e.getExpectedVersion()).isEqualTo(1L);
+                    assertThat(e.getCurrent()).isNull();
+                });
+
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -279,36 +720,54 @@ class ConfigServiceTest {
         // Then
         assertThat(result.getEnvironment()).isEqualTo(testEnv);
         verify(environmentService).getEnvironmentById(2L);
+
+        // 原环境收到删除事件，新环境收到更新事件
+        ArgumentCaptor<ConfigChangeEvent> events = ArgumentCaptor.forClass(ConfigChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(ConfigChangeEvent::getEnvironmentId)
+                .containsExactly(1L, 2L);
+        assertThat(events.getAllValues().get(0).getChanges().get(0).getOperation())
+                .isEqualTo(ConfigOperation.DELETE);
     }
 
     @Test
     @DisplayName("删除配置 - 成功")
     void deleteConfig_Success() {
         // Given
-        when(configRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(configRepository).deleteById(1L);
+        when(configRepository.findById(1L)).thenReturn(Optional.of(config1));
 
         // When
         configService.deleteConfig(1L);
 
         // Then
-        verify(configRepository).existsById(1L);
-        verify(configRepository).deleteById(1L);
+        verify(configRepository).findById(1L);
+        verify(configRepository).delete(config1);
+
+        ArgumentCaptor<ConfigChangeEvent> event = ArgumentCaptor.forClass(ConfigChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getEnvironmentId()).isEqualTo(1L);
+        assertThat(event.getValue().getChanges()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getConfigKey()).isEqualTo("app.name");
+                    assertThat(change.getOperation()).isEqualTo(ConfigOperation.DELETE);
+                });
     }
 
     @Test
     @DisplayName("删除配置 - 不存在")
     void deleteConfig_NotFound() {
         // Given
-        when(configRepository.existsById(999L)).thenReturn(false);
+        when(configRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> configService.deleteConfig(999L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("not found");
 
-        verify(configRepository).existsById(999L);
-        verify(configRepository, never()).deleteById(anyLong());
+        verify(configRepository).findById(999L);
+        verify(configRepository, never()).delete(any(Config.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -376,7 +835,7 @@ class ConfigServiceTest {
     @DisplayName("根据环境ID和配置键获取配置")
     void getConfigByKey() {
         // Given
-        when(configRepository.findByEnvironmentIdAndConfigKey(1L, "app.name")).thenReturn(Optional.of(config1));
+        when(configSnapshotCache.get(1L, "app.name")).thenReturn(Optional.of(config1));
 
         // When
         Config result = configService.getConfigByKey(1L, "app.name");
@@ -385,21 +844,53 @@ class ConfigServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getConfigKey()).isEqualTo("app.name");
 
-        verify(configRepository).findByEnvironmentIdAndConfigKey(1L, "app.name");
+        verify(configSnapshotCache).get(1L, "app.name");
+        verify(configRepository, never()).findByEnvironmentIdAndConfigKey(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("根据环境ID和配置键获取配置 - 不存在")
+    void getConfigByKey_NotFound() {
+        // Given
+        when(configSnapshotCache.get(1L, "nonexistent")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> configService.getConfigByKey(1L, "nonexistent"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    @DisplayName("获取环境启用配置快照")
+    void getEnabledConfigSnapshot() {
+        // Given
+        config2.setEnabled(false);
+        when(environmentService.getEnvironmentByName("dev")).thenReturn(devEnv);
+        when(revisionService.getRevision(1L)).thenReturn(7L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(Arrays.asList(config1, config2)));
+
+        // When
+        ConfigSnapshotResponse result = configService.getEnabledConfigSnapshot("dev", null);
+
+        // Then
+        assertThat(result.getEnvironmentId()).isEqualTo(1L);
+        assertThat(result.getRevision()).isEqualTo(7L);
+        assertThat(result.getConfigs()).containsOnlyKeys("app.name");
+        verify(configRepository, never()).findByEnvironmentIdAndEnabledTrue(anyLong());
     }
 
     @Test
     @DisplayName("获取所有配置")
     void getAllConfigs() {
         // Given
-        when(configRepository.findAll()).thenReturn(Arrays.asList(config1, config2));
+        when(configRepository.findAllWithEnvironment()).thenReturn(Arrays.asList(config1, config2));
 
         // When
         List<Config> result = configService.getAllConfigs();
 
         // Then
         assertThat(result).hasSize(2);
-        verify(configRepository).findAll();
+        verify(configRepository).findAllWithEnvironment();
     }
 
     @Test
@@ -430,6 +921,37 @@ class ConfigServiceTest {
         verify(configRepository).findByEnvironmentIdAndEnabledTrue(1L);
     }
 
+    @Test
+    @DisplayName("获取所有启用配置")
+    void getEnabledConfigs() {
+        // Given
+        when(configRepository.findWithEnvironmentByEnabledTrue()).thenReturn(Arrays.asList(config1, config2));
+
+        // When
+        List<Config> result = configService.getEnabledConfigs();
+
+        // Then
+        assertThat(result).hasSize(2);
+        verify(configRepository).findWithEnvironmentByEnabledTrue();
+    }
+
+    @Test
+    @DisplayName("批量组装配置详情 - 环境按 ID 一次性从环境缓存获取")
+    void toResponses_ResolvesEnvironmentsOnce() {
+        // Given
+        Config config3 = config1.toBuilder().id(3L).environment(testEnv).build();
+        when(environmentService.getEnvironmentsByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, devEnv, 2L, testEnv));
+
+        // When
+        List<ConfigResponse> result = configService.toResponses(List.of(config1, config2, config3));
+
+        // Then
+        assertThat(result).extracting(ConfigResponse::getId, ConfigResponse::getEnvironmentName)
+                .containsExactly(tuple(1L, "dev"), tuple(2L, "dev"), tuple(3L, "test"));
+        verify(environmentService, times(1)).getEnvironmentsByIds(any());
+        verify(environmentService, never()).getEnvironmentById(anyLong());
+    }
+
     @Test
     @DisplayName("获取所有加密配置")
     void getEncryptedConfigs() {
@@ -480,28 +1002,28 @@ class ConfigServiceTest {
     @DisplayName("根据分组查询配置")
     void getConfigsByGroup() {
         // Given
-        when(configRepository.findByGroupName("basic")).thenReturn(Arrays.asList(config1));
+        when(configRepository.findWithEnvironmentByGroupName("basic")).thenReturn(Arrays.asList(config1));
 
         // When
         List<Config> result = configService.getConfigsByGroup("basic");
 
         // Then
         assertThat(result).hasSize(1);
-        verify(configRepository).findByGroupName("basic");
+        verify(configRepository).findWithEnvironmentByGroupName("basic");
     }
 
     @Test
     @DisplayName("根据值类型查询配置")
     void getConfigsByType() {
         // Given
-        when(configRepository.findByValueType("STRING")).thenReturn(Arrays.asList(config1, config2));
+        when(configRepository.findWithEnvironmentByValueType("STRING")).thenReturn(Arrays.asList(config1, config2));
 
         // When
         List<Config> result = configService.getConfigsByType("STRING");
 
         // Then
         assertThat(result).hasSize(2);
-        verify(configRepository).findByValueType("STRING");
+        verify(configRepository).findWithEnvironmentByValueType("STRING");
     }
 
     @Test
@@ -662,4 +1184,40 @@ class ConfigServiceTest {
         assertThat(result).isTrue();
         verify(configRepository).existsById(1L);
     }
+
+    @Test
+    @DisplayName("全文搜索 - 使用默认条数查询索引")
+    void searchConfigs_DefaultLimit() {
+        // Given
+        ConfigSearchHit hit = new ConfigSearchHit(1L, 1L, "app.name", null, null, 80);
+        when(configSearchIndex.search("app", 1L, 100)).thenReturn(List.of(hit));
+
+        // When
+        List<ConfigSearchHit> result = configService.searchConfigs("app", 1L, null);
+
+        // Then
+        assertThat(result).containsExactly(hit);
+    }
+
+    @Test
+    @DisplayName("全文搜索 - 关键字为空")
+    void searchConfigs_BlankQuery() {
+        // When & Then
+        assertThatThrownBy(() -> configService.searchConfigs("  ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Search query is required");
+        verifyNoInteractions(configSearchIndex);
+    }
+
+    private static ConfigSummary summary(Config config) {
+        return new ConfigSummary(config.getId(), 1L, config.getConfigKey(), config.getValueType(),
+                config.getDescription(), config.getGroupName(), config.getEncrypted(), config.getEnabled(),
+                config.getVersion(), config.getUpdatedAt());
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        SQLException sqlException = new SQLException("Violation: " + constraintName, "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
 }
@@ -0,0 +1,166 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.dto.ConfigVersionResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigVersion;
+import com.easyconfig.server.entity.ConfigVersion.StorageType;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import com.easyconfig.server.repository.ConfigVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigVersionService 单元测试")
+class ConfigVersionServiceTest {
+
+    @Mock
+    private ConfigVersionRepository configVersionRepository;
+
+    @Mock
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @InjectMocks
+    private ConfigVersionService configVersionService;
+
+    private final Environment devEnv = Environment.builder().id(1L).name("dev").build();
+
+    private static final String LARGE_JSON = "{\"items\": [" + "\"item\", ".repeat(300) + "\"last\"]}";
+
+    @Test
+    @DisplayName("记录版本 - 新建配置保存完整值且不查询历史")
+    void recordVersions_Create() {
+        // When
+        configVersionService.recordVersions(5L, ConfigOperation.CREATE, List.of(config(LARGE_JSON, 1L)));
+
+        // Then
+        ConfigVersion version = captureSingleVersion();
+        assertThat(version.getStorageType()).isEqualTo(StorageType.FULL);
+        assertThat(version.getConfigValue()).isEqualTo(LARGE_JSON);
+        assertThat(version.getRevision()).isEqualTo(5L);
+        assertThat(version.getEnvironmentId()).isEqualTo(1L);
+        verifyNoInteractions(configVersionRepository);
+    }
+
+    @Test
+    @DisplayName("记录版本 - 较长的配置值保存相对快照的差异")
+    void recordVersions_Delta() {
+        // Given
+        ConfigVersion snapshot = ConfigVersion.builder().id(10L).configId(3L).configValue(LARGE_JSON).build();
+        when(configVersionRepository.findLatestByConfigIdIn(List.of(3L))).thenReturn(List.of(snapshot));
+        String edited = LARGE_JSON.replace("\"last\"", "\"changed\"");
+
+        // When
+        configVersionService.recordVersions(6L, ConfigOperation.UPDATE, List.of(config(edited, 2L)));
+
+        // Then
+        ConfigVersion version = captureSingleVersion();
+        assertThat(version.getStorageType()).isEqualTo(StorageType.DELTA);
+        assertThat(version.getBaseVersionId()).isEqualTo(10L);
+        assertThat(version.getChainIndex()).isEqualTo(1);
+        assertThat(version.getConfigValue().length()).isLessThan(50);
+        assertThat(ConfigValueDelta.apply(LARGE_JSON, version.getConfigValue())).isEqualTo(edited);
+    }
+
+    @Test
+    @DisplayName("记录版本 - 差异链达到快照间隔时保存完整快照")
+    void recordVersions_SnapshotInterval() {
+        // Given
+        ConfigVersion latest = ConfigVersion.builder()
+                .id(19L)
+                .configId(3L)
+                .configValue("0:0:")
+                .storageType(StorageType.DELTA)
+                .baseVersionId(10L)
+                .chainIndex(9)
+                .build();
+        when(configVersionRepository.findLatestByConfigIdIn(List.of(3L))).thenReturn(List.of(latest));
+
+        // When
+        configVersionService.recordVersions(7L, ConfigOperation.UPDATE, List.of(config(LARGE_JSON, 11L)));
+
+        // Then
+        ConfigVersion version = captureSingleVersion();
+        assertThat(version.getStorageType()).isEqualTo(StorageType.FULL);
+        assertThat(version.getChainIndex()).isZero();
+        verify(configVersionRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("记录版本 - 较短的配置值始终保存完整值")
+    void recordVersions_ShortValue() {
+        // Given
+        ConfigVersion snapshot = ConfigVersion.builder().id(10L).configId(3L).configValue("v1").build();
+        when(configVersionRepository.findLatestByConfigIdIn(List.of(3L))).thenReturn(List.of(snapshot));
+
+        // When
+        configVersionService.recordVersions(6L, ConfigOperation.UPDATE, List.of(config("v2", 2L)));
+
+        // Then
+        assertThat(captureSingleVersion().getStorageType()).isEqualTo(StorageType.FULL);
+    }
+
+    @Test
+    @DisplayName("查询历史版本 - 差异记录还原为完整值")
+    void getVersions_RestoreDelta() {
+        // Given
+        String edited = LARGE_JSON.replace("\"last\"", "\"changed\"");
+        ConfigVersion snapshot = ConfigVersion.builder()
+                .id(10L).configId(3L).version(1L).configValue(LARGE_JSON).build();
+        ConfigVersion delta = ConfigVersion.builder()
+                .id(11L)
+                .configId(3L)
+                .version(2L)
+                .configValue(ConfigValueDelta.encode(LARGE_JSON, edited))
+                .storageType(StorageType.DELTA)
+                .baseVersionId(10L)
+                .chainIndex(1)
+                .build();
+        when(configVersionRepository.findByConfigIdOrderByIdDesc(3L)).thenReturn(List.of(delta, snapshot));
+
+        // When
+        List<ConfigVersionResponse> versions = configVersionService.getVersions(3L);
+
+        // Then
+        assertThat(versions).extracting(ConfigVersionResponse::getConfigValue).containsExactly(edited, LARGE_JSON);
+    }
+
+    @Test
+    @DisplayName("差异编码 - 前后缀重叠时可正确还原")
+    void delta_RoundTrip() {
+        assertThat(ConfigValueDelta.apply("aaa", ConfigValueDelta.encode("aaa", "aaaa"))).isEqualTo("aaaa");
+        assertThat(ConfigValueDelta.apply("abcabc", ConfigValueDelta.encode("abcabc", "abc"))).isEqualTo("abc");
+        assertThat(ConfigValueDelta.apply("a:b", ConfigValueDelta.encode("a:b", "a:x:b"))).isEqualTo("a:x:b");
+        assertThat(ConfigValueDelta.encode("same", "same")).isEqualTo("4:0:");
+    }
+
+    private Config config(String value, long version) {
+        return Config.builder()
+                .id(3L)
+                .environment(devEnv)
+                .configKey("app.items")
+                .configValue(value)
+                .version(version)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConfigVersion captureSingleVersion() {
+        ArgumentCaptor<List<ConfigVersion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(configJdbcRepository).batchInsertVersions(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().get(0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.easyconfig.server.service;
 
 import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.event.EnvironmentChangedEvent;
+import com.easyconfig.server.event.EnvironmentDeletedEvent;
 import com.easyconfig.server.repository.EnvironmentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,12 +11,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +33,12 @@ class EnvironmentServiceTest {
     @Mock
     private EnvironmentRepository environmentRepository;
 
+    @Mock
+    private EnvironmentSnapshotService environmentSnapshotService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EnvironmentService environmentService;
 
@@ -85,6 +96,7 @@ class EnvironmentServiceTest {
 
         verify(environmentRepository).findByName("prod");
         verify(environmentRepository).save(any(Environment.class));
+        verify(environmentSnapshotService).createBaseline(3L);
     }
 
     @Test
@@ -213,6 +225,7 @@ class EnvironmentServiceTest {
         // Then
         verify(environmentRepository).existsById(1L);
         verify(environmentRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new EnvironmentDeletedEvent(1L));
     }
 
     @Test
@@ -228,6 +241,7 @@ class EnvironmentServiceTest {
 
         verify(environmentRepository).existsById(999L);
         verify(environmentRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -275,6 +289,70 @@ class EnvironmentServiceTest {
         verify(environmentRepository).findByName("dev");
     }
 
+    @Test
+    @DisplayName("按 ID、名称获取环境 - 第二次命中缓存")
+    void getEnvironment_CachedAfterFirstLoad() {
+        // Given
+        when(environmentRepository.findById(1L)).thenReturn(Optional.of(devEnv));
+
+        // When
+        Environment first = environmentService.getEnvironmentById(1L);
+        Environment second = environmentService.getEnvironmentById(1L);
+        Environment byName = environmentService.getEnvironmentByName("dev");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(byName).isSameAs(first);
+        // 缓存的是副本，不是持久化上下文中的实体
+        assertThat(first).isNotSameAs(devEnv);
+        verify(environmentRepository, times(1)).findById(1L);
+        verify(environmentRepository, never()).findByName(any());
+        assertThat(environmentService.getCacheStats().getHits()).isEqualTo(2);
+        assertThat(environmentService.getCacheStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("按一组 ID 获取环境 - 未命中的环境合并为一条查询")
+    void getEnvironmentsByIds_LoadsMissesTogether() {
+        // Given
+        when(environmentRepository.findById(1L)).thenReturn(Optional.of(devEnv));
+        Environment cached = environmentService.getEnvironmentById(1L);
+        when(environmentRepository.findAllById(Set.of(2L, 999L))).thenReturn(List.of(testEnv));
+
+        // When
+        Map<Long, Environment> result = environmentService.getEnvironmentsByIds(List.of(1L, 2L, 999L, 2L));
+
+        // Then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(1L)).isSameAs(cached);
+        assertThat(result.get(2L).getName()).isEqualTo("test");
+        verify(environmentRepository, times(1)).findAllById(any());
+        assertThat(environmentService.getEnvironmentById(2L)).isSameAs(result.get(2L));
+    }
+
+    @Test
+    @DisplayName("更新环境 - 提交后清空缓存，重新读取新名称")
+    void updateEnvironment_InvalidatesCache() {
+        // Given
+        when(environmentRepository.findByName("dev")).thenReturn(Optional.of(devEnv));
+        environmentService.getEnvironmentByName("dev");
+        when(environmentRepository.findById(1L)).thenReturn(Optional.of(devEnv));
+        when(environmentRepository.findByName("dev-updated")).thenReturn(Optional.empty());
+        when(environmentRepository.save(any(Environment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Environment updateEnv = Environment.builder().name("dev-updated").build();
+
+        // When
+        environmentService.updateEnvironment(1L, updateEnv);
+        environmentService.onEnvironmentChanged(new EnvironmentChangedEvent(1L));
+
+        // Then
+        verify(eventPublisher).publishEvent(new EnvironmentChangedEvent(1L));
+        assertThat(environmentService.getCacheStats().getSize()).isZero();
+        when(environmentRepository.findByName("dev")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> environmentService.getEnvironmentByName("dev"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @Test
     @DisplayName("获取所有环境")
     void getAllEnvironments() {
@@ -0,0 +1,226 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.dto.ConfigAsOfResponse;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.entity.ConfigVersion;
+import com.easyconfig.server.entity.ConfigVersion.StorageType;
+import com.easyconfig.server.entity.Environment;
+import com.easyconfig.server.entity.EnvironmentSnapshot;
+import com.easyconfig.server.event.ConfigOperation;
+import com.easyconfig.server.repository.ConfigJdbcRepository;
+import com.easyconfig.server.repository.ConfigRepository;
+import com.easyconfig.server.repository.EnvironmentRepository;
+import com.easyconfig.server.repository.EnvironmentSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({EnvironmentSnapshotService.class, ConfigJdbcRepository.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("EnvironmentSnapshotService 集成测试")
+class EnvironmentSnapshotServiceTest {
+
+    @Autowired
+    private EnvironmentSnapshotService environmentSnapshotService;
+
+    @Autowired
+    private EnvironmentSnapshotRepository environmentSnapshotRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ConfigJdbcRepository configJdbcRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Environment env;
+
+    private final List<ConfigVersion> history = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        env = environmentRepository.save(Environment.builder().name("as-of").build());
+        environmentSnapshotService.createBaseline(env.getId());
+    }
+
+    @Test
+    @DisplayName("按修订号读取 - 从基线快照回放创建、更新、禁用和删除")
+    void asOfRevision_Replay() {
+        // Given
+        change(1, version(1L, "app.name", "v1", true, ConfigOperation.CREATE));
+        change(2, version(2L, "app.port", "8080", true, ConfigOperation.CREATE));
+        change(3, version(1L, "app.name", "v2", true, ConfigOperation.UPDATE));
+        change(4, version(2L, "app.port", "8080", false, ConfigOperation.DISABLE));
+        change(5, version(1L, "app.name", "v2", true, ConfigOperation.DELETE));
+
+        // When / Then
+        assertThat(asOf(1)).containsExactly(Map.entry("app.name", "v1"));
+        assertThat(asOf(2)).containsExactly(Map.entry("app.name", "v1"), Map.entry("app.port", "8080"));
+        assertThat(asOf(3)).containsExactly(Map.entry("app.name", "v2"), Map.entry("app.port", "8080"));
+        assertThat(asOf(4)).containsExactly(Map.entry("app.name", "v2"));
+        assertThat(asOf(5)).isEmpty();
+        assertThat(asOf(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("按修订号读取 - 还原以差异形式保存的配置值")
+    void asOfRevision_DeltaValue() {
+        // Given
+        String base = "x".repeat(100) + "old" + "y".repeat(100);
+        String edited = base.replace("old", "new");
+        change(1, version(1L, "app.json", base, true, ConfigOperation.CREATE));
+        ConfigVersion snapshot = history.get(0);
+        ConfigVersion delta = version(1L, "app.json", ConfigValueDelta.encode(base, edited), true,
+                ConfigOperation.UPDATE);
+        delta.setStorageType(StorageType.DELTA);
+        delta.setBaseVersionId(findVersionId(snapshot));
+        delta.setChainIndex(1);
+        change(2, delta);
+
+        // When
+        ConfigAsOfResponse response = environmentSnapshotService.getConfigsAsOfRevision(env.getId(), 2);
+
+        // Then
+        assertThat(response.getConfigs()).containsEntry("app.json", edited);
+        assertThat(response.getReplayedVersions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("物化快照 - 之后的读取从新快照开始回放")
+    void materialize_NewSnapshot() {
+        // Given
+        ReflectionTestUtils.setField(environmentSnapshotService, "snapshotInterval", 2L);
+        change(1, version(1L, "app.name", "v1", true, ConfigOperation.CREATE));
+        change(2, version(1L, "app.name", "v2", true, ConfigOperation.UPDATE));
+
+        // When
+        environmentSnapshotService.materialize(env.getId());
+        change(3, version(1L, "app.name", "v3", true, ConfigOperation.UPDATE));
+
+        // Then
+        EnvironmentSnapshot latest = environmentSnapshotRepository
+                .findTopByEnvironmentIdOrderByRevisionDesc(env.getId()).orElseThrow();
+        assertThat(latest.getRevision()).isEqualTo(2L);
+        assertThat(latest.getBaseline()).isFalse();
+        ConfigAsOfResponse response = environmentSnapshotService.getConfigsAsOfRevision(env.getId(), 3);
+        assertThat(response.getSnapshotRevision()).isEqualTo(2L);
+        assertThat(response.getReplayedVersions()).isEqualTo(1);
+        assertThat(response.getConfigs()).containsExactly(Map.entry("app.name", "v3"));
+    }
+
+    @Test
+    @DisplayName("按修订号读取 - 已有环境的基线之前的历史不可读取")
+    void asOfRevision_BeforeBaseline() {
+        // Given
+        Environment legacy = environmentRepository.save(Environment.builder().name("legacy").build());
+        configRepository.save(Config.builder().environment(legacy).configKey("app.name").configValue("v1").build());
+        environmentRepository.incrementRevision(legacy.getId());
+        environmentRepository.incrementRevision(legacy.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ConfigAsOfResponse response = environmentSnapshotService.getConfigsAsOfRevision(legacy.getId(), 2);
+
+        // Then
+        assertThat(response.getConfigs()).containsExactly(Map.entry("app.name", "v1"));
+        assertThatThrownBy(() -> environmentSnapshotService.getConfigsAsOfRevision(legacy.getId(), 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not available");
+    }
+
+    @Test
+    @DisplayName("生成基线 - 加锁后发现已有快照时直接返回，不重复生成")
+    void createBaseline_ExistingSnapshotReused() {
+        // Given
+        EnvironmentSnapshot baseline = environmentSnapshotRepository.findTopByEnvironmentIdOrderByRevisionDesc(
+                env.getId()).orElseThrow();
+        configRepository.save(Config.builder().environment(env).configKey("app.name").configValue("v1").build());
+        entityManager.flush();
+
+        // When
+        EnvironmentSnapshot result = environmentSnapshotService.createBaseline(env.getId());
+
+        // Then
+        assertThat(result.getId()).isEqualTo(baseline.getId());
+        assertThat(environmentSnapshotRepository.findAll())
+                .filteredOn(snapshot -> snapshot.getEnvironmentId().equals(env.getId()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("按时间点读取 - 取该时间点之前的最后一次变更")
+    void asOfTime() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        ConfigVersion first = version(1L, "app.name", "v1", true, ConfigOperation.CREATE);
+        first.setCreatedAt(now.minusHours(2));
+        change(1, first);
+        ConfigVersion second = version(1L, "app.name", "v2", true, ConfigOperation.UPDATE);
+        second.setCreatedAt(now.minusHours(1));
+        change(2, second);
+
+        // When
+        ConfigAsOfResponse response = environmentSnapshotService.getConfigsAsOfTime(env.getId(),
+                now.minusMinutes(90));
+
+        // Then
+        assertThat(response.getRevision()).isEqualTo(1L);
+        assertThat(response.getConfigs()).containsExactly(Map.entry("app.name", "v1"));
+    }
+
+    private Map<String, String> asOf(long revision) {
+        return environmentSnapshotService.getConfigsAsOfRevision(env.getId(), revision).getConfigs();
+    }
+
+    private void change(long revision, ConfigVersion version) {
+        environmentRepository.incrementRevision(env.getId());
+        version.setRevision(revision);
+        configJdbcRepository.batchInsertVersions(List.of(version));
+        history.add(version);
+        entityManager.clear();
+    }
+
+    private Long findVersionId(ConfigVersion version) {
+        return entityManager.createQuery("SELECT v.id FROM ConfigVersion v WHERE v.environmentId = :env "
+                        + "AND v.revision = :revision", Long.class)
+                .setParameter("env", env.getId())
+                .setParameter("revision", version.getRevision())
+                .getSingleResult();
+    }
+
+    private ConfigVersion version(Long configId, String key, String value, boolean enabled,
+            ConfigOperation operation) {
+        return ConfigVersion.builder()
+                .configId(configId)
+                .environmentId(env.getId())
+                .version(1L)
+                .configKey(key)
+                .configValue(value)
+                .enabled(enabled)
+                .operation(operation)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
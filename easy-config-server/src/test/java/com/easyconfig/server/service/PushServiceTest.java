@@ -0,0 +1,203 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushService 单元测试")
+class PushServiceTest {
+
+    @Mock
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PushService pushService;
+
+    @Mock
+    private WebSocketSession envSession;
+
+    @Mock
+    private WebSocketSession groupSession;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pushService, "coalesceWindow", 60_000L);
+        pushService.start();
+        // 测试中同步发送，便于断言
+        ReflectionTestUtils.setField(pushService, "sendExecutor", (Executor) Runnable::run);
+
+        when(envSession.getId()).thenReturn("env-session");
+        when(groupSession.getId()).thenReturn("group-session");
+        pushService.subscribe(envSession, 1L, null, null);
+        pushService.subscribe(groupSession, 1L, "database", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushService.stop();
+    }
+
+    @Test
+    @DisplayName("合并窗口内同一配置键的多次变更只推送最终值")
+    void flush_CoalescesUpdatesOfSameKey() throws Exception {
+        // Given
+        Config latest = Config.builder().id(1L).configKey("app.name").configValue("v3")
+                .groupName("basic").version(3L).enabled(true).build();
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of(latest)));
+
+        pushService.onConfigChange(event(5L, "app.name", "basic", 1L));
+        pushService.onConfigChange(event(6L, "app.name", "basic", 2L));
+        pushService.onConfigChange(event(7L, "app.name", "basic", 3L));
+
+        // When
+        pushService.flush(1L);
+
+        // Then
+        ArgumentCaptor<TextMessage> message = ArgumentCaptor.forClass(TextMessage.class);
+        verify(envSession, times(1)).sendMessage(message.capture());
+        assertThat(message.getValue().getPayload())
+                .contains("\"revision\":7")
+                .contains("\"value\":\"v3\"")
+                .doesNotContain("v1");
+        // 分组订阅者只接收自己分组的变更
+        verify(groupSession, never()).sendMessage(any());
+        assertThat(meterRegistry.get("easyconfig.push.fanout").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("easyconfig.push.delivery").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("已删除的配置推送删除标记")
+    void flush_DeletedKeyPushedAsTombstone() throws Exception {
+        // Given
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of()));
+        ConfigChange change = ConfigChange.builder()
+                .configKey("db.url")
+                .groupName("database")
+                .operation(ConfigOperation.DELETE)
+                .build();
+        pushService.onConfigChange(new ConfigChangeEvent(1L, 8L, List.of(change)));
+
+        // When
+        pushService.flush(1L);
+
+        // Then
+        ArgumentCaptor<TextMessage> message = ArgumentCaptor.forClass(TextMessage.class);
+        verify(groupSession).sendMessage(message.capture());
+        assertThat(message.getValue().getPayload()).contains("\"key\":\"db.url\"").contains("\"deleted\":true");
+        verify(envSession).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("发送失败的会话被移除，不影响其他订阅者")
+    void flush_BrokenSessionIsRemoved() throws Exception {
+        // Given
+        Config config = Config.builder().id(2L).configKey("db.url").configValue("jdbc:h2:mem")
+                .groupName("database").version(1L).enabled(true).build();
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of(config)));
+        doThrow(new java.io.IOException("broken pipe")).when(envSession).sendMessage(any());
+        pushService.onConfigChange(event(9L, "db.url", "database", 1L));
+
+        // When
+        pushService.flush(1L);
+
+        // Then
+        verify(groupSession).sendMessage(any());
+        assertThat(pushService.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("easyconfig.push.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("easyconfig.push.delivery").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("订阅时把底层阻塞发送超时设为发送时间限制，卡住的写入不会长时间占用发送线程")
+    void subscribe_LimitsBlockingSend() {
+        // Given
+        NativeWebSocketSession session = mock(NativeWebSocketSession.class);
+        Session nativeSession = mock(Session.class);
+        Map<String, Object> userProperties = new HashMap<>();
+        when(session.getId()).thenReturn("slow-session");
+        when(session.getNativeSession(Session.class)).thenReturn(nativeSession);
+        when(nativeSession.getUserProperties()).thenReturn(userProperties);
+
+        // When
+        pushService.subscribe(session, 1L, null, null);
+
+        // Then
+        assertThat(userProperties).containsEntry("org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT", 5000L);
+    }
+
+    @Test
+    @DisplayName("按命名空间订阅时只推送该命名空间下的变更")
+    void flush_NamespaceSubscriberReceivesSubtreeOnly() throws Exception {
+        // Given
+        WebSocketSession namespaceSession = mock(WebSocketSession.class);
+        when(namespaceSession.getId()).thenReturn("namespace-session");
+        pushService.subscribe(namespaceSession, 1L, null, "payment.gateway.*");
+        Config gateway = Config.builder().id(3L).configKey("payment.gateway.url").configValue("https://pay")
+                .version(1L).enabled(true).build();
+        Config other = Config.builder().id(4L).configKey("payment.gateways").configValue("2")
+                .version(1L).enabled(true).build();
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of(gateway, other)));
+        pushService.onConfigChange(event(10L, "payment.gateway.url", null, 1L));
+        pushService.onConfigChange(event(11L, "payment.gateways", null, 1L));
+
+        // When
+        pushService.flush(1L);
+
+        // Then
+        ArgumentCaptor<TextMessage> message = ArgumentCaptor.forClass(TextMessage.class);
+        verify(namespaceSession).sendMessage(message.capture());
+        assertThat(message.getValue().getPayload())
+                .contains("\"key\":\"payment.gateway.url\"")
+                .doesNotContain("payment.gateways");
+        verify(envSession).sendMessage(any());
+        verify(groupSession, never()).sendMessage(any());
+    }
+
+    private ConfigChangeEvent event(long revision, String key, String groupName, Long version) {
+        ConfigChange change = ConfigChange.builder()
+                .configKey(key)
+                .groupName(groupName)
+                .operation(ConfigOperation.UPDATE)
+                .version(version)
+                .enabled(true)
+                .build();
+        return new ConfigChangeEvent(1L, revision, List.of(change));
+    }
+}
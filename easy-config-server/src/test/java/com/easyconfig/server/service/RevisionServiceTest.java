@@ -0,0 +1,88 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.repository.EnvironmentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevisionService 单元测试")
+class RevisionServiceTest {
+
+    @Mock
+    private EnvironmentRepository environmentRepository;
+
+    @InjectMocks
+    private RevisionService revisionService;
+
+    @Test
+    @DisplayName("递增修订号 - 成功")
+    void nextRevision_Success() {
+        // Given
+        when(environmentRepository.incrementRevision(1L)).thenReturn(1);
+        when(environmentRepository.findRevisionById(1L)).thenReturn(Optional.of(6L));
+
+        // When
+        long revision = revisionService.nextRevision(1L);
+
+        // Then
+        assertThat(revision).isEqualTo(6L);
+        verify(environmentRepository).incrementRevision(1L);
+    }
+
+    @Test
+    @DisplayName("递增修订号 - 环境不存在")
+    void nextRevision_NotFound() {
+        // Given
+        when(environmentRepository.incrementRevision(999L)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> revisionService.nextRevision(999L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    @DisplayName("查询修订号 - 只在首次查询时访问数据库")
+    void getRevision_LoadsOnce() {
+        // Given
+        when(environmentRepository.findRevisionById(1L)).thenReturn(Optional.of(3L));
+
+        // When
+        long first = revisionService.getRevision(1L);
+        long second = revisionService.getRevision(1L);
+
+        // Then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        verify(environmentRepository, times(1)).findRevisionById(1L);
+    }
+
+    @Test
+    @DisplayName("事务提交后内存修订号单调递增")
+    void onConfigChange_KeepsMaxRevision() {
+        // Given
+        when(environmentRepository.findRevisionById(1L)).thenReturn(Optional.of(3L));
+        revisionService.getRevision(1L);
+
+        // When
+        revisionService.onConfigChange(new ConfigChangeEvent(1L, 5L, List.of()));
+        revisionService.onConfigChange(new ConfigChangeEvent(1L, 4L, List.of()));
+
+        // Then
+        assertThat(revisionService.getRevision(1L)).isEqualTo(5L);
+        verify(environmentRepository, times(1)).findRevisionById(1L);
+    }
+}
@@ -0,0 +1,175 @@
+package com.easyconfig.server.service;
+
+import com.easyconfig.server.cache.ConfigSnapshot;
+import com.easyconfig.server.cache.ConfigSnapshotCache;
+import com.easyconfig.server.dto.WatchRequest;
+import com.easyconfig.server.dto.WatchResult;
+import com.easyconfig.server.entity.Config;
+import com.easyconfig.server.event.ConfigChange;
+import com.easyconfig.server.event.ConfigChangeEvent;
+import com.easyconfig.server.event.ConfigOperation;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WatchService 单元测试")
+class WatchServiceTest {
+
+    @Mock
+    private RevisionService revisionService;
+
+    @Mock
+    private ConfigSnapshotCache configSnapshotCache;
+
+    @InjectMocks
+    private WatchService watchService;
+
+    @Test
+    @DisplayName("修订号已过期时立即返回")
+    void watch_StaleRevision_CompletesImmediately() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+
+        // When
+        DeferredResult<ResponseEntity<WatchResult>> result = watchService.watch(
+                WatchRequest.builder().environmentId(1L).revision(3L).build());
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getRevision()).isEqualTo(5L);
+        assertThat(watchService.getWatcherCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("修订号未变化时挂起，提交变更后唤醒")
+    void watch_CurrentRevision_ParksUntilChange() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+        DeferredResult<ResponseEntity<WatchResult>> result = watchService.watch(
+                WatchRequest.builder().environmentId(1L).revision(5L).build());
+        assertThat(result.hasResult()).isFalse();
+        assertThat(watchService.getWatcherCount()).isEqualTo(1);
+
+        // When
+        watchService.onConfigChange(event(2L, 6L, "app.name", 2L));
+        assertThat(result.hasResult()).isFalse();
+        watchService.onConfigChange(event(1L, 6L, "app.name", 2L));
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getRevision()).isEqualTo(6L);
+        assertThat(body(result).getChangedKeys()).containsExactly("app.name");
+        assertThat(watchService.getWatcherCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("按配置键监听时只关心指定键的版本变化")
+    void watch_ByKeys_OnlyRelevantKeysWake() {
+        // Given
+        Config config = Config.builder().id(1L).configKey("app.name").version(2L).enabled(true).build();
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of(config)));
+        DeferredResult<ResponseEntity<WatchResult>> result = watchService.watch(
+                WatchRequest.builder().environmentId(1L).keys(Map.of("app.name", 2L)).build());
+        assertThat(result.hasResult()).isFalse();
+
+        // When
+        watchService.onConfigChange(event(1L, 6L, "app.version", 1L));
+        assertThat(result.hasResult()).isFalse();
+        watchService.onConfigChange(event(1L, 7L, "app.name", 3L));
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getChangedKeys()).containsExactly("app.name");
+    }
+
+    @Test
+    @DisplayName("按配置键监听时已知版本落后则立即返回")
+    void watch_ByKeys_StaleVersion_CompletesImmediately() {
+        // Given
+        Config config = Config.builder().id(1L).configKey("app.name").version(3L).enabled(true).build();
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+        when(configSnapshotCache.getSnapshot(1L)).thenReturn(ConfigSnapshot.of(List.of(config)));
+
+        // When
+        DeferredResult<ResponseEntity<WatchResult>> result = watchService.watch(
+                WatchRequest.builder().environmentId(1L).keys(Map.of("app.name", 2L)).build());
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getChangedKeys()).containsExactly("app.name");
+    }
+
+    @Test
+    @DisplayName("按命名空间监听时，命名空间之外的变更不唤醒")
+    void watch_Namespace_OnlyNamespaceChangesWake() {
+        // Given
+        when(revisionService.getRevision(1L)).thenReturn(5L);
+        DeferredResult<ResponseEntity<WatchResult>> result = watchService.watch(
+                WatchRequest.builder().environmentId(1L).revision(5L).namespace("db.pool.*").build());
+
+        // When
+        watchService.onConfigChange(event(1L, 6L, "db.pooling", 2L));
+        assertThat(result.hasResult()).isFalse();
+        watchService.onConfigChange(event(1L, 7L, "db.pool.size", 2L));
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getRevision()).isEqualTo(7L);
+        assertThat(body(result).getChangedKeys()).containsExactly("db.pool.size");
+    }
+
+    @Test
+    @DisplayName("环境不存在 - 抛出异常且不残留监听请求")
+    void watch_EnvironmentNotFound_NoWatcherLeft() {
+        // Given
+        when(revisionService.getRevision(999L)).thenThrow(new EntityNotFoundException("not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> watchService.watch(WatchRequest.builder().environmentId(999L).revision(1L).build()))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(watchService.getWatcherCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("超时时间不是正数 - 拒绝挂起")
+    void watch_NonPositiveTimeout_Rejected() {
+        // When & Then
+        assertThatThrownBy(() -> watchService.watch(WatchRequest.builder().environmentId(1L).timeout(0L).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Timeout must be positive");
+        assertThatThrownBy(() -> watchService.watch(WatchRequest.builder().environmentId(1L).timeout(-1L).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(watchService.getWatcherCount()).isZero();
+        verifyNoInteractions(revisionService);
+    }
+
+    private ConfigChangeEvent event(Long environmentId, long revision, String key, Long version) {
+        ConfigChange change = ConfigChange.builder()
+                .configKey(key)
+                .operation(ConfigOperation.UPDATE)
+                .version(version)
+                .enabled(true)
+                .build();
+        return new ConfigChangeEvent(environmentId, revision, List.of(change));
+    }
+
+    @SuppressWarnings("unchecked")
+    private WatchResult body(DeferredResult<ResponseEntity<WatchResult>> result) {
+        return ((ResponseEntity<WatchResult>) result.getResult()).getBody();
+    }
+}